@@ -0,0 +1,103 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.util.EpochMillis;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromotionEngineBenchmark {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+	private static final int CATALOG_SIZE = 100_000;
+	private static final int NONE_PROMOTION_INTERVAL = 4;
+	private static final int MAX_PURCHASED_QUANTITY = 12;
+
+	@Param({"16", "1000", "10000"})
+	public int lineCount;
+
+	private Stocks stocks;
+	private PromotionEngine promotionEngine;
+	private int[] productIds;
+	private int[] quantities;
+	private long now;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		LocalDateTime yearStart = LocalDateTime.of(2024, 1, 1, 0, 0);
+		LocalDateTime yearEnd = LocalDateTime.of(2025, 1, 1, 0, 0);
+		Promotion[] promotions = {
+			Promotion.create(0, "탄산2+1", 2, 1, yearStart, yearEnd),
+			Promotion.create(1, "MD추천상품", 1, 1, yearStart, yearEnd),
+			Promotion.create(2, "반짝할인", 1, 1, LocalDateTime.of(2024, 11, 1, 0, 0), yearEnd)
+		};
+		Map<String, Promotion> promotionMap = new LinkedHashMap<>();
+		for (Promotion promotion : promotions) {
+			promotionMap.put(promotion.getName(), promotion);
+		}
+
+		SplittableRandom random = new SplittableRandom(42);
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		for (int index = 0; index < CATALOG_SIZE; index++) {
+			Promotion promotion = promotions[index % promotions.length];
+			if (index % NONE_PROMOTION_INTERVAL == NONE_PROMOTION_INTERVAL - 1) {
+				promotion = Promotion.getNoneInstance();
+			}
+
+			Stock stock = Stock.from(Product.create(index, "상품" + index, 1000, promotion));
+			stock.incrementGeneralQuantity(1_000);
+			if (promotion.isPromotion()) {
+				stock.incrementPromotionQuantity(1 + random.nextInt(MAX_PURCHASED_QUANTITY * 2));
+			}
+			stockMap.put(stock.getProduct().getName(), stock);
+		}
+		stocks = Stocks.from(stockMap, PromotionSchedule.from(Promotions.from(promotionMap)));
+
+		productIds = new int[lineCount];
+		quantities = new int[lineCount];
+		for (int line = 0; line < lineCount; line++) {
+			productIds[line] = random.nextInt(CATALOG_SIZE);
+			quantities[line] = 1 + random.nextInt(MAX_PURCHASED_QUANTITY);
+		}
+		promotionEngine = PromotionEngine.of(lineCount);
+		now = EpochMillis.of(NOW);
+	}
+
+	@Benchmark
+	public int evaluatePerLine() {
+		ActivePromotions activePromotions = stocks.activePromotionsAt(now);
+		int freeQuantity = 0;
+		for (int line = 0; line < lineCount; line++) {
+			freeQuantity += stocks.calculatePromotion(productIds[line], quantities[line], activePromotions)
+				.getFreeQuantity();
+		}
+		return freeQuantity;
+	}
+
+	@Benchmark
+	public int[] evaluateBulk() {
+		promotionEngine.evaluate(stocks, productIds, quantities, now);
+		return promotionEngine.getFreeQuantities();
+	}
+}
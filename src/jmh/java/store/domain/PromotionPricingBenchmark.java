@@ -0,0 +1,169 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PromotionPricingBenchmark {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+	private static final int PROMOTION_QUANTITY = 500;
+	private static final int GENERAL_QUANTITY = 10_000;
+	private static final int NONE_PROMOTION_INTERVAL = 4;
+	private static final int RECEIPT_LINES = 8;
+	private static final int RECEIPT_POOL_SIZE = 256;
+
+	@Param({"2", "7", "1000"})
+	public int purchasedQuantity;
+
+	@Param({"16", "100000"})
+	public int catalogSize;
+
+	private Promotion promotion;
+	private Stock promotionStock;
+	private Stocks stocks;
+	private String[] productNames;
+	private Receipts[] receipts;
+	private int productCursor;
+	private int receiptCursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		promotion = Promotion.of("탄산2+1", 2, 1,
+			LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2025, 1, 1, 0, 0)
+		);
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		for (int index = 0; index < catalogSize; index++) {
+			Stock stock = createStock("상품" + index, index);
+			stockMap.put(stock.getProduct().getName(), stock);
+		}
+
+		stocks = Stocks.from(stockMap);
+		promotionStock = stockMap.values().iterator().next();
+		productNames = stockMap.keySet().toArray(String[]::new);
+		receipts = createReceipts(stockMap.values().stream().toList());
+	}
+
+	private Stock createStock(String productName, int index) {
+		Promotion productPromotion = promotion;
+		if (index % NONE_PROMOTION_INTERVAL == NONE_PROMOTION_INTERVAL - 1) {
+			productPromotion = Promotion.getNoneInstance();
+		}
+
+		Stock stock = Stock.from(Product.create(productName, 1000 + index % 50 * 100, productPromotion));
+		if (productPromotion.isPromotion()) {
+			stock.incrementPromotionQuantity(PROMOTION_QUANTITY);
+		}
+		stock.incrementGeneralQuantity(GENERAL_QUANTITY);
+		return stock;
+	}
+
+	private Receipts[] createReceipts(List<Stock> stockList) {
+		Receipts[] receiptPool = new Receipts[RECEIPT_POOL_SIZE];
+
+		for (int index = 0; index < RECEIPT_POOL_SIZE; index++) {
+			List<Receipt> lines = new ArrayList<>(RECEIPT_LINES);
+			for (int line = 0; line < RECEIPT_LINES; line++) {
+				Stock stock = stockList.get((index * RECEIPT_LINES + line) % stockList.size());
+				PromotionResult promotionResult = stocks.calculatePromotion(stock.getProduct().getName(),
+					purchasedQuantity, NOW);
+				lines.add(Receipt.of(stock.getProduct(), purchasedQuantity, promotionResult.getFreeQuantity()));
+			}
+			receiptPool[index] = Receipts.from(lines, MemberShip.of(index % 2 == 0));
+		}
+		return receiptPool;
+	}
+
+	private String nextProductName() {
+		productCursor++;
+		if (productCursor == productNames.length) {
+			productCursor = 0;
+		}
+		return productNames[productCursor];
+	}
+
+	private Receipts nextReceipts() {
+		receiptCursor = (receiptCursor + 1) & (RECEIPT_POOL_SIZE - 1);
+		return receipts[receiptCursor];
+	}
+
+	@Benchmark
+	public int promotionCalculateFreeQuantity() {
+		return promotion.calculateFreeQuantity(purchasedQuantity);
+	}
+
+	@Benchmark
+	public int promotionCalculateRestQuantity() {
+		return promotion.calculateRestQuantity(purchasedQuantity);
+	}
+
+	@Benchmark
+	public int promotionCalculateExtraQuantity() {
+		return promotion.calculateExtraQuantity(purchasedQuantity);
+	}
+
+	@Benchmark
+	public PromotionResult stockCalculatePromotion() {
+		return promotionStock.calculatePromotion(purchasedQuantity, NOW);
+	}
+
+	@Benchmark
+	public PromotionResult stocksCalculatePromotion() {
+		return stocks.calculatePromotion(nextProductName(), purchasedQuantity, NOW);
+	}
+
+	@Benchmark
+	public PromotionResult stocksCalculatePromotionById() {
+		nextProductName();
+		return stocks.calculatePromotion(productCursor, purchasedQuantity, NOW);
+	}
+
+	@Benchmark
+	public long receiptsCalculateTotalQuantity() {
+		return nextReceipts().calculateTotalQuantity();
+	}
+
+	@Benchmark
+	public long receiptsCalculateTotalPrice() {
+		return nextReceipts().calculateTotalPrice();
+	}
+
+	@Benchmark
+	public long receiptsCalculateTotalPromotionDiscount() {
+		return nextReceipts().calculateTotalPromotionDiscount();
+	}
+
+	@Benchmark
+	public long receiptsCalculateMemberShipDiscount() {
+		return nextReceipts().calculateMemberShipDiscount();
+	}
+
+	@Benchmark
+	public long receiptsCalculateTotalPayment() {
+		return nextReceipts().calculateTotalPayment();
+	}
+}
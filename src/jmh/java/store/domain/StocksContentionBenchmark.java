@@ -0,0 +1,119 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StocksContentionBenchmark {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+	private static final int INITIAL_QUANTITY = 1_000_000_000;
+	private static final int RECEIPT_POOL_SIZE = 1024;
+
+	@State(Scope.Benchmark)
+	public static class SharedStocks {
+
+		@Param({"4", "1024"})
+		public int productCount;
+
+		@Param({"1", "3"})
+		public int linesPerOrder;
+
+		public Stocks stocks;
+		public List<Product> products;
+
+		@Setup(Level.Iteration)
+		public void setUp() {
+			Promotion promotion = Promotion.of("탄산2+1", 2, 1,
+				LocalDateTime.of(2024, 1, 1, 0, 0),
+				LocalDateTime.of(2025, 1, 1, 0, 0)
+			);
+
+			Map<String, Stock> stockMap = new LinkedHashMap<>();
+			for (int index = 0; index < productCount; index++) {
+				Product product = Product.create("상품" + index, 1000, promotion);
+				Stock stock = Stock.from(product);
+				stock.incrementPromotionQuantity(INITIAL_QUANTITY);
+				stock.incrementGeneralQuantity(INITIAL_QUANTITY);
+				stockMap.put(product.getName(), stock);
+			}
+
+			stocks = Stocks.from(stockMap);
+			products = stockMap.values().stream()
+				.map(Stock::getProduct)
+				.toList();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Checkouts {
+
+		private final Receipts[] receipts = new Receipts[RECEIPT_POOL_SIZE];
+		private int cursor;
+
+		@Setup(Level.Iteration)
+		public void setUp(SharedStocks sharedStocks) {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+
+			for (int index = 0; index < RECEIPT_POOL_SIZE; index++) {
+				List<Receipt> lines = random.ints(0, sharedStocks.productCount)
+					.distinct()
+					.limit(Math.min(sharedStocks.linesPerOrder, sharedStocks.productCount))
+					.mapToObj(productIndex -> Receipt.of(sharedStocks.products.get(productIndex), 1 + random.nextInt(3), 0))
+					.toList();
+				receipts[index] = Receipts.from(lines, MemberShip.of(false));
+			}
+		}
+
+		public Receipts next() {
+			cursor = (cursor + 1) & (RECEIPT_POOL_SIZE - 1);
+			return receipts[cursor];
+		}
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void deductWith1Thread(SharedStocks sharedStocks, Checkouts checkouts) {
+		sharedStocks.stocks.deductQuantity(checkouts.next(), NOW);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void deductWith4Threads(SharedStocks sharedStocks, Checkouts checkouts) {
+		sharedStocks.stocks.deductQuantity(checkouts.next(), NOW);
+	}
+
+	@Benchmark
+	@Threads(16)
+	public void deductWith16Threads(SharedStocks sharedStocks, Checkouts checkouts) {
+		sharedStocks.stocks.deductQuantity(checkouts.next(), NOW);
+	}
+
+	@Benchmark
+	@Threads(64)
+	public void deductWith64Threads(SharedStocks sharedStocks, Checkouts checkouts) {
+		sharedStocks.stocks.deductQuantity(checkouts.next(), NOW);
+	}
+}
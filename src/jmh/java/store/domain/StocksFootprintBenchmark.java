@@ -0,0 +1,134 @@
+package store.domain;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.io.input.provider.GeneratedCatalog;
+import store.io.input.provider.PromotionProvider;
+import store.io.input.provider.StockProvider;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class StocksFootprintBenchmark {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 0, 0);
+	private static final String OBJECT_LAYOUT = "OBJECT";
+
+	@State(Scope.Benchmark)
+	public static class Catalog {
+
+		@Param({"OBJECT", "COLUMNAR"})
+		public String layout;
+
+		@Param({"100000", "1000000"})
+		public int rowCount;
+
+		public GeneratedCatalog generatedCatalog;
+		public Promotions promotions;
+		public Stocks stocks;
+		public Product[] products;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			generatedCatalog = GeneratedCatalog.generate(rowCount);
+			promotions = new PromotionProvider().provide(generatedCatalog.getPromotionFilePath());
+			stocks = load(this);
+
+			products = new Product[stocks.size()];
+			for (int productId = 0; productId < products.length; productId++) {
+				products[productId] = stocks.getStock(productId).getProduct();
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			generatedCatalog.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+
+		public long retainedBytesPerSku;
+
+		private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+		private long usedBytesBefore;
+		private Stocks retained;
+
+		@Setup(Level.Invocation)
+		public void startInvocation() {
+			retained = null;
+			usedBytesBefore = usedBytesAfterGc();
+		}
+
+		@TearDown(Level.Invocation)
+		public void finishInvocation() {
+			long retainedBytes = usedBytesAfterGc() - usedBytesBefore;
+			retainedBytesPerSku = retainedBytes / retained.size();
+		}
+
+		private long usedBytesAfterGc() {
+			System.gc();
+			System.gc();
+			return memoryMXBean.getHeapMemoryUsage().getUsed();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+
+		private int productId;
+
+		public int next(int size) {
+			productId++;
+			if (productId == size) {
+				productId = 0;
+			}
+			return productId;
+		}
+	}
+
+	private static Stocks load(Catalog catalog) {
+		StockProvider stockProvider = new StockProvider();
+		if (OBJECT_LAYOUT.equals(catalog.layout)) {
+			return stockProvider.provide(catalog.promotions, catalog.generatedCatalog.getProductFilePath());
+		}
+		return stockProvider.provideColumnar(catalog.promotions, catalog.generatedCatalog.getProductFilePath());
+	}
+
+	@Benchmark
+	public Stocks load(Catalog catalog, Footprint footprint) {
+		footprint.retained = load(catalog);
+		return footprint.retained;
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	public ReservationStatus reserveAndRelease(Catalog catalog, Cursor cursor) {
+		Product product = catalog.products[cursor.next(catalog.products.length)];
+		Reservation reservation = catalog.stocks.reserve(Order.of(new Product[] {product}, new int[] {1}), NOW);
+		catalog.stocks.release(reservation);
+		return reservation.getStatus();
+	}
+}
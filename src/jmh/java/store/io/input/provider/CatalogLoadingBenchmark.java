@@ -0,0 +1,152 @@
+package store.io.input.provider;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.domain.Product;
+import store.domain.Promotions;
+import store.domain.Stocks;
+import store.io.input.catalog.CatalogCompiler;
+import store.io.input.catalog.CatalogImage;
+import store.util.StoreFileReader;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class CatalogLoadingBenchmark {
+
+	private static final int QUANTITY_INDEX = 2;
+
+	@State(Scope.Benchmark)
+	public static class Catalog {
+
+		@Param({"10000", "1000000", "10000000"})
+		public int rowCount;
+
+		public GeneratedCatalog generatedCatalog;
+		public Promotions promotions;
+		public CatalogImage catalogImage;
+		public Promotions imagePromotions;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			generatedCatalog = GeneratedCatalog.generate(rowCount);
+			promotions = new PromotionProvider().provide(generatedCatalog.getPromotionFilePath());
+			new CatalogCompiler(new PromotionProvider(), new StockProvider()).compile(
+				generatedCatalog.getPromotionFilePath(),
+				generatedCatalog.getProductFilePath(),
+				generatedCatalog.getCatalogImagePath()
+			);
+			catalogImage = CatalogImage.map(generatedCatalog.getCatalogImagePath());
+			imagePromotions = new PromotionProvider().provide(catalogImage);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			generatedCatalog.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class LoadFootprint {
+
+		private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+		public long peakHeapMegabytes;
+		public long allocatedBytesPerRow;
+
+		private final com.sun.management.ThreadMXBean threadMXBean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+		private long allocatedBytesBefore;
+
+		@Setup(Level.Invocation)
+		public void startInvocation() {
+			System.gc();
+			heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+			allocatedBytesBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+		}
+
+		@TearDown(Level.Invocation)
+		public void finishInvocation(Catalog catalog) {
+			long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+			long peakHeapBytes = heapPools().stream()
+				.mapToLong(pool -> pool.getPeakUsage().getUsed())
+				.sum();
+
+			allocatedBytesPerRow = allocatedBytes / catalog.rowCount;
+			peakHeapMegabytes = Math.max(peakHeapMegabytes, peakHeapBytes / BYTES_PER_MEGABYTE);
+		}
+
+		private List<MemoryPoolMXBean> heapPools() {
+			return ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(pool -> pool.getType() == MemoryType.HEAP)
+				.toList();
+		}
+	}
+
+	@Benchmark
+	public List<String[]> readWithoutHeader(Catalog catalog, LoadFootprint loadFootprint) {
+		return StoreFileReader.readWithoutHeader(catalog.generatedCatalog.getProductFilePath());
+	}
+
+	@Benchmark
+	public long readEachWithoutHeader(Catalog catalog, LoadFootprint loadFootprint) {
+		long[] quantitySum = {0};
+		StoreFileReader.readEachWithoutHeader(catalog.generatedCatalog.getProductFilePath(),
+			row -> quantitySum[0] += row.getInt(QUANTITY_INDEX));
+		return quantitySum[0];
+	}
+
+	@Benchmark
+	public Promotions providePromotions(Catalog catalog, LoadFootprint loadFootprint) {
+		return new PromotionProvider().provide(catalog.generatedCatalog.getPromotionFilePath());
+	}
+
+	@Benchmark
+	public Stocks provideStocks(Catalog catalog, LoadFootprint loadFootprint) {
+		return new StockProvider().provide(catalog.promotions, catalog.generatedCatalog.getProductFilePath());
+	}
+
+	@Benchmark
+	public CatalogImage mapCatalogImage(Catalog catalog, LoadFootprint loadFootprint) {
+		return CatalogImage.map(catalog.generatedCatalog.getCatalogImagePath());
+	}
+
+	@Benchmark
+	public Promotions providePromotionsFromImage(Catalog catalog, LoadFootprint loadFootprint) {
+		return new PromotionProvider().provide(catalog.catalogImage);
+	}
+
+	@Benchmark
+	public Stocks provideStocksFromImage(Catalog catalog, LoadFootprint loadFootprint) {
+		return new StockProvider().provide(catalog.imagePromotions, catalog.catalogImage);
+	}
+
+	@Benchmark
+	public Product provideStocksLazilyAndFindProduct(Catalog catalog, LoadFootprint loadFootprint) {
+		CatalogImage catalogImage = CatalogImage.map(catalog.generatedCatalog.getCatalogImagePath());
+		Stocks stocks = new StockProvider().provideLazily(catalog.imagePromotions, catalogImage);
+		return stocks.findAvailableProductBy(catalog.generatedCatalog.productNameOf(catalog.rowCount / 4), 1);
+	}
+}
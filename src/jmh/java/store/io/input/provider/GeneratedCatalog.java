@@ -0,0 +1,104 @@
+package store.io.input.provider;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GeneratedCatalog implements AutoCloseable {
+
+	private static final String PROMOTION_HEADER = "name,buy,get,start_date,end_date";
+	private static final String PRODUCT_HEADER = "name,price,quantity,promotion";
+	private static final String NONE_PROMOTION_SIGN = "null";
+	private static final int ROWS_PER_PRODUCT = 2;
+
+	private final Path directory;
+	private final Path promotionFile;
+	private final Path productFile;
+	private final Path catalogImageFile;
+	private final int rowCount;
+
+	private GeneratedCatalog(Path directory, int rowCount) {
+		this.directory = directory;
+		this.promotionFile = directory.resolve("promotions.md");
+		this.productFile = directory.resolve("products.md");
+		this.catalogImageFile = directory.resolve("catalog.bin");
+		this.rowCount = rowCount;
+	}
+
+	public static GeneratedCatalog generate(int rowCount) {
+		try {
+			GeneratedCatalog catalog = new GeneratedCatalog(Files.createTempDirectory("catalog-"), rowCount);
+			catalog.writePromotions();
+			catalog.writeProducts();
+			return catalog;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void writePromotions() throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(promotionFile, StandardCharsets.UTF_8)) {
+			writer.write(PROMOTION_HEADER);
+			writer.newLine();
+			for (int index = 0; index < rowCount; index++) {
+				writer.write(promotionNameOf(index));
+				writer.write(index % 2 == 0 ? ",2,1," : ",1,1,");
+				writer.write(index % 3 == 0 ? "2024-11-01,2024-11-30" : "2024-01-01,2024-12-31");
+				writer.newLine();
+			}
+		}
+	}
+
+	private void writeProducts() throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(productFile, StandardCharsets.UTF_8)) {
+			writer.write(PRODUCT_HEADER);
+			writer.newLine();
+			for (int row = 0; row < rowCount; row++) {
+				int productIndex = row / ROWS_PER_PRODUCT;
+				writer.write(productNameOf(productIndex));
+				writer.write(',');
+				writer.write(Integer.toString(1000 + productIndex % 50 * 100));
+				writer.write(',');
+				writer.write(Integer.toString(1 + row % 20));
+				writer.write(',');
+				writer.write(row % ROWS_PER_PRODUCT == 0 ? promotionNameOf(productIndex) : NONE_PROMOTION_SIGN);
+				writer.newLine();
+			}
+		}
+	}
+
+	public String productNameOf(int productIndex) {
+		return "상품" + productIndex;
+	}
+
+	private String promotionNameOf(int index) {
+		return "프로모션" + index;
+	}
+
+	public String getPromotionFilePath() {
+		return promotionFile.toString();
+	}
+
+	public String getProductFilePath() {
+		return productFile.toString();
+	}
+
+	public String getCatalogImagePath() {
+		return catalogImageFile.toString();
+	}
+
+	@Override
+	public void close() {
+		try {
+			Files.deleteIfExists(promotionFile);
+			Files.deleteIfExists(productFile);
+			Files.deleteIfExists(catalogImageFile);
+			Files.deleteIfExists(directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package store.io.output;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.domain.ActivePromotions;
+import store.domain.Order;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.PromotionSchedule;
+import store.domain.Promotions;
+import store.domain.Reservation;
+import store.domain.Stock;
+import store.domain.StockPage;
+import store.domain.StockQuery;
+import store.domain.Stocks;
+import store.util.EpochMillis;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StockRenderBenchmark {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 30);
+	private static final int PROMOTION_COUNT = 8;
+	private static final int NONE_PROMOTION_INTERVAL = 4;
+	private static final int[] RESERVED_QUANTITIES = {1, 1, 1};
+	private static final int PAGE_SIZE = 50;
+	private static final String FILTERED_NAME_PREFIX = "상품1";
+	private static final String PROMOTION_STOCK_FORMAT = "- %s %,d원 %s %s\n";
+	private static final String GENERAL_STOCK_FORMAT = "- %s %,d원 %s\n";
+	private static final String COUNT_COMMENT = "개";
+	private static final String EMPTY_QUANTITY_COMMENT = "재고 없음";
+
+	@Param({"100", "100000"})
+	public int catalogSize;
+
+	private Stocks stocks;
+	private Product[] products;
+	private Product[] reservedProducts;
+	private StockQuery firstPageQuery;
+	private StockQuery filteredPageQuery;
+	private OutputHandler outputHandler;
+	private PrintStream out;
+	private long nowEpochMillis;
+	private ActivePromotions activePromotions;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		Promotion[] promotions = new Promotion[PROMOTION_COUNT];
+		for (int index = 0; index < PROMOTION_COUNT; index++) {
+			promotions[index] = Promotion.create(index, "행사" + index, 1 + index % 2, 1,
+				LocalDateTime.of(2024, 1 + index, 1, 0, 0),
+				LocalDateTime.of(2024, 2 + index, 1, 0, 0)
+			);
+		}
+
+		Map<String, Promotion> promotionMap = new LinkedHashMap<>();
+		for (Promotion promotion : promotions) {
+			promotionMap.put(promotion.getName(), promotion);
+		}
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		for (int index = 0; index < catalogSize; index++) {
+			Promotion promotion = promotions[index % PROMOTION_COUNT];
+			if (index % NONE_PROMOTION_INTERVAL == NONE_PROMOTION_INTERVAL - 1) {
+				promotion = Promotion.getNoneInstance();
+			}
+
+			Stock stock = Stock.from(Product.create("상품" + index, 1000 + index % 50 * 100, promotion));
+			stock.incrementGeneralQuantity(10 + index % 7);
+			if (promotion.isPromotion()) {
+				stock.incrementPromotionQuantity(5 + index % 3);
+			}
+			stockMap.put(stock.getProduct().getName(), stock);
+		}
+
+		stocks = Stocks.from(stockMap, PromotionSchedule.from(Promotions.from(promotionMap)));
+		products = stockMap.values().stream()
+			.map(Stock::getProduct)
+			.toArray(Product[]::new);
+		reservedProducts = new Product[] {products[0], products[catalogSize / 2], products[catalogSize - 1]};
+		firstPageQuery = StockQuery.firstPage(PAGE_SIZE);
+		filteredPageQuery = StockQuery.firstPage(PAGE_SIZE)
+			.withNamePrefix(FILTERED_NAME_PREFIX)
+			.withPromotedOnly()
+			.withInStockOnly();
+		stocks.findPage(firstPageQuery, activePromotions);
+		out = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+		outputHandler = new OutputHandler(out);
+		nowEpochMillis = EpochMillis.of(NOW);
+		activePromotions = stocks.activePromotionsAt(nowEpochMillis);
+	}
+
+	@Benchmark
+	public int countActiveByLocalDateTime() {
+		int activeCount = 0;
+		for (Product product : products) {
+			if (product.hasActivePromotion(NOW)) {
+				activeCount++;
+			}
+		}
+		return activeCount;
+	}
+
+	@Benchmark
+	public int countActiveByEpochMillis() {
+		int activeCount = 0;
+		for (Product product : products) {
+			if (product.hasActivePromotion(nowEpochMillis)) {
+				activeCount++;
+			}
+		}
+		return activeCount;
+	}
+
+	@Benchmark
+	public int countActiveBySchedule() {
+		int activeCount = 0;
+		for (Product product : products) {
+			if (product.hasActivePromotion(activePromotions)) {
+				activeCount++;
+			}
+		}
+		return activeCount;
+	}
+
+	@Benchmark
+	public void renderStocks() {
+		outputHandler.showStocks(stocks, stocks.activePromotionsAt(nowEpochMillis));
+	}
+
+	@Benchmark
+	public void renderStocksAfterReservation() {
+		ActivePromotions currentPromotions = stocks.activePromotionsAt(nowEpochMillis);
+		Reservation reservation = stocks.reserve(Order.of(reservedProducts, RESERVED_QUANTITIES), currentPromotions);
+		stocks.release(reservation);
+		outputHandler.showStocks(stocks, currentPromotions);
+	}
+
+	@Benchmark
+	public void renderStocksFromScratch() {
+		new StockRenderer().render(stocks, stocks.activePromotionsAt(nowEpochMillis)).writeTo(out);
+	}
+
+	@Benchmark
+	public StockPage findFirstPage() {
+		return stocks.findPage(firstPageQuery, stocks.activePromotionsAt(nowEpochMillis));
+	}
+
+	@Benchmark
+	public StockPage findFilteredPage() {
+		return stocks.findPage(filteredPageQuery, stocks.activePromotionsAt(nowEpochMillis));
+	}
+
+	@Benchmark
+	public void renderStockPage() {
+		ActivePromotions currentPromotions = stocks.activePromotionsAt(nowEpochMillis);
+		outputHandler.showStockPage(stocks.findPage(firstPageQuery, currentPromotions), currentPromotions);
+	}
+
+	@Benchmark
+	public void renderStocksWithStringFormat() {
+		ActivePromotions currentPromotions = stocks.activePromotionsAt(nowEpochMillis);
+		for (int productId = 0; productId < stocks.size(); productId++) {
+			Stock stock = stocks.getStock(productId);
+			Product product = stock.getProduct();
+			if (product.hasActivePromotion(currentPromotions)) {
+				out.printf(PROMOTION_STOCK_FORMAT, product.getName(), product.getPrice(),
+					countOf(stock.getPromotionQuantity()), product.getPromotion().getName());
+			}
+			out.printf(GENERAL_STOCK_FORMAT, product.getName(), product.getPrice(),
+				countOf(stock.getGeneralQuantity()));
+		}
+		out.flush();
+	}
+
+	private String countOf(int quantity) {
+		if (quantity == 0) {
+			return EMPTY_QUANTITY_COMMENT;
+		}
+		return quantity + COUNT_COMMENT;
+	}
+}
@@ -0,0 +1,78 @@
+package store.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.domain.Stocks;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class StockJournalBenchmark {
+
+	private static final int LINE_COUNT = 3;
+	private static final int MAX_BATCH_BYTES = 1 << 20;
+
+	@Param({"true", "false"})
+	public boolean syncOnCommit;
+
+	@Param({"0", "1"})
+	public long commitDelayMillis;
+
+	private Path journalPath;
+	private FileStockJournal journal;
+	private int[] productIds;
+	private int[] promotionQuantities;
+	private int[] generalQuantities;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		journalPath = Files.createTempFile("stock-journal", ".bin");
+		Files.delete(journalPath);
+		journal = FileStockJournal.open(journalPath, Stocks.from(Map.of()),
+			GroupCommitPolicy.of(Duration.ofMillis(commitDelayMillis), MAX_BATCH_BYTES, syncOnCommit));
+
+		productIds = new int[LINE_COUNT];
+		promotionQuantities = new int[LINE_COUNT];
+		generalQuantities = new int[LINE_COUNT];
+		for (int line = 0; line < LINE_COUNT; line++) {
+			productIds[line] = line * 1_000;
+			promotionQuantities[line] = 2;
+			generalQuantities[line] = 1;
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		journal.close();
+		Files.deleteIfExists(journalPath);
+	}
+
+	@Benchmark
+	public void appendCommittedReceipt() {
+		journal.append(productIds, promotionQuantities, generalQuantities, LINE_COUNT);
+	}
+}
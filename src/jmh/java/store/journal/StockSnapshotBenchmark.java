@@ -0,0 +1,104 @@
+package store.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Stock;
+import store.domain.Stocks;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StockSnapshotBenchmark {
+
+	private static final int INITIAL_QUANTITY = 1 << 30;
+	private static final int MAX_BATCH_BYTES = 1 << 20;
+
+	@Param({"10000", "1000000"})
+	public int productCount;
+
+	private Path directory;
+	private Path journalPath;
+	private Path snapshotPath;
+	private Stocks stocks;
+	private StockImage image;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("stock-snapshot");
+		journalPath = directory.resolve("stock.journal");
+		snapshotPath = directory.resolve("stock.snapshot");
+		stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.open(journalPath, stocks,
+			GroupCommitPolicy.of(Duration.ZERO, MAX_BATCH_BYTES, false))) {
+			for (int productId = 0; productId < productCount; productId++) {
+				journal.append(new int[] {productId}, new int[] {0}, new int[] {1}, 1);
+			}
+		}
+
+		image = StockImage.from(stocks, StockSnapshot.catalogChecksumOf(stocks), Files.size(journalPath));
+		image.capture().writeTo(snapshotPath, IoThrottle.unlimited());
+	}
+
+	private Stocks createStocks() {
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		for (int productId = 0; productId < productCount; productId++) {
+			Stock stock = Stock.from(Product.create("상품" + productId, 1_000, Promotion.getNoneInstance()));
+			stock.incrementGeneralQuantity(INITIAL_QUANTITY);
+			stocks.put(stock.getProduct().getName(), stock);
+		}
+		return Stocks.from(stocks);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(snapshotPath);
+		Files.deleteIfExists(journalPath);
+		Files.deleteIfExists(directory);
+	}
+
+	@Benchmark
+	public StockSnapshot captureSnapshot() {
+		return image.capture();
+	}
+
+	@Benchmark
+	public void writeSnapshot() throws IOException {
+		image.capture().writeTo(snapshotPath, IoThrottle.unlimited());
+	}
+
+	@Benchmark
+	public void restoreSnapshot() throws IOException {
+		StockSnapshot.readFrom(snapshotPath).applyTo(stocks);
+	}
+
+	@Benchmark
+	public void replayJournal() {
+		FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable()).close();
+	}
+}
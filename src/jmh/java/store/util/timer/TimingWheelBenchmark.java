@@ -0,0 +1,67 @@
+package store.util.timer;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TimingWheelBenchmark {
+
+	private static final long TICK_MILLIS = 100;
+	private static final long TIME_TO_LIVE_MILLIS = 10 * 60 * 1000;
+	private static final Runnable EMPTY_TASK = () -> {
+	};
+
+	@State(Scope.Thread)
+	public static class OutstandingHolds {
+
+		@Param({"1000000"})
+		public int outstandingHolds;
+
+		public HierarchicalTimingWheel timingWheel;
+		public long nowMillis;
+
+		@Setup(Level.Trial)
+		public void setUp() {
+			timingWheel = HierarchicalTimingWheel.of(TICK_MILLIS, 0);
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+
+			for (int hold = 0; hold < outstandingHolds; hold++) {
+				timingWheel.schedule(EMPTY_TASK, random.nextLong(TIME_TO_LIVE_MILLIS), 0);
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean scheduleAndCancel(OutstandingHolds holds) {
+		WheelTimeout timeout = holds.timingWheel.schedule(EMPTY_TASK, TIME_TO_LIVE_MILLIS, holds.nowMillis);
+		return timeout.cancel();
+	}
+
+	@Benchmark
+	public int advanceOneTickAndRefill(OutstandingHolds holds) {
+		holds.nowMillis += TICK_MILLIS;
+		int expired = holds.timingWheel.advanceTo(holds.nowMillis);
+
+		for (int hold = 0; hold < expired; hold++) {
+			holds.timingWheel.schedule(EMPTY_TASK, TIME_TO_LIVE_MILLIS, holds.nowMillis);
+		}
+		return expired;
+	}
+}
@@ -1,20 +1,161 @@
 package store;
 
+import static store.common.ErrorMessage.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import store.batch.BatchCheckout;
+import store.batch.BatchPolicy;
+import store.batch.BatchSummary;
+import store.checkout.Cashier;
+import store.domain.PromotionResultTable;
+import store.domain.ReservationExpiry;
+import store.domain.StockJournal;
+import store.domain.Stocks;
 import store.io.IOHandler;
 import store.io.input.InputHandler;
 import store.io.input.provider.PromotionProvider;
 import store.io.input.provider.StockProvider;
 import store.io.input.validation.UserInputValidation;
 import store.io.output.OutputHandler;
+import store.io.output.ReceiptJsonWriter;
+import store.journal.FileStockJournal;
+import store.journal.GroupCommitPolicy;
+import store.journal.SnapshotPolicy;
+import store.metric.CheckoutMetrics;
+import store.server.PosServer;
 
 public class Application {
+
+	private static final Duration RESERVATION_TIME_TO_LIVE = Duration.ofMinutes(10);
+	private static final Duration REPORT_INTERVAL = Duration.ofSeconds(10);
+	private static final String SERVER_MODE_OPTION = "--server";
+	private static final String BATCH_MODE_OPTION = "--batch";
+	private static final String COMPILE_CATALOG_MODE_OPTION = "--compile-catalog";
+	private static final String STANDARD_INPUT_PATH = "-";
+	private static final String JOURNAL_PATH_PROPERTY = "store.journal";
+	private static final String PROMOTION_RESULT_BOUND_PROPERTY = "store.promotionResultBound";
+	private static final String BATCH_SUMMARY_FORMAT = "[BATCH] 결제 완료 %d건 | 결제 실패 %d건%n";
+	private static final String FLAG_DELIMITER = " ";
+	private static final int DEFAULT_SERVER_PORT = 9090;
+	private static final int MODE_INDEX = 0;
+	private static final int MODE_ARGUMENT_INDEX = 1;
+	private static final int BATCH_FLAGS_INDEX = 2;
+
 	public static void main(String[] args) {
-		ConvenienceStore convenienceStore = new ConvenienceStore(
-			new IOHandler(new InputHandler(new UserInputValidation()), new OutputHandler()),
-			new PromotionProvider(),
-			new StockProvider()
-		);
-		convenienceStore.run();
+		if (isMode(args, COMPILE_CATALOG_MODE_OPTION)) {
+			ConvenienceStore.compileCatalog(createPromotionProvider(), new StockProvider());
+			return;
+		}
+
+		try (ReservationExpiry reservationExpiry = ReservationExpiry.start(RESERVATION_TIME_TO_LIVE)) {
+			CheckoutMetrics checkoutMetrics = CheckoutMetrics.start();
+			Function<IOHandler, ConvenienceStore> storeFactory = ioHandler -> new ConvenienceStore(
+				ioHandler,
+				createPromotionProvider(),
+				new StockProvider(),
+				reservationExpiry,
+				checkoutMetrics
+			);
+			ConvenienceStore convenienceStore = storeFactory.apply(
+				new IOHandler(new InputHandler(new UserInputValidation()), new OutputHandler())
+			);
+
+			Stocks stocks = convenienceStore.prepareStocks();
+			StockJournal stockJournal = recoverJournal(stocks);
+			try {
+				run(args, convenienceStore, stocks, storeFactory, checkoutMetrics);
+			} finally {
+				stockJournal.close();
+			}
+		}
+	}
+
+	private static void run(String[] args, ConvenienceStore convenienceStore, Stocks stocks,
+		Function<IOHandler, ConvenienceStore> storeFactory, CheckoutMetrics checkoutMetrics) {
+		if (isMode(args, SERVER_MODE_OPTION)) {
+			serve(findServerPort(args), stocks, storeFactory, checkoutMetrics);
+			return;
+		}
+		if (isMode(args, BATCH_MODE_OPTION)) {
+			checkoutBatch(args, stocks);
+			return;
+		}
+		convenienceStore.open(stocks);
+	}
+
+	private static StockJournal recoverJournal(Stocks stocks) {
+		String journalPath = System.getProperty(JOURNAL_PATH_PROPERTY);
+		if (journalPath == null) {
+			return StockJournal.getNoneInstance();
+		}
+		return FileStockJournal.recover(Paths.get(journalPath), stocks, GroupCommitPolicy.durable(),
+			SnapshotPolicy.periodic());
+	}
+
+	private static PromotionProvider createPromotionProvider() {
+		return new PromotionProvider(
+			Integer.getInteger(PROMOTION_RESULT_BOUND_PROPERTY, PromotionResultTable.DEFAULT_BOUND));
+	}
+
+	private static boolean isMode(String[] args, String modeOption) {
+		return args.length > MODE_INDEX && modeOption.equals(args[MODE_INDEX]);
+	}
+
+	private static int findServerPort(String[] args) {
+		if (args.length > MODE_ARGUMENT_INDEX) {
+			return Integer.parseInt(args[MODE_ARGUMENT_INDEX]);
+		}
+		return DEFAULT_SERVER_PORT;
+	}
+
+	private static void serve(int port, Stocks stocks, Function<IOHandler, ConvenienceStore> storeFactory,
+		CheckoutMetrics checkoutMetrics) {
+		try (PosServer posServer = PosServer.open(port, stocks, storeFactory, checkoutMetrics)) {
+			posServer.serve(REPORT_INTERVAL, System.out);
+		}
+	}
+
+	private static void checkoutBatch(String[] args, Stocks stocks) {
+		UserInputValidation userInputValidation = new UserInputValidation();
+		BatchPolicy batchPolicy = createBatchPolicy(args, userInputValidation);
+		BufferedWriter receiptOut = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+		BatchCheckout batchCheckout = new BatchCheckout(userInputValidation, new Cashier(),
+			new ReceiptJsonWriter(receiptOut));
+
+		try (BufferedReader orderReader = openOrderReader(args)) {
+			BatchSummary batchSummary = batchCheckout.run(orderReader, stocks, batchPolicy, DateTimes.now());
+			System.err.printf(BATCH_SUMMARY_FORMAT, batchSummary.getCompletedOrders(),
+				batchSummary.getFailedOrders());
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_READ_FILE.getMessage());
+		}
+	}
+
+	private static BatchPolicy createBatchPolicy(String[] args, UserInputValidation userInputValidation) {
+		if (args.length <= BATCH_FLAGS_INDEX) {
+			return BatchPolicy.asOrdered();
+		}
+		String flags = String.join(FLAG_DELIMITER, Arrays.copyOfRange(args, BATCH_FLAGS_INDEX, args.length));
+		return BatchPolicy.asOrdered().overrideWith(flags, userInputValidation);
+	}
+
+	private static BufferedReader openOrderReader(String[] args) throws IOException {
+		if (args.length <= MODE_ARGUMENT_INDEX || STANDARD_INPUT_PATH.equals(args[MODE_ARGUMENT_INDEX])) {
+			return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+		}
+		return Files.newBufferedReader(Paths.get(args[MODE_ARGUMENT_INDEX]), StandardCharsets.UTF_8);
 	}
 
 }
@@ -1,139 +1,158 @@
 package store;
 
-import java.time.LocalDateTime;
-import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import camp.nextstep.edu.missionutils.DateTimes;
-import store.domain.MemberShip;
+import store.checkout.Cashier;
+import store.domain.ActivePromotions;
 import store.domain.Order;
-import store.domain.Product;
-import store.domain.PromotionResult;
 import store.domain.Promotions;
-import store.domain.Receipt;
 import store.domain.Receipts;
+import store.domain.Reservation;
+import store.domain.ReservationExpiry;
+import store.domain.StockQuery;
 import store.domain.Stocks;
 import store.io.IOHandler;
+import store.io.input.catalog.CatalogCompiler;
+import store.io.input.catalog.CatalogImage;
 import store.io.input.provider.PromotionProvider;
 import store.io.input.provider.StockProvider;
+import store.metric.CheckoutMetrics;
+import store.metric.CheckoutStopwatch;
+import store.util.EpochMillis;
 
 public class ConvenienceStore {
 
 	private static final String PROMOTION_FILE_PATH = "src/main/resources/promotions.md";
 	private static final String PRODUCT_FILE_PATH = "src/main/resources/products.md";
+	private static final String CATALOG_IMAGE_PATH = "src/main/resources/catalog.bin";
+	private static final int MAXIMUM_FULL_LISTING_SIZE = 10_000;
+	private static final int LISTING_PAGE_SIZE = 100;
+	private static final int MINIMUM_LAZY_LOADING_SIZE = 100_000;
+	private static final String CATALOG_FALLBACK_FORMAT = "%s %s 파일에서 상품 목록을 다시 읽습니다.%n";
+	private static final String CATALOG_CORRUPTION_FORMAT = "%s %s 이미지를 다시 만들어 주세요.%n";
+	private static final String CATALOG_VERIFIER_THREAD_NAME = "catalog-verifier";
 
 	private final IOHandler ioHandler;
 	private final PromotionProvider promotionProvider;
 	private final StockProvider stockProvider;
+	private final ReservationExpiry reservationExpiry;
+	private final CheckoutMetrics checkoutMetrics;
+	private final Cashier cashier;
 
-	public ConvenienceStore(IOHandler ioHandler, PromotionProvider promotionProvider, StockProvider stockProvider) {
+	public ConvenienceStore(IOHandler ioHandler, PromotionProvider promotionProvider, StockProvider stockProvider,
+		ReservationExpiry reservationExpiry, CheckoutMetrics checkoutMetrics) {
 		this.ioHandler = ioHandler;
 		this.promotionProvider = promotionProvider;
 		this.stockProvider = stockProvider;
+		this.reservationExpiry = reservationExpiry;
+		this.checkoutMetrics = checkoutMetrics;
+		this.cashier = new Cashier();
 	}
 
 	public void run() {
-		LocalDateTime openDateTime = DateTimes.now();
-
-		Promotions promotions = promotionProvider.provide(PROMOTION_FILE_PATH);
-		Stocks stocks = stockProvider.provide(promotions, PRODUCT_FILE_PATH);
-
-		openStore(stocks, openDateTime);
-	}
-
-	private void openStore(Stocks stocks, LocalDateTime openDateTime) {
-		do {
-			ioHandler.showStocks(stocks, openDateTime);
-			Order order = createOrder(stocks);
-
-			Receipts receipts = createReceipts(stocks, order, openDateTime);
-			stocks.deductQuantity(receipts, openDateTime);
-
-			ioHandler.showReceipt(receipts);
-		} while (ioHandler.hasRepurchase());
+		open(prepareStocks());
 	}
 
-	private Order createOrder(Stocks stocks) {
-		while (true) {
+	public Stocks prepareStocks() {
+		if (CatalogImage.isCompiledFrom(CATALOG_IMAGE_PATH, PROMOTION_FILE_PATH, PRODUCT_FILE_PATH)) {
 			try {
-				Map<String, Integer> inputOrder = ioHandler.getOrder();
-				return createOrder(inputOrder, stocks);
-
-			} catch (IllegalArgumentException | IllegalStateException e) {
-				ioHandler.showErrorMessage(e.getMessage());
+				CatalogImage catalogImage = CatalogImage.map(CATALOG_IMAGE_PATH);
+				verifyInBackground(catalogImage);
+				return prepareStocks(catalogImage);
+			} catch (IllegalStateException e) {
+				System.err.printf(CATALOG_FALLBACK_FORMAT, e.getMessage(), PRODUCT_FILE_PATH);
 			}
 		}
-	}
 
-	private Order createOrder(Map<String, Integer> inputOrders, Stocks stocks) {
-		Map<Product, Integer> orders = inputOrders.entrySet().stream()
-			.map(inputOrder -> stocks.findAvailableProductBy(inputOrder.getKey(), inputOrder.getValue()))
-			.collect(Collectors.toMap(
-				product -> product,
-				product -> inputOrders.get(product.getName()),
-				Integer::sum,
-				LinkedHashMap::new
-			));
-		return Order.create(orders);
+		Promotions promotions = promotionProvider.provide(PROMOTION_FILE_PATH);
+		return stockProvider.provide(promotions, PRODUCT_FILE_PATH);
 	}
 
-	private Receipts createReceipts(Stocks stocks, Order order, LocalDateTime openDateTime) {
-		Map<Product, Integer> orders = order.getOrders();
-
-		List<Receipt> receipts = orders.entrySet().stream()
-			.map(orderEntry -> getReceipt(stocks, openDateTime, orderEntry.getKey(), orderEntry.getValue()))
-			.toList();
-
-		MemberShip memberShip = createMemberShip();
-		return Receipts.from(receipts, memberShip);
+	private static void verifyInBackground(CatalogImage catalogImage) {
+		Thread verifier = new Thread(() -> {
+			try {
+				catalogImage.verify();
+			} catch (IllegalStateException e) {
+				System.err.printf(CATALOG_CORRUPTION_FORMAT, e.getMessage(), CATALOG_IMAGE_PATH);
+			}
+		}, CATALOG_VERIFIER_THREAD_NAME);
+		verifier.setDaemon(true);
+		verifier.start();
 	}
 
-	private MemberShip createMemberShip() {
-		boolean hasMemberShip = ioHandler.hasMemberShip();
-		return MemberShip.of(hasMemberShip);
+	private Stocks prepareStocks(CatalogImage catalogImage) {
+		Promotions promotions = promotionProvider.provide(catalogImage);
+		if (catalogImage.getProductCount() >= MINIMUM_LAZY_LOADING_SIZE) {
+			return stockProvider.provideLazily(promotions, catalogImage);
+		}
+		return stockProvider.provide(promotions, catalogImage);
 	}
 
-	private Receipt getReceipt(Stocks stocks, LocalDateTime openDateTime, Product product, int purchasedQuantity) {
-		PromotionResult promotionResult = stocks.calculatePromotion(product.getName(), purchasedQuantity, openDateTime);
-		return createReceiptWithActivePromotion(promotionResult, product, purchasedQuantity);
+	public static void compileCatalog(PromotionProvider promotionProvider, StockProvider stockProvider) {
+		new CatalogCompiler(promotionProvider, stockProvider)
+			.compile(PROMOTION_FILE_PATH, PRODUCT_FILE_PATH, CATALOG_IMAGE_PATH);
 	}
 
-	private Receipt createReceiptWithActivePromotion(PromotionResult promotionResult, Product product,
-		int purchasedQuantity) {
+	public void open(Stocks stocks) {
+		do {
+			ActivePromotions activePromotions = stocks.activePromotionsAt(EpochMillis.of(DateTimes.now()));
+			showStocks(stocks, activePromotions);
+			purchase(stocks, activePromotions);
+		} while (ioHandler.hasRepurchase());
+	}
 
-		if (promotionResult.hasExtraQuantity()) {
-			return createReceiptWithExtraQuantityIntention(promotionResult, product, purchasedQuantity);
+	private void showStocks(Stocks stocks, ActivePromotions activePromotions) {
+		if (stocks.size() > MAXIMUM_FULL_LISTING_SIZE) {
+			ioHandler.showStockPage(stocks.findPage(StockQuery.firstPage(LISTING_PAGE_SIZE), activePromotions),
+				activePromotions);
+			return;
 		}
-		if (promotionResult.hasUnApplicableQuantity()) {
-			return createReceiptWithUnApplicableQuantityIntention(promotionResult, product, purchasedQuantity);
-		}
-		return Receipt.of(product, purchasedQuantity, promotionResult.getFreeQuantity());
+		ioHandler.showStocks(stocks, activePromotions);
 	}
 
-	private Receipt createReceiptWithExtraQuantityIntention(PromotionResult promotionResult, Product product,
-		int purchasedQuantity) {
+	private void purchase(Stocks stocks, ActivePromotions activePromotions) {
+		CheckoutStopwatch checkoutStopwatch = CheckoutStopwatch.create();
+		Reservation reservation = createReservation(stocks, activePromotions, checkoutStopwatch);
+
+		try {
+			Receipts receipts = cashier.createReceipts(reservation, activePromotions, ioHandler);
 
-		int freeQuantity = promotionResult.getFreeQuantity();
-		int extraQuantity = promotionResult.getExtraQuantity();
+			checkoutStopwatch.start();
+			stocks.commit(reservation, receipts, activePromotions);
+			ioHandler.showReceipt(receipts);
+			checkoutStopwatch.stop();
 
-		if (ioHandler.hasAdditionalPurchaseAboutExtraQuantity(product, extraQuantity)) {
-			return Receipt.of(product, purchasedQuantity + extraQuantity, freeQuantity + extraQuantity);
+			checkoutMetrics.record(checkoutStopwatch.getElapsedNanos());
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			ioHandler.showErrorMessage(e.getMessage());
+		} finally {
+			stocks.release(reservation);
 		}
-		return Receipt.of(product, purchasedQuantity, freeQuantity);
 	}
 
-	private Receipt createReceiptWithUnApplicableQuantityIntention(PromotionResult promotionResult, Product product,
-		int purchasedQuantity) {
+	private Reservation createReservation(Stocks stocks, ActivePromotions activePromotions,
+		CheckoutStopwatch checkoutStopwatch) {
+		while (true) {
+			try {
+				Map<String, Integer> inputOrder = ioHandler.getOrder();
 
-		int freeQuantity = promotionResult.getFreeQuantity();
-		int unApplicableQuantity = promotionResult.getUnApplicableQuantity();
+				checkoutStopwatch.start();
+				Order order = cashier.createOrder(inputOrder, stocks);
+				Reservation reservation = reserve(stocks, order, activePromotions);
+				checkoutStopwatch.stop();
+				return reservation;
 
-		if (ioHandler.hasNotAdditionalPurchaseUnApplicableQuantity(product, unApplicableQuantity)) {
-			return Receipt.of(product, purchasedQuantity - unApplicableQuantity, freeQuantity);
+			} catch (IllegalArgumentException | IllegalStateException e) {
+				ioHandler.showErrorMessage(e.getMessage());
+			}
 		}
-		return Receipt.of(product, purchasedQuantity, freeQuantity);
+	}
+
+	private Reservation reserve(Stocks stocks, Order order, ActivePromotions activePromotions) {
+		Reservation reservation = stocks.reserve(order, activePromotions);
+		reservationExpiry.watch(stocks, reservation);
+		return reservation;
 	}
 
 }
@@ -0,0 +1,103 @@
+package store.batch;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import store.checkout.Cashier;
+import store.domain.ActivePromotions;
+import store.domain.Order;
+import store.domain.Receipts;
+import store.domain.Reservation;
+import store.domain.Stocks;
+import store.io.input.OrderParser;
+import store.io.input.validation.UserInputValidation;
+import store.io.output.ReceiptJsonWriter;
+import store.util.EpochMillis;
+
+public class BatchCheckout {
+
+	private static final String FLAGS_DELIMITER = ";";
+	private static final String COMMENT_PREFIX = "#";
+	private static final int ORDER_INDEX = 0;
+	private static final int FLAGS_INDEX = 1;
+
+	private final UserInputValidation userInputValidation;
+	private final OrderParser orderParser;
+	private final Cashier cashier;
+	private final ReceiptJsonWriter receiptWriter;
+
+	public BatchCheckout(UserInputValidation userInputValidation, Cashier cashier, ReceiptJsonWriter receiptWriter) {
+		this.userInputValidation = userInputValidation;
+		this.orderParser = new OrderParser(userInputValidation);
+		this.cashier = cashier;
+		this.receiptWriter = receiptWriter;
+	}
+
+	public BatchSummary run(BufferedReader orderReader, Stocks stocks, BatchPolicy batchPolicy, LocalDateTime now) {
+		ActivePromotions activePromotions = stocks.activePromotionsAt(EpochMillis.of(now));
+		long lineNumber = 0;
+		long completedOrders = 0;
+		long failedOrders = 0;
+
+		try {
+			String line;
+			while ((line = orderReader.readLine()) != null) {
+				lineNumber++;
+				if (line.isBlank() || line.startsWith(COMMENT_PREFIX)) {
+					continue;
+				}
+
+				if (checkout(lineNumber, line, stocks, batchPolicy, activePromotions)) {
+					completedOrders++;
+					continue;
+				}
+				failedOrders++;
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_READ_FILE.getMessage());
+		} finally {
+			receiptWriter.flush();
+		}
+		return BatchSummary.of(completedOrders, failedOrders);
+	}
+
+	private boolean checkout(long lineNumber, String line, Stocks stocks, BatchPolicy batchPolicy,
+		ActivePromotions activePromotions) {
+		try {
+			String[] orderAndFlags = line.split(FLAGS_DELIMITER, 2);
+			Map<String, Integer> inputOrder = orderParser.parse(orderAndFlags[ORDER_INDEX].trim());
+			BatchPolicy linePolicy = overridePolicy(batchPolicy, orderAndFlags);
+
+			Order order = cashier.createOrder(inputOrder, stocks);
+			Receipts receipts = commit(stocks, order, linePolicy, activePromotions);
+
+			receiptWriter.writeReceipt(lineNumber, receipts);
+			return true;
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			receiptWriter.writeError(lineNumber, e.getMessage());
+			return false;
+		}
+	}
+
+	private BatchPolicy overridePolicy(BatchPolicy batchPolicy, String[] orderAndFlags) {
+		if (orderAndFlags.length <= FLAGS_INDEX) {
+			return batchPolicy;
+		}
+		return batchPolicy.overrideWith(orderAndFlags[FLAGS_INDEX], userInputValidation);
+	}
+
+	private Receipts commit(Stocks stocks, Order order, BatchPolicy linePolicy, ActivePromotions activePromotions) {
+		Reservation reservation = stocks.reserve(order, activePromotions);
+		try {
+			Receipts receipts = cashier.createReceipts(reservation, activePromotions, linePolicy);
+			stocks.commit(reservation, receipts, activePromotions);
+			return receipts;
+		} finally {
+			stocks.release(reservation);
+		}
+	}
+}
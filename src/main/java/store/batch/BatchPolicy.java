@@ -0,0 +1,83 @@
+package store.batch;
+
+import static store.common.ErrorMessage.*;
+
+import store.checkout.CustomerIntention;
+import store.domain.Product;
+import store.io.input.validation.UserInputValidation;
+
+public class BatchPolicy implements CustomerIntention {
+
+	private static final String FLAG_DELIMITER = "\\s+";
+	private static final String KEY_AND_VALUE_DELIMITER = "=";
+	private static final String EXTRA_QUANTITY_KEY = "extra";
+	private static final String UN_APPLICABLE_QUANTITY_KEY = "unapplicable";
+	private static final String MEMBERSHIP_KEY = "membership";
+	private static final String ACCEPTANCE_SIGN = "y";
+	private static final String REFUSE_SIGN = "n";
+	private static final int KEY_INDEX = 0;
+	private static final int VALUE_INDEX = 1;
+
+	private final boolean acceptsExtraQuantity;
+	private final boolean acceptsUnApplicableQuantity;
+	private final boolean hasMemberShip;
+
+	private BatchPolicy(boolean acceptsExtraQuantity, boolean acceptsUnApplicableQuantity, boolean hasMemberShip) {
+		this.acceptsExtraQuantity = acceptsExtraQuantity;
+		this.acceptsUnApplicableQuantity = acceptsUnApplicableQuantity;
+		this.hasMemberShip = hasMemberShip;
+	}
+
+	public static BatchPolicy of(boolean acceptsExtraQuantity, boolean acceptsUnApplicableQuantity,
+		boolean hasMemberShip) {
+		return new BatchPolicy(acceptsExtraQuantity, acceptsUnApplicableQuantity, hasMemberShip);
+	}
+
+	public static BatchPolicy asOrdered() {
+		return new BatchPolicy(false, true, false);
+	}
+
+	public BatchPolicy overrideWith(String flags, UserInputValidation userInputValidation) {
+		boolean extraQuantity = acceptsExtraQuantity;
+		boolean unApplicableQuantity = acceptsUnApplicableQuantity;
+		boolean memberShip = hasMemberShip;
+
+		for (String flag : flags.trim().split(FLAG_DELIMITER)) {
+			if (flag.isEmpty()) {
+				continue;
+			}
+
+			String[] keyAndValue = flag.split(KEY_AND_VALUE_DELIMITER, -1);
+			if (keyAndValue.length != 2) {
+				throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+			}
+
+			String value = keyAndValue[VALUE_INDEX];
+			userInputValidation.validateAcceptanceAndRefuseSign(value, ACCEPTANCE_SIGN, REFUSE_SIGN);
+			boolean accepted = ACCEPTANCE_SIGN.equalsIgnoreCase(value);
+
+			switch (keyAndValue[KEY_INDEX].toLowerCase()) {
+				case EXTRA_QUANTITY_KEY -> extraQuantity = accepted;
+				case UN_APPLICABLE_QUANTITY_KEY -> unApplicableQuantity = accepted;
+				case MEMBERSHIP_KEY -> memberShip = accepted;
+				default -> throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+			}
+		}
+		return new BatchPolicy(extraQuantity, unApplicableQuantity, memberShip);
+	}
+
+	@Override
+	public boolean hasAdditionalPurchaseAboutExtraQuantity(Product product, int extraQuantity) {
+		return acceptsExtraQuantity;
+	}
+
+	@Override
+	public boolean hasNotAdditionalPurchaseUnApplicableQuantity(Product product, int unApplicableQuantity) {
+		return !acceptsUnApplicableQuantity;
+	}
+
+	@Override
+	public boolean hasMemberShip() {
+		return hasMemberShip;
+	}
+}
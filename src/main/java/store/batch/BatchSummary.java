@@ -0,0 +1,24 @@
+package store.batch;
+
+public class BatchSummary {
+
+	private final long completedOrders;
+	private final long failedOrders;
+
+	private BatchSummary(long completedOrders, long failedOrders) {
+		this.completedOrders = completedOrders;
+		this.failedOrders = failedOrders;
+	}
+
+	public static BatchSummary of(long completedOrders, long failedOrders) {
+		return new BatchSummary(completedOrders, failedOrders);
+	}
+
+	public long getCompletedOrders() {
+		return completedOrders;
+	}
+
+	public long getFailedOrders() {
+		return failedOrders;
+	}
+}
@@ -0,0 +1,90 @@
+package store.checkout;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import store.domain.ActivePromotions;
+import store.domain.MemberShip;
+import store.domain.Order;
+import store.domain.Product;
+import store.domain.PromotionEngine;
+import store.domain.Receipt;
+import store.domain.Receipts;
+import store.domain.Reservation;
+import store.domain.Stocks;
+
+public class Cashier {
+
+	private final PromotionEngine promotionEngine;
+
+	public Cashier() {
+		this.promotionEngine = PromotionEngine.create();
+	}
+
+	public Order createOrder(Map<String, Integer> inputOrders, Stocks stocks) {
+		Product[] products = new Product[inputOrders.size()];
+		int[] quantities = new int[inputOrders.size()];
+
+		int line = 0;
+		for (Map.Entry<String, Integer> inputOrder : inputOrders.entrySet()) {
+			int productId = stocks.findProductIdBy(inputOrder.getKey());
+			products[line] = stocks.findAvailableProductBy(productId, inputOrder.getValue());
+			quantities[line] = inputOrder.getValue();
+			line++;
+		}
+		return Order.of(products, quantities);
+	}
+
+	public Receipts createReceipts(Reservation reservation, LocalDateTime now, CustomerIntention customerIntention) {
+		return createReceipts(reservation, ActivePromotions.at(now), customerIntention);
+	}
+
+	public Receipts createReceipts(Reservation reservation, ActivePromotions activePromotions,
+		CustomerIntention customerIntention) {
+		promotionEngine.evaluate(reservation, activePromotions);
+		List<Receipt> receipts = IntStream.range(0, reservation.size())
+			.mapToObj(line -> getReceipt(reservation, line, customerIntention))
+			.toList();
+
+		MemberShip memberShip = MemberShip.of(customerIntention.hasMemberShip());
+		return Receipts.from(receipts, memberShip);
+	}
+
+	private Receipt getReceipt(Reservation reservation, int line, CustomerIntention customerIntention) {
+		Product product = reservation.getProduct(line);
+		int purchasedQuantity = reservation.getQuantity(line);
+		int freeQuantity = promotionEngine.getFreeQuantity(line);
+		int extraQuantity = promotionEngine.getExtraQuantity(line);
+		int unApplicableQuantity = promotionEngine.getUnApplicableQuantity(line);
+
+		if (extraQuantity > 0) {
+			return createReceiptWithExtraQuantityIntention(product, purchasedQuantity, freeQuantity, extraQuantity,
+				customerIntention);
+		}
+		if (unApplicableQuantity > 0) {
+			return createReceiptWithUnApplicableQuantityIntention(product, purchasedQuantity, freeQuantity,
+				unApplicableQuantity, customerIntention);
+		}
+		return Receipt.of(product, purchasedQuantity, freeQuantity);
+	}
+
+	private Receipt createReceiptWithExtraQuantityIntention(Product product, int purchasedQuantity,
+		int freeQuantity, int extraQuantity, CustomerIntention customerIntention) {
+
+		if (customerIntention.hasAdditionalPurchaseAboutExtraQuantity(product, extraQuantity)) {
+			return Receipt.of(product, purchasedQuantity + extraQuantity, freeQuantity + extraQuantity);
+		}
+		return Receipt.of(product, purchasedQuantity, freeQuantity);
+	}
+
+	private Receipt createReceiptWithUnApplicableQuantityIntention(Product product, int purchasedQuantity,
+		int freeQuantity, int unApplicableQuantity, CustomerIntention customerIntention) {
+
+		if (customerIntention.hasNotAdditionalPurchaseUnApplicableQuantity(product, unApplicableQuantity)) {
+			return Receipt.of(product, purchasedQuantity - unApplicableQuantity, freeQuantity);
+		}
+		return Receipt.of(product, purchasedQuantity, freeQuantity);
+	}
+}
@@ -0,0 +1,12 @@
+package store.checkout;
+
+import store.domain.Product;
+
+public interface CustomerIntention {
+
+	boolean hasAdditionalPurchaseAboutExtraQuantity(Product product, int extraQuantity);
+
+	boolean hasNotAdditionalPurchaseUnApplicableQuantity(Product product, int unApplicableQuantity);
+
+	boolean hasMemberShip();
+}
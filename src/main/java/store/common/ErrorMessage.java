@@ -4,10 +4,20 @@ public enum ErrorMessage {
 
 	ERROR_SIGN("[ERROR] "),
 	CAN_NOT_READ_FILE("파일을 읽어오는데 실패했습니다."),
+	CAN_NOT_OPEN_SERVER("POS 서버를 열 수 없습니다."),
+	CAN_NOT_WRITE_RECEIPT("영수증을 출력하는데 실패했습니다."),
+	CAN_NOT_READ_JOURNAL("재고 기록을 읽어오는데 실패했습니다."),
+	CAN_NOT_WRITE_JOURNAL("재고 기록을 저장하는데 실패했습니다."),
+	MISMATCHED_JOURNAL_CATALOG("재고 기록이 현재 상품 목록으로 남긴 기록이 아닙니다."),
+	CAN_NOT_READ_CATALOG("상품 목록 이미지를 읽어오는데 실패했습니다."),
+	CAN_NOT_WRITE_CATALOG("상품 목록 이미지를 저장하는데 실패했습니다."),
 	INCREMENT_NOT_NATURAL_NUMBER("수량 증가는 0 초과의 숫자만 입력가능합니다."),
 	NOT_EXIST_PRODUCT("존재하지 않는 상품입니다. 다시 입력해 주세요."),
 	OVER_FLOW_STOCK_QUANTITY("재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요."),
 	INCORRECT_INPUT_FORMAT("올바르지 않은 형식으로 입력했습니다. 다시 입력해 주세요."),
+	OVER_FLOW_PAYMENT_AMOUNT("계산할 수 있는 결제 금액을 초과했습니다. 다시 입력해 주세요."),
+	CAN_NOT_EXPIRE_RESERVATION("만료된 주문의 재고를 반환하는데 실패했습니다."),
+	EXPIRED_RESERVATION("주문 보관 시간이 만료되어 재고가 반환되었습니다. 다시 주문해 주세요."),
 	WRONG_CALL_METHOD("잘못된 기능이 호출되었습니다.");
 
 	private final String message;
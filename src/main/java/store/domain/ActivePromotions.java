@@ -0,0 +1,50 @@
+package store.domain;
+
+import java.time.LocalDateTime;
+
+import store.util.EpochMillis;
+
+public class ActivePromotions {
+
+	private static final int WORD_SHIFT = 6;
+	private static final long[] NO_ACTIVE_WORDS = new long[0];
+	private static final Promotion[] NO_SCHEDULED_PROMOTIONS = new Promotion[0];
+
+	private final long now;
+	private final long[] activeWords;
+	private final Promotion[] scheduledPromotions;
+
+	private ActivePromotions(long now, long[] activeWords, Promotion[] scheduledPromotions) {
+		this.now = now;
+		this.activeWords = activeWords;
+		this.scheduledPromotions = scheduledPromotions;
+	}
+
+	public static ActivePromotions at(long now) {
+		return new ActivePromotions(now, NO_ACTIVE_WORDS, NO_SCHEDULED_PROMOTIONS);
+	}
+
+	public static ActivePromotions at(LocalDateTime now) {
+		return at(EpochMillis.of(now));
+	}
+
+	static ActivePromotions of(long now, long[] activeWords, Promotion[] scheduledPromotions) {
+		return new ActivePromotions(now, activeWords, scheduledPromotions);
+	}
+
+	public boolean contains(Promotion promotion) {
+		int index = promotion.getIndex();
+		if (isScheduled(promotion, index)) {
+			return (activeWords[index >>> WORD_SHIFT] & (1L << index)) != 0;
+		}
+		return promotion.isActive(now);
+	}
+
+	private boolean isScheduled(Promotion promotion, int index) {
+		return index >= 0 && index < scheduledPromotions.length && scheduledPromotions[index] == promotion;
+	}
+
+	public long getNow() {
+		return now;
+	}
+}
@@ -0,0 +1,192 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ColumnarStockTable implements StockTable {
+
+	private final ProductDictionary productDictionary;
+	private final ProductNameOrder productNameOrder;
+	private final int[] prices;
+	private final int[] promotionIndexes;
+	private final Promotion[] promotions;
+	private final long[] quantities;
+	private final Stock[] stockViews;
+
+	private ColumnarStockTable(ProductDictionary productDictionary, int[] prices, int[] promotionIndexes,
+		Promotion[] promotions, long[] quantities) {
+		this.productDictionary = productDictionary;
+		this.productNameOrder = ProductNameOrder.of(this);
+		this.prices = prices;
+		this.promotionIndexes = promotionIndexes;
+		this.promotions = promotions;
+		this.quantities = quantities;
+		this.stockViews = new Stock[quantities.length];
+	}
+
+	public static Builder builder(int expectedSize) {
+		return new Builder(expectedSize);
+	}
+
+	@Override
+	public int size() {
+		return productDictionary.size();
+	}
+
+	@Override
+	public Stock getStock(int productId) {
+		Stock stockView = stockViews[productId];
+		if (stockView == null) {
+			stockView = Stock.view(createProduct(productId), quantities, productId);
+			stockViews[productId] = stockView;
+		}
+		return stockView;
+	}
+
+	private Product createProduct(int productId) {
+		return Product.create(
+			productId,
+			productDictionary.nameOf(productId),
+			prices[productId],
+			getPromotion(productId)
+		);
+	}
+
+	@Override
+	public String getName(int productId) {
+		return productDictionary.nameOf(productId);
+	}
+
+	@Override
+	public Promotion getPromotion(int productId) {
+		return promotions[promotionIndexes[productId]];
+	}
+
+	@Override
+	public int getPromotionQuantity(int productId) {
+		return StockQuantity.promotionQuantity(Stock.loadQuantities(quantities, productId));
+	}
+
+	@Override
+	public int getGeneralQuantity(int productId) {
+		return StockQuantity.generalQuantity(Stock.loadQuantities(quantities, productId));
+	}
+
+	@Override
+	public int getProductIdInNameOrder(int rank) {
+		return productNameOrder.getProductIdAt(rank);
+	}
+
+	@Override
+	public int[] findProductIdsInNameOrder() {
+		return productNameOrder.toArray();
+	}
+
+	@Override
+	public boolean holds(int productId, Product product) {
+		return productDictionary.nameOf(productId).equals(product.getName());
+	}
+
+	@Override
+	public int findIdBy(String productName) {
+		return productDictionary.findIdBy(productName);
+	}
+
+	@Override
+	public Map<String, Stock> asMap() {
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		for (int productId = 0; productId < size(); productId++) {
+			stocks.put(productDictionary.nameOf(productId), getStock(productId));
+		}
+		return stocks;
+	}
+
+	public static class Builder {
+
+		private static final int MINIMUM_CAPACITY = 16;
+
+		private final ProductDictionary productDictionary;
+		private final Map<Promotion, Integer> promotionIndexOf;
+		private Promotion[] promotions;
+		private int[] prices;
+		private int[] promotionIndexes;
+		private long[] quantities;
+
+		private Builder(int expectedSize) {
+			int capacity = Math.max(expectedSize, MINIMUM_CAPACITY);
+			this.productDictionary = ProductDictionary.create(capacity);
+			this.promotionIndexOf = new IdentityHashMap<>();
+			this.promotions = new Promotion[MINIMUM_CAPACITY];
+			this.prices = new int[capacity];
+			this.promotionIndexes = new int[capacity];
+			this.quantities = new long[capacity];
+		}
+
+		public int put(String productName, int price, Promotion promotion) {
+			int sizeBefore = productDictionary.size();
+			int productId = productDictionary.addIfAbsent(productName);
+			if (productId == prices.length) {
+				grow();
+			}
+
+			if (productId == sizeBefore || !promotions[promotionIndexes[productId]].isPromotion()) {
+				prices[productId] = price;
+				promotionIndexes[productId] = indexOf(promotion);
+			}
+			return productId;
+		}
+
+		public void incrementPromotionQuantity(int productId, int promotionQuantity) {
+			validateIncrementQuantity(promotionQuantity);
+			quantities[productId] = StockQuantity.add(quantities[productId], StockQuantity.pack(promotionQuantity, 0));
+		}
+
+		public void incrementGeneralQuantity(int productId, int generalQuantity) {
+			validateIncrementQuantity(generalQuantity);
+			quantities[productId] = StockQuantity.add(quantities[productId], StockQuantity.pack(0, generalQuantity));
+		}
+
+		public ColumnarStockTable build() {
+			int size = productDictionary.size();
+			return new ColumnarStockTable(
+				productDictionary,
+				Arrays.copyOf(prices, size),
+				Arrays.copyOf(promotionIndexes, size),
+				Arrays.copyOf(promotions, promotionIndexOf.size()),
+				Arrays.copyOf(quantities, size)
+			);
+		}
+
+		private void validateIncrementQuantity(int quantity) {
+			if (quantity <= 0) {
+				throw new IllegalStateException(INCREMENT_NOT_NATURAL_NUMBER.getMessage());
+			}
+		}
+
+		private int indexOf(Promotion promotion) {
+			Integer promotionIndex = promotionIndexOf.get(promotion);
+			if (promotionIndex != null) {
+				return promotionIndex;
+			}
+
+			int newIndex = promotionIndexOf.size();
+			if (newIndex == promotions.length) {
+				promotions = Arrays.copyOf(promotions, newIndex * 2);
+			}
+			promotions[newIndex] = promotion;
+			promotionIndexOf.put(promotion, newIndex);
+			return newIndex;
+		}
+
+		private void grow() {
+			int capacity = prices.length * 2;
+			prices = Arrays.copyOf(prices, capacity);
+			promotionIndexes = Arrays.copyOf(promotionIndexes, capacity);
+			quantities = Arrays.copyOf(quantities, capacity);
+		}
+	}
+}
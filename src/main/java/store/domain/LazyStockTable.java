@@ -0,0 +1,138 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LazyStockTable implements StockTable {
+
+	private static final int DEFAULT_CACHE_CAPACITY = 1 << 14;
+	private static final int MAXIMUM_CACHE_CAPACITY = 1 << 24;
+
+	private final StockCatalog stockCatalog;
+	private final Promotion[] promotions;
+	private final QuantityOverlay changedQuantities;
+	private final Stock[] cachedStocks;
+
+	private LazyStockTable(StockCatalog stockCatalog, Promotion[] promotions, int cacheCapacity) {
+		this.stockCatalog = stockCatalog;
+		this.promotions = promotions;
+		this.changedQuantities = QuantityOverlay.over(this::catalogQuantitiesOf);
+		this.cachedStocks = new Stock[cacheCapacity];
+	}
+
+	public static LazyStockTable of(StockCatalog stockCatalog, Promotion[] promotions) {
+		return new LazyStockTable(stockCatalog, promotions, DEFAULT_CACHE_CAPACITY);
+	}
+
+	public static LazyStockTable of(StockCatalog stockCatalog, Promotion[] promotions, int cacheCapacity) {
+		validateCacheCapacity(cacheCapacity);
+		return new LazyStockTable(stockCatalog, promotions, Integer.highestOneBit(cacheCapacity * 2 - 1));
+	}
+
+	private static void validateCacheCapacity(int cacheCapacity) {
+		if (cacheCapacity <= 0 || cacheCapacity > MAXIMUM_CACHE_CAPACITY) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+	}
+
+	@Override
+	public int size() {
+		return stockCatalog.getProductCount();
+	}
+
+	@Override
+	public Stock getStock(int productId) {
+		int cacheSlot = productId & (cachedStocks.length - 1);
+		Stock cachedStock = cachedStocks[cacheSlot];
+		if (cachedStock != null && cachedStock.getProduct().getId() == productId) {
+			return cachedStock;
+		}
+
+		Stock stock = Stock.overlay(createProduct(productId), changedQuantities);
+		cachedStocks[cacheSlot] = stock;
+		return stock;
+	}
+
+	private Product createProduct(int productId) {
+		return Product.create(
+			productId,
+			stockCatalog.getProductName(productId),
+			stockCatalog.getPrice(productId),
+			getPromotion(productId)
+		);
+	}
+
+	private long catalogQuantitiesOf(int productId) {
+		return StockQuantity.pack(
+			stockCatalog.getPromotionQuantity(productId),
+			stockCatalog.getGeneralQuantity(productId)
+		);
+	}
+
+	private long quantitiesOf(int productId) {
+		return changedQuantities.load(productId);
+	}
+
+	int countChangedQuantities() {
+		return changedQuantities.size();
+	}
+
+	@Override
+	public String getName(int productId) {
+		return stockCatalog.getProductName(productId);
+	}
+
+	@Override
+	public Promotion getPromotion(int productId) {
+		if (stockCatalog.hasPromotion(productId)) {
+			return promotions[stockCatalog.getPromotionIndex(productId)];
+		}
+		return Promotion.getNoneInstance();
+	}
+
+	@Override
+	public int getPromotionQuantity(int productId) {
+		return StockQuantity.promotionQuantity(quantitiesOf(productId));
+	}
+
+	@Override
+	public int getGeneralQuantity(int productId) {
+		return StockQuantity.generalQuantity(quantitiesOf(productId));
+	}
+
+	@Override
+	public int getProductIdInNameOrder(int rank) {
+		return stockCatalog.getProductIdInNameOrder(rank);
+	}
+
+	@Override
+	public int[] findProductIdsInNameOrder() {
+		int[] productIds = new int[size()];
+		for (int rank = 0; rank < productIds.length; rank++) {
+			productIds[rank] = stockCatalog.getProductIdInNameOrder(rank);
+		}
+		return productIds;
+	}
+
+	@Override
+	public boolean holds(int productId, Product product) {
+		return getName(productId).equals(product.getName());
+	}
+
+	@Override
+	public int findIdBy(String productName) {
+		return stockCatalog.findProductIdBy(productName);
+	}
+
+	@Override
+	public Map<String, Stock> asMap() {
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		for (int productId = 0; productId < size(); productId++) {
+			Stock stock = getStock(productId);
+			stocks.put(stock.getProduct().getName(), stock);
+		}
+		return stocks;
+	}
+}
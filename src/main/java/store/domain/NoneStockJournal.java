@@ -0,0 +1,14 @@
+package store.domain;
+
+enum NoneStockJournal implements StockJournal {
+
+	INSTANCE;
+
+	@Override
+	public void append(int[] productIds, int[] promotionQuantities, int[] generalQuantities, int lineCount) {
+	}
+
+	@Override
+	public void close() {
+	}
+}
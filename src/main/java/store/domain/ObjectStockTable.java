@@ -0,0 +1,79 @@
+package store.domain;
+
+import java.util.Map;
+
+class ObjectStockTable implements StockTable {
+
+	private final Map<String, Stock> stocks;
+	private final Stock[] stocksById;
+	private final ProductDictionary productDictionary;
+	private final ProductNameOrder productNameOrder;
+
+	private ObjectStockTable(Map<String, Stock> stocks) {
+		this.stocks = stocks;
+		this.stocksById = stocks.values().toArray(Stock[]::new);
+		this.productDictionary = ProductDictionary.create(stocks.size());
+		this.productNameOrder = ProductNameOrder.of(this);
+
+		stocks.keySet().forEach(productDictionary::addIfAbsent);
+	}
+
+	static ObjectStockTable from(Map<String, Stock> stocks) {
+		return new ObjectStockTable(stocks);
+	}
+
+	@Override
+	public int size() {
+		return stocksById.length;
+	}
+
+	@Override
+	public Stock getStock(int productId) {
+		return stocksById[productId];
+	}
+
+	@Override
+	public String getName(int productId) {
+		return stocksById[productId].getProduct().getName();
+	}
+
+	@Override
+	public Promotion getPromotion(int productId) {
+		return stocksById[productId].getProduct().getPromotion();
+	}
+
+	@Override
+	public int getPromotionQuantity(int productId) {
+		return stocksById[productId].getPromotionQuantity();
+	}
+
+	@Override
+	public int getGeneralQuantity(int productId) {
+		return stocksById[productId].getGeneralQuantity();
+	}
+
+	@Override
+	public int getProductIdInNameOrder(int rank) {
+		return productNameOrder.getProductIdAt(rank);
+	}
+
+	@Override
+	public int[] findProductIdsInNameOrder() {
+		return productNameOrder.toArray();
+	}
+
+	@Override
+	public boolean holds(int productId, Product product) {
+		return stocksById[productId].getProduct() == product;
+	}
+
+	@Override
+	public int findIdBy(String productName) {
+		return productDictionary.findIdBy(productName);
+	}
+
+	@Override
+	public Map<String, Stock> asMap() {
+		return stocks;
+	}
+}
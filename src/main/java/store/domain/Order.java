@@ -1,19 +1,48 @@
 package store.domain;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class Order {
-	private final Map<Product, Integer> orders;
+	private final Product[] products;
+	private final int[] quantities;
 
-	private Order(Map<Product, Integer> orders) {
-		this.orders = orders;
+	private Order(Product[] products, int[] quantities) {
+		this.products = products;
+		this.quantities = quantities;
 	}
 
 	public static Order create(Map<Product, Integer> orders) {
-		return new Order(orders);
+		Product[] products = orders.keySet().toArray(Product[]::new);
+		int[] quantities = new int[products.length];
+
+		for (int line = 0; line < products.length; line++) {
+			quantities[line] = orders.get(products[line]);
+		}
+		return new Order(products, quantities);
+	}
+
+	public static Order of(Product[] products, int[] quantities) {
+		return new Order(products, quantities);
+	}
+
+	public int size() {
+		return products.length;
+	}
+
+	public Product getProduct(int line) {
+		return products[line];
+	}
+
+	public int getQuantity(int line) {
+		return quantities[line];
 	}
 
 	public Map<Product, Integer> getOrders() {
+		Map<Product, Integer> orders = new LinkedHashMap<>();
+		for (int line = 0; line < products.length; line++) {
+			orders.merge(products[line], quantities[line], Integer::sum);
+		}
 		return orders;
 	}
 }
@@ -5,18 +5,26 @@ import java.util.Objects;
 
 public class Product {
 
+	private static final int UNASSIGNED_ID = -1;
+
+	private final int id;
 	private final String name;
 	private final int price;
 	private final Promotion promotion;
 
-	private Product(String name, int price, Promotion promotion) {
+	private Product(int id, String name, int price, Promotion promotion) {
+		this.id = id;
 		this.name = name;
 		this.price = price;
 		this.promotion = promotion;
 	}
 
 	public static Product create(String name, int price, Promotion promotion) {
-		return new Product(name, price, promotion);
+		return new Product(UNASSIGNED_ID, name, price, promotion);
+	}
+
+	public static Product create(int id, String name, int price, Promotion promotion) {
+		return new Product(id, name, price, promotion);
 	}
 
 	public int calculateFreeQuantity(int availableQuantity) {
@@ -31,6 +39,10 @@ public class Product {
 		return promotion.calculateExtraQuantity(availablePromotionQuantity);
 	}
 
+	public PromotionResult calculatePromotionResult(int promotionQuantity, int purchasedQuantity) {
+		return promotion.calculatePromotionResult(promotionQuantity, purchasedQuantity);
+	}
+
 	public boolean hasPromotion() {
 		return promotion.isPromotion();
 	}
@@ -39,6 +51,22 @@ public class Product {
 		return promotion.isActive(comparedDateTime);
 	}
 
+	public boolean hasActivePromotion(long nowEpochMillis) {
+		return promotion.isActive(nowEpochMillis);
+	}
+
+	public boolean hasActivePromotion(ActivePromotions activePromotions) {
+		return activePromotions.contains(promotion);
+	}
+
+	public boolean hasId() {
+		return id != UNASSIGNED_ID;
+	}
+
+	public int getId() {
+		return id;
+	}
+
 	public String getName() {
 		return name;
 	}
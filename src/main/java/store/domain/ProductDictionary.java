@@ -0,0 +1,82 @@
+package store.domain;
+
+import java.util.Arrays;
+
+public class ProductDictionary {
+
+	private static final int NOT_EXIST_ID = -1;
+	private static final int MINIMUM_CAPACITY = 16;
+
+	private String[] names;
+	private int[] slots;
+	private int size;
+
+	private ProductDictionary(int expectedSize) {
+		this.names = new String[Math.max(expectedSize, MINIMUM_CAPACITY)];
+		this.slots = emptySlotsFor(names.length);
+	}
+
+	static ProductDictionary create(int expectedSize) {
+		return new ProductDictionary(expectedSize);
+	}
+
+	public int findIdBy(String productName) {
+		int mask = slots.length - 1;
+		for (int slot = slotOf(productName, mask); slots[slot] != NOT_EXIST_ID; slot = (slot + 1) & mask) {
+			if (names[slots[slot]].equals(productName)) {
+				return slots[slot];
+			}
+		}
+		return NOT_EXIST_ID;
+	}
+
+	int addIfAbsent(String productName) {
+		int productId = findIdBy(productName);
+		if (productId != NOT_EXIST_ID) {
+			return productId;
+		}
+
+		if (size == names.length) {
+			names = Arrays.copyOf(names, size * 2);
+			rehash(emptySlotsFor(names.length));
+		}
+		names[size] = productName;
+		insert(slots, size);
+		return size++;
+	}
+
+	String nameOf(int productId) {
+		return names[productId];
+	}
+
+	int size() {
+		return size;
+	}
+
+	private void rehash(int[] newSlots) {
+		for (int productId = 0; productId < size; productId++) {
+			insert(newSlots, productId);
+		}
+		slots = newSlots;
+	}
+
+	private void insert(int[] targetSlots, int productId) {
+		int mask = targetSlots.length - 1;
+		int slot = slotOf(names[productId], mask);
+		while (targetSlots[slot] != NOT_EXIST_ID) {
+			slot = (slot + 1) & mask;
+		}
+		targetSlots[slot] = productId;
+	}
+
+	private int slotOf(String productName, int mask) {
+		int hash = productName.hashCode();
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	private int[] emptySlotsFor(int capacity) {
+		int[] emptySlots = new int[Integer.highestOneBit(capacity * 2 - 1) * 2];
+		Arrays.fill(emptySlots, NOT_EXIST_ID);
+		return emptySlots;
+	}
+}
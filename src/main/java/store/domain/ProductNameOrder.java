@@ -0,0 +1,55 @@
+package store.domain;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+final class ProductNameOrder {
+
+	private final StockTable stockTable;
+	private volatile int[] productIds;
+
+	private ProductNameOrder(StockTable stockTable) {
+		this.stockTable = stockTable;
+	}
+
+	static ProductNameOrder of(StockTable stockTable) {
+		return new ProductNameOrder(stockTable);
+	}
+
+	int getProductIdAt(int rank) {
+		return sorted()[rank];
+	}
+
+	int[] toArray() {
+		return sorted().clone();
+	}
+
+	private int[] sorted() {
+		int[] sortedProductIds = productIds;
+		if (sortedProductIds == null) {
+			synchronized (this) {
+				sortedProductIds = productIds;
+				if (sortedProductIds == null) {
+					sortedProductIds = sort(stockTable);
+					productIds = sortedProductIds;
+				}
+			}
+		}
+		return sortedProductIds;
+	}
+
+	private static int[] sort(StockTable stockTable) {
+		Integer[] productIds = new Integer[stockTable.size()];
+		String[] names = new String[stockTable.size()];
+		for (int productId = 0; productId < productIds.length; productId++) {
+			productIds[productId] = productId;
+			names[productId] = stockTable.getName(productId);
+		}
+		Arrays.sort(productIds, Comparator.comparing((Integer productId) -> names[productId])
+			.thenComparingInt(productId -> productId));
+
+		return Arrays.stream(productIds)
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+}
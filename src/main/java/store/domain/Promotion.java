@@ -2,35 +2,59 @@ package store.domain;
 
 import java.time.LocalDateTime;
 
+import store.util.EpochMillis;
+
 public class Promotion {
 
+	private static final int UNASSIGNED_INDEX = -1;
 	private static final LocalDateTime DEFAULT_DATE_TIME =
 		LocalDateTime.of(2000, 1, 1, 0, 0, 0);
 	private static final String NO_PROMOTION_NAME = "none";
 	private static final Promotion NONE_PROMOTION = new Promotion(
+		UNASSIGNED_INDEX,
 		NO_PROMOTION_NAME,
 		0,
 		0,
 		DEFAULT_DATE_TIME,
-		DEFAULT_DATE_TIME
+		DEFAULT_DATE_TIME,
+		PromotionResultTable.DEFAULT_BOUND
 	);
 
+	private final int index;
 	private final String name;
 	private final int buy;
 	private final int get;
 	private final LocalDateTime startDate;
 	private final LocalDateTime endDate;
+	private final long startEpochMillis;
+	private final long endEpochMillis;
+	private final PromotionResultTable resultTable;
 
-	private Promotion(String name, int buy, int get, LocalDateTime startDate, LocalDateTime endDate) {
+	private Promotion(int index, String name, int buy, int get, LocalDateTime startDate, LocalDateTime endDate,
+		int resultBound) {
+		this.index = index;
 		this.name = name;
 		this.buy = buy;
 		this.get = get;
 		this.startDate = startDate;
 		this.endDate = endDate;
+		this.startEpochMillis = EpochMillis.of(startDate);
+		this.endEpochMillis = EpochMillis.of(endDate);
+		this.resultTable = PromotionResultTable.of(buy, get, resultBound);
 	}
 
 	public static Promotion of(String name, int buy, int get, LocalDateTime startDate, LocalDateTime endDate) {
-		return new Promotion(name, buy, get, startDate, endDate);
+		return new Promotion(UNASSIGNED_INDEX, name, buy, get, startDate, endDate, PromotionResultTable.DEFAULT_BOUND);
+	}
+
+	public static Promotion create(int index, String name, int buy, int get, LocalDateTime startDate,
+		LocalDateTime endDate) {
+		return new Promotion(index, name, buy, get, startDate, endDate, PromotionResultTable.DEFAULT_BOUND);
+	}
+
+	public static Promotion create(int index, String name, int buy, int get, LocalDateTime startDate,
+		LocalDateTime endDate, int resultBound) {
+		return new Promotion(index, name, buy, get, startDate, endDate, resultBound);
 	}
 
 	public static Promotion getNoneInstance() {
@@ -38,21 +62,20 @@ public class Promotion {
 	}
 
 	public int calculateFreeQuantity(int availablePromotionQuantity) {
-		return availablePromotionQuantity / (buy + get) * get;
+		return PromotionFormula.calculateFreeQuantity(buy, get, availablePromotionQuantity);
 	}
 
 	public int calculateRestQuantity(int availablePromotionQuantity) {
-		return availablePromotionQuantity % (buy + get);
+		return PromotionFormula.calculateRestQuantity(buy, get, availablePromotionQuantity);
 	}
 
 	public int calculateExtraQuantity(int availablePromotionQuantity) {
 		int restQuantity = calculateRestQuantity(availablePromotionQuantity);
+		return PromotionFormula.calculateExtraQuantity(buy, get, restQuantity);
+	}
 
-		if (buy == restQuantity) {
-			return get;
-		}
-
-		return 0;
+	public PromotionResult calculatePromotionResult(int promotionQuantity, int purchasedQuantity) {
+		return resultTable.find(promotionQuantity, purchasedQuantity);
 	}
 
 	public boolean isPromotion() {
@@ -64,7 +87,39 @@ public class Promotion {
 	}
 
 	public boolean isActive(LocalDateTime now) {
-		return !now.isBefore(startDate) && now.isBefore(endDate);
+		return isActive(EpochMillis.of(now));
+	}
+
+	public boolean isActive(long nowEpochMillis) {
+		return startEpochMillis <= nowEpochMillis && nowEpochMillis < endEpochMillis;
+	}
+
+	public boolean hasIndex() {
+		return index != UNASSIGNED_INDEX;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public PromotionResultTable getResultTable() {
+		return resultTable;
+	}
+
+	public int getBuy() {
+		return buy;
+	}
+
+	public int getGet() {
+		return get;
+	}
+
+	public long getStartEpochMillis() {
+		return startEpochMillis;
+	}
+
+	public long getEndEpochMillis() {
+		return endEpochMillis;
 	}
 
 	public String getName() {
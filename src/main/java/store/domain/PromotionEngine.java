@@ -0,0 +1,130 @@
+package store.domain;
+
+public class PromotionEngine {
+
+	private static final int DEFAULT_CAPACITY = 16;
+	private static final long NONE_HELD_QUANTITIES = 0L;
+
+	private int[] purchasedQuantities;
+	private int[] promotionQuantities;
+	private int[] buys;
+	private int[] gets;
+	private int[] freeQuantities;
+	private int[] extraQuantities;
+	private int[] unApplicableQuantities;
+
+	private PromotionEngine(int capacity) {
+		allocate(capacity);
+	}
+
+	public static PromotionEngine create() {
+		return new PromotionEngine(DEFAULT_CAPACITY);
+	}
+
+	public static PromotionEngine of(int capacity) {
+		return new PromotionEngine(capacity);
+	}
+
+	public void evaluate(Stocks stocks, int[] productIds, int[] quantities, long now) {
+		evaluate(stocks, productIds, quantities, productIds.length, stocks.activePromotionsAt(now));
+	}
+
+	public void evaluate(Stocks stocks, int[] productIds, int[] quantities, int lineCount,
+		ActivePromotions activePromotions) {
+		ensureCapacity(lineCount);
+		for (int line = 0; line < lineCount; line++) {
+			gatherPromotion(line, stocks.getStock(productIds[line]), NONE_HELD_QUANTITIES, quantities[line],
+				activePromotions);
+		}
+		calculate(lineCount);
+	}
+
+	public void evaluate(Reservation reservation, ActivePromotions activePromotions) {
+		int lineCount = reservation.size();
+
+		ensureCapacity(lineCount);
+		for (int line = 0; line < lineCount; line++) {
+			gatherPromotion(line, reservation.getStock(line), reservation.getHeldQuantities(line),
+				reservation.getQuantity(line), activePromotions);
+		}
+		calculate(lineCount);
+	}
+
+	private void gatherPromotion(int line, Stock stock, long heldQuantities, int purchasedQuantity,
+		ActivePromotions activePromotions) {
+		Promotion promotion = stock.getProduct().getPromotion();
+
+		purchasedQuantities[line] = purchasedQuantity;
+		promotionQuantities[line] = 0;
+		if (activePromotions.contains(promotion)) {
+			promotionQuantities[line] = stock.getPromotionQuantity() + StockQuantity.promotionQuantity(heldQuantities);
+			buys[line] = promotion.getBuy();
+			gets[line] = promotion.getGet();
+		}
+	}
+
+	private void calculate(int lineCount) {
+		for (int line = 0; line < lineCount; line++) {
+			int promotionQuantity = promotionQuantities[line];
+			int purchasedQuantity = purchasedQuantities[line];
+
+			if (promotionQuantity <= 0) {
+				freeQuantities[line] = 0;
+				extraQuantities[line] = 0;
+				unApplicableQuantities[line] = 0;
+				continue;
+			}
+
+			int buy = buys[line];
+			int get = gets[line];
+			int availablePromotionQuantity = Math.min(promotionQuantity, purchasedQuantity);
+			int restQuantity = PromotionFormula.calculateRestQuantity(buy, get, availablePromotionQuantity);
+
+			freeQuantities[line] = PromotionFormula.calculateFreeQuantity(buy, get, availablePromotionQuantity);
+			extraQuantities[line] = PromotionFormula.calculateExtraQuantity(buy, get, restQuantity,
+				purchasedQuantity, promotionQuantity);
+			unApplicableQuantities[line] = PromotionFormula.calculateUnApplicableQuantity(restQuantity,
+				purchasedQuantity, promotionQuantity);
+		}
+	}
+
+	private void ensureCapacity(int lineCount) {
+		if (lineCount > freeQuantities.length) {
+			allocate(Math.max(lineCount, freeQuantities.length * 2));
+		}
+	}
+
+	private void allocate(int capacity) {
+		purchasedQuantities = new int[capacity];
+		promotionQuantities = new int[capacity];
+		buys = new int[capacity];
+		gets = new int[capacity];
+		freeQuantities = new int[capacity];
+		extraQuantities = new int[capacity];
+		unApplicableQuantities = new int[capacity];
+	}
+
+	public int getFreeQuantity(int line) {
+		return freeQuantities[line];
+	}
+
+	public int getExtraQuantity(int line) {
+		return extraQuantities[line];
+	}
+
+	public int getUnApplicableQuantity(int line) {
+		return unApplicableQuantities[line];
+	}
+
+	public int[] getFreeQuantities() {
+		return freeQuantities;
+	}
+
+	public int[] getExtraQuantities() {
+		return extraQuantities;
+	}
+
+	public int[] getUnApplicableQuantities() {
+		return unApplicableQuantities;
+	}
+}
@@ -0,0 +1,39 @@
+package store.domain;
+
+final class PromotionFormula {
+
+	private static final int NONE_QUANTITY = 0;
+
+	private PromotionFormula() {
+	}
+
+	static int calculateFreeQuantity(int buy, int get, int availablePromotionQuantity) {
+		return availablePromotionQuantity / (buy + get) * get;
+	}
+
+	static int calculateRestQuantity(int buy, int get, int availablePromotionQuantity) {
+		return availablePromotionQuantity % (buy + get);
+	}
+
+	static int calculateExtraQuantity(int buy, int get, int restQuantity) {
+		if (buy == restQuantity) {
+			return get;
+		}
+		return NONE_QUANTITY;
+	}
+
+	static int calculateExtraQuantity(int buy, int get, int restQuantity, int purchasedQuantity,
+		int promotionQuantity) {
+		if (promotionQuantity >= purchasedQuantity + get) {
+			return calculateExtraQuantity(buy, get, restQuantity);
+		}
+		return NONE_QUANTITY;
+	}
+
+	static int calculateUnApplicableQuantity(int restQuantity, int purchasedQuantity, int promotionQuantity) {
+		if (promotionQuantity > purchasedQuantity) {
+			return NONE_QUANTITY;
+		}
+		return purchasedQuantity - promotionQuantity + restQuantity;
+	}
+}
@@ -1,7 +1,11 @@
 package store.domain;
 
+import java.util.Objects;
+
 public class PromotionResult {
 
+	private static final PromotionResult NONE_RESULT = new PromotionResult(0, 0, 0);
+
 	private final int freeQuantity;
 	private final int extraQuantity;
 	private final int unApplicableQuantity;
@@ -13,9 +17,16 @@ public class PromotionResult {
 	}
 
 	public static PromotionResult of(int freeQuantity, int extraQuantity, int unApplicableQuantity) {
+		if (freeQuantity == 0 && extraQuantity == 0 && unApplicableQuantity == 0) {
+			return NONE_RESULT;
+		}
 		return new PromotionResult(freeQuantity, extraQuantity, unApplicableQuantity);
 	}
 
+	public static PromotionResult getNoneInstance() {
+		return NONE_RESULT;
+	}
+
 	public boolean hasExtraQuantity() {
 		return extraQuantity > 0;
 	}
@@ -35,4 +46,20 @@ public class PromotionResult {
 	public int getUnApplicableQuantity() {
 		return unApplicableQuantity;
 	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		PromotionResult that = (PromotionResult)o;
+		return freeQuantity == that.freeQuantity && extraQuantity == that.extraQuantity
+			&& unApplicableQuantity == that.unApplicableQuantity;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(freeQuantity, extraQuantity, unApplicableQuantity);
+	}
 }
@@ -0,0 +1,108 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PromotionResultTable {
+
+	public static final int DEFAULT_BOUND = 64;
+	private static final int PAIR_BITS = Integer.SIZE;
+	private static final Map<Integer, Map<Long, PromotionResultTable>> TABLES_BY_BOUND = new ConcurrentHashMap<>();
+
+	private final int buy;
+	private final int get;
+	private final int bound;
+	private final boolean hasTable;
+	private final int promotionQuantityLimit;
+	private final PromotionResult[] results;
+
+	private PromotionResultTable(int buy, int get, int bound, boolean hasTable) {
+		this.buy = buy;
+		this.get = get;
+		this.bound = bound;
+		this.hasTable = hasTable;
+		this.promotionQuantityLimit = 0;
+		this.results = new PromotionResult[0];
+	}
+
+	private PromotionResultTable(int buy, int get, int bound) {
+		this.buy = buy;
+		this.get = get;
+		this.bound = bound;
+		this.hasTable = true;
+		this.promotionQuantityLimit = bound + get + 1;
+		this.results = new PromotionResult[(bound + 1) * (promotionQuantityLimit + 1)];
+		fillResults();
+	}
+
+	public static PromotionResultTable of(int buy, int get) {
+		return of(buy, get, DEFAULT_BOUND);
+	}
+
+	public static PromotionResultTable of(int buy, int get, int bound) {
+		validateBound(bound);
+		long pair = ((long)buy << PAIR_BITS) | (get & 0xFFFF_FFFFL);
+		return TABLES_BY_BOUND.computeIfAbsent(bound, key -> new ConcurrentHashMap<>())
+			.computeIfAbsent(pair, key -> create(buy, get, bound));
+	}
+
+	private static void validateBound(int bound) {
+		if (bound < 0) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+	}
+
+	private static PromotionResultTable create(int buy, int get, int bound) {
+		if (buy < 0 || get < 0 || buy + get <= 0 || (long)buy + get > bound) {
+			return new PromotionResultTable(buy, get, bound, false);
+		}
+		return new PromotionResultTable(buy, get, bound);
+	}
+
+	private void fillResults() {
+		Map<PromotionResult, PromotionResult> sharedResults = new HashMap<>();
+
+		for (int purchasedQuantity = 0; purchasedQuantity <= bound; purchasedQuantity++) {
+			for (int promotionQuantity = 0; promotionQuantity <= promotionQuantityLimit; promotionQuantity++) {
+				PromotionResult result = calculate(promotionQuantity, purchasedQuantity);
+				results[indexOf(promotionQuantity, purchasedQuantity)] =
+					sharedResults.computeIfAbsent(result, key -> key);
+			}
+		}
+	}
+
+	public PromotionResult find(int promotionQuantity, int purchasedQuantity) {
+		if (!hasTable || purchasedQuantity < 0 || purchasedQuantity > bound || promotionQuantity < 0) {
+			return calculate(promotionQuantity, purchasedQuantity);
+		}
+
+		int comparedPromotionQuantity = Math.min(promotionQuantity, purchasedQuantity + get + 1);
+		return results[indexOf(comparedPromotionQuantity, purchasedQuantity)];
+	}
+
+	private int indexOf(int promotionQuantity, int purchasedQuantity) {
+		return purchasedQuantity * (promotionQuantityLimit + 1) + promotionQuantity;
+	}
+
+	PromotionResult calculate(int promotionQuantity, int purchasedQuantity) {
+		int availablePromotionQuantity = Math.min(promotionQuantity, purchasedQuantity);
+		int restQuantity = PromotionFormula.calculateRestQuantity(buy, get, availablePromotionQuantity);
+
+		return PromotionResult.of(
+			PromotionFormula.calculateFreeQuantity(buy, get, availablePromotionQuantity),
+			PromotionFormula.calculateExtraQuantity(buy, get, restQuantity, purchasedQuantity, promotionQuantity),
+			PromotionFormula.calculateUnApplicableQuantity(restQuantity, purchasedQuantity, promotionQuantity)
+		);
+	}
+
+	public int getBound() {
+		return bound;
+	}
+
+	public boolean hasTable() {
+		return hasTable;
+	}
+}
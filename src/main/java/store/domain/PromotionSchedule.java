@@ -0,0 +1,151 @@
+package store.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class PromotionSchedule {
+
+	private static final int START_EVENT = 1;
+	private static final int END_EVENT = 0;
+	private static final int EVENT_TYPE_BITS = 1;
+	private static final int WORD_SHIFT = 6;
+	private static final int BOUNDARY_TIME_INDEX = 0;
+	private static final int BOUNDARY_EVENT_INDEX = 1;
+
+	private final Promotion[] promotions;
+	private final long[] eventTimes;
+	private final int[] events;
+	private volatile Window window;
+
+	private PromotionSchedule(Promotion[] promotions, long[] eventTimes, int[] events) {
+		this.promotions = promotions;
+		this.eventTimes = eventTimes;
+		this.events = events;
+		this.window = replay(new long[wordCountOf(promotions.length)], 0, Long.MIN_VALUE);
+	}
+
+	public static PromotionSchedule empty() {
+		return new PromotionSchedule(new Promotion[0], new long[0], new int[0]);
+	}
+
+	public static PromotionSchedule from(Promotions promotions) {
+		Promotion[] indexedPromotions = indexPromotions(promotions);
+		List<long[]> boundaries = new ArrayList<>();
+
+		for (Promotion promotion : indexedPromotions) {
+			if (hasWindow(promotion)) {
+				boundaries.add(new long[] {promotion.getStartEpochMillis(), eventOf(promotion, START_EVENT)});
+				boundaries.add(new long[] {promotion.getEndEpochMillis(), eventOf(promotion, END_EVENT)});
+			}
+		}
+		boundaries.sort(Comparator.comparingLong(boundary -> boundary[BOUNDARY_TIME_INDEX]));
+
+		long[] eventTimes = new long[boundaries.size()];
+		int[] events = new int[boundaries.size()];
+		for (int boundary = 0; boundary < boundaries.size(); boundary++) {
+			eventTimes[boundary] = boundaries.get(boundary)[BOUNDARY_TIME_INDEX];
+			events[boundary] = (int)boundaries.get(boundary)[BOUNDARY_EVENT_INDEX];
+		}
+		return new PromotionSchedule(indexedPromotions, eventTimes, events);
+	}
+
+	private static boolean hasWindow(Promotion promotion) {
+		return promotion != null && promotion.getStartEpochMillis() < promotion.getEndEpochMillis();
+	}
+
+	private static Promotion[] indexPromotions(Promotions promotions) {
+		int promotionCount = promotions.getPromotions().stream()
+			.filter(Promotion::hasIndex)
+			.mapToInt(promotion -> promotion.getIndex() + 1)
+			.max()
+			.orElse(0);
+
+		Promotion[] indexedPromotions = new Promotion[promotionCount];
+		for (Promotion promotion : promotions.getPromotions()) {
+			if (promotion.hasIndex()) {
+				indexedPromotions[promotion.getIndex()] = promotion;
+			}
+		}
+		return indexedPromotions;
+	}
+
+	private static long eventOf(Promotion promotion, int eventType) {
+		return ((long)promotion.getIndex() << EVENT_TYPE_BITS) | eventType;
+	}
+
+	private static int wordCountOf(int promotionCount) {
+		return (promotionCount + Long.SIZE - 1) >>> WORD_SHIFT;
+	}
+
+	public ActivePromotions at(long now) {
+		Window current = window;
+		if (!current.covers(now)) {
+			current = advanceTo(now);
+		}
+		return ActivePromotions.of(now, current.activeWords, promotions);
+	}
+
+	private synchronized Window advanceTo(long now) {
+		Window current = window;
+		if (current.covers(now)) {
+			return current;
+		}
+
+		Window next;
+		if (now >= current.validUntil) {
+			next = replay(current.activeWords.clone(), current.nextEvent, now);
+		} else {
+			next = replay(new long[current.activeWords.length], 0, now);
+		}
+		window = next;
+		return next;
+	}
+
+	private Window replay(long[] activeWords, int nextEvent, long now) {
+		while (nextEvent < eventTimes.length && eventTimes[nextEvent] <= now) {
+			flip(activeWords, events[nextEvent]);
+			nextEvent++;
+		}
+
+		long validFrom = Long.MIN_VALUE;
+		if (nextEvent > 0) {
+			validFrom = eventTimes[nextEvent - 1];
+		}
+		long validUntil = Long.MAX_VALUE;
+		if (nextEvent < eventTimes.length) {
+			validUntil = eventTimes[nextEvent];
+		}
+		return new Window(activeWords, nextEvent, validFrom, validUntil);
+	}
+
+	private void flip(long[] activeWords, int event) {
+		int promotionIndex = event >>> EVENT_TYPE_BITS;
+		long bit = 1L << promotionIndex;
+
+		if ((event & START_EVENT) == START_EVENT) {
+			activeWords[promotionIndex >>> WORD_SHIFT] |= bit;
+			return;
+		}
+		activeWords[promotionIndex >>> WORD_SHIFT] &= ~bit;
+	}
+
+	private static class Window {
+
+		private final long[] activeWords;
+		private final int nextEvent;
+		private final long validFrom;
+		private final long validUntil;
+
+		private Window(long[] activeWords, int nextEvent, long validFrom, long validUntil) {
+			this.activeWords = activeWords;
+			this.nextEvent = nextEvent;
+			this.validFrom = validFrom;
+			this.validUntil = validUntil;
+		}
+
+		private boolean covers(long now) {
+			return validFrom <= now && now < validUntil;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package store.domain;
 
+import java.util.Collection;
 import java.util.Map;
 
 public class Promotions {
@@ -17,4 +18,8 @@ public class Promotions {
 	public Promotion findBy(String promotionName) {
 		return promotions.getOrDefault(promotionName, Promotion.getNoneInstance());
 	}
+
+	public Collection<Promotion> getPromotions() {
+		return promotions.values();
+	}
 }
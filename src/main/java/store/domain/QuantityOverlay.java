@@ -0,0 +1,115 @@
+package store.domain;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+final class QuantityOverlay {
+
+	private static final int NOT_EXIST_ID = -1;
+	private static final int MINIMUM_CAPACITY = 16;
+
+	private final IntToLongFunction baseQuantities;
+	private int[] productIds;
+	private long[] quantities;
+	private volatile int size;
+
+	private QuantityOverlay(IntToLongFunction baseQuantities) {
+		this.baseQuantities = baseQuantities;
+		this.productIds = emptyProductIdsFor(MINIMUM_CAPACITY);
+		this.quantities = new long[MINIMUM_CAPACITY];
+	}
+
+	static QuantityOverlay over(IntToLongFunction baseQuantities) {
+		return new QuantityOverlay(baseQuantities);
+	}
+
+	long load(int productId) {
+		if (size == 0) {
+			return baseQuantities.applyAsLong(productId);
+		}
+
+		synchronized (this) {
+			int slot = slotOf(productIds, productId);
+			if (productIds[slot] == productId) {
+				return quantities[slot];
+			}
+		}
+		return baseQuantities.applyAsLong(productId);
+	}
+
+	synchronized boolean compareAndSet(int productId, long expected, long next) {
+		int slot = slotOf(productIds, productId);
+		long current = quantitiesAt(slot, productId);
+		if (current != expected) {
+			return false;
+		}
+		if (current != next) {
+			put(slot, productId, next);
+		}
+		return true;
+	}
+
+	synchronized void store(int productId, long next) {
+		int slot = slotOf(productIds, productId);
+		if (quantitiesAt(slot, productId) != next) {
+			put(slot, productId, next);
+		}
+	}
+
+	int size() {
+		return size;
+	}
+
+	private long quantitiesAt(int slot, int productId) {
+		if (productIds[slot] == productId) {
+			return quantities[slot];
+		}
+		return baseQuantities.applyAsLong(productId);
+	}
+
+	private void put(int slot, int productId, long next) {
+		if (productIds[slot] == productId) {
+			quantities[slot] = next;
+			return;
+		}
+
+		if ((size + 1) * 2 > productIds.length) {
+			rehash();
+			slot = slotOf(productIds, productId);
+		}
+		productIds[slot] = productId;
+		quantities[slot] = next;
+		size++;
+	}
+
+	private void rehash() {
+		int[] oldProductIds = productIds;
+		long[] oldQuantities = quantities;
+		productIds = emptyProductIdsFor(oldProductIds.length * 2);
+		quantities = new long[productIds.length];
+
+		for (int oldSlot = 0; oldSlot < oldProductIds.length; oldSlot++) {
+			if (oldProductIds[oldSlot] != NOT_EXIST_ID) {
+				int slot = slotOf(productIds, oldProductIds[oldSlot]);
+				productIds[slot] = oldProductIds[oldSlot];
+				quantities[slot] = oldQuantities[oldSlot];
+			}
+		}
+	}
+
+	private static int slotOf(int[] targetProductIds, int productId) {
+		int mask = targetProductIds.length - 1;
+		int hash = productId * 0x9E37_79B9;
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		while (targetProductIds[slot] != NOT_EXIST_ID && targetProductIds[slot] != productId) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private static int[] emptyProductIdsFor(int capacity) {
+		int[] emptyProductIds = new int[capacity];
+		Arrays.fill(emptyProductIds, NOT_EXIST_ID);
+		return emptyProductIds;
+	}
+}
@@ -0,0 +1,71 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+import java.util.List;
+
+public class ReceiptSummary {
+
+	private final long totalQuantity;
+	private final long totalPrice;
+	private final long promotionDiscount;
+	private final long memberShipDiscount;
+	private final long totalPayment;
+
+	private ReceiptSummary(long totalQuantity, long totalPrice, long promotionDiscount, long memberShipDiscount,
+		long totalPayment) {
+		this.totalQuantity = totalQuantity;
+		this.totalPrice = totalPrice;
+		this.promotionDiscount = promotionDiscount;
+		this.memberShipDiscount = memberShipDiscount;
+		this.totalPayment = totalPayment;
+	}
+
+	public static ReceiptSummary of(List<Receipt> receipts, MemberShip memberShip) {
+		try {
+			return calculate(receipts, memberShip);
+		} catch (ArithmeticException e) {
+			throw new IllegalArgumentException(OVER_FLOW_PAYMENT_AMOUNT.getMessage());
+		}
+	}
+
+	private static ReceiptSummary calculate(List<Receipt> receipts, MemberShip memberShip) {
+		long totalQuantity = 0;
+		long totalPrice = 0;
+		long promotionDiscount = 0;
+		long netPrice = 0;
+
+		for (int line = 0; line < receipts.size(); line++) {
+			Receipt receipt = receipts.get(line);
+			totalQuantity = Math.addExact(totalQuantity, receipt.getTotalQuantity());
+			totalPrice = Math.addExact(totalPrice, receipt.calculatePurchasedPrice());
+			promotionDiscount = Math.addExact(promotionDiscount, receipt.calculatePromotionDiscountPrice());
+			netPrice = Math.addExact(netPrice, receipt.calculateNetPurchasedPrice());
+		}
+
+		long memberShipDiscount = (long)(netPrice * memberShip.getDiscountRate());
+		long totalPayment = Math.subtractExact(Math.subtractExact(totalPrice, promotionDiscount), memberShipDiscount);
+
+		return new ReceiptSummary(totalQuantity, totalPrice, promotionDiscount, memberShipDiscount, totalPayment);
+	}
+
+	public long getTotalQuantity() {
+		return totalQuantity;
+	}
+
+	public long getTotalPrice() {
+		return totalPrice;
+	}
+
+	public long getPromotionDiscount() {
+		return promotionDiscount;
+	}
+
+	public long getMemberShipDiscount() {
+		return memberShipDiscount;
+	}
+
+	public long getTotalPayment() {
+		return totalPayment;
+	}
+}
@@ -6,10 +6,12 @@ public class Receipts {
 
 	private final List<Receipt> receipts;
 	private final MemberShip memberShip;
+	private final ReceiptSummary summary;
 
 	private Receipts(List<Receipt> receipts, MemberShip memberShip) {
 		this.receipts = receipts;
 		this.memberShip = memberShip;
+		this.summary = ReceiptSummary.of(receipts, memberShip);
 	}
 
 	public static Receipts from(List<Receipt> receipts, MemberShip memberShip) {
@@ -17,33 +19,27 @@ public class Receipts {
 	}
 
 	public long calculateTotalQuantity() {
-		return receipts.stream()
-			.mapToLong(Receipt::getTotalQuantity)
-			.sum();
+		return summary.getTotalQuantity();
 	}
 
 	public long calculateTotalPrice() {
-		return receipts.stream()
-			.mapToLong(Receipt::calculatePurchasedPrice)
-			.sum();
+		return summary.getTotalPrice();
 	}
 
 	public long calculateTotalPromotionDiscount() {
-		return receipts.stream()
-			.mapToLong(Receipt::calculatePromotionDiscountPrice)
-			.sum();
+		return summary.getPromotionDiscount();
 	}
 
 	public long calculateMemberShipDiscount() {
-		long netPrice = receipts.stream()
-			.mapToLong(Receipt::calculateNetPurchasedPrice)
-			.sum();
-
-		return (long)(netPrice * memberShip.getDiscountRate());
+		return summary.getMemberShipDiscount();
 	}
 
 	public long calculateTotalPayment() {
-		return calculateTotalPrice() - calculateTotalPromotionDiscount() - calculateMemberShipDiscount();
+		return summary.getTotalPayment();
+	}
+
+	public ReceiptSummary getSummary() {
+		return summary;
 	}
 
 	public List<Receipt> getReceipts() {
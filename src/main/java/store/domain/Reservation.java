@@ -0,0 +1,130 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import store.util.timer.WheelTimeout;
+
+public class Reservation {
+
+	private final Product[] products;
+	private final int[] quantities;
+	private final int[] stockIds;
+	private final Stock[] stocks;
+	private final long[] heldQuantities;
+	private final AtomicReference<ReservationStatus> status;
+	private volatile WheelTimeout expiryTimeout;
+
+	private Reservation(Product[] products, int[] quantities, int[] stockIds, Stock[] stocks,
+		long[] heldQuantities) {
+		this.products = products;
+		this.quantities = quantities;
+		this.stockIds = stockIds;
+		this.stocks = stocks;
+		this.heldQuantities = heldQuantities;
+		this.status = new AtomicReference<>(ReservationStatus.PENDING);
+	}
+
+	static Reservation of(Product[] products, int[] quantities, int[] stockIds, Stock[] stocks,
+		long[] heldQuantities) {
+		return new Reservation(products, quantities, stockIds, stocks, heldQuantities);
+	}
+
+	public PromotionResult calculatePromotion(int line, LocalDateTime openDateTime) {
+		return calculatePromotion(line, ActivePromotions.at(openDateTime));
+	}
+
+	public PromotionResult calculatePromotion(int line, ActivePromotions activePromotions) {
+		Stock stock = stocks[line];
+		int promotionQuantity = stock.getPromotionQuantity() + StockQuantity.promotionQuantity(heldQuantities[line]);
+
+		if (stock.hasActivePromotionProduct(activePromotions) && promotionQuantity > 0) {
+			return stock.calculatePromotion(quantities[line], activePromotions, promotionQuantity);
+		}
+
+		return PromotionResult.getNoneInstance();
+	}
+
+	void beginCommit() {
+		if (status.compareAndSet(ReservationStatus.PENDING, ReservationStatus.COMMITTING)) {
+			return;
+		}
+
+		if (status.get() == ReservationStatus.EXPIRED) {
+			throw new IllegalStateException(EXPIRED_RESERVATION.getMessage());
+		}
+		throw new IllegalStateException(WRONG_CALL_METHOD.getMessage());
+	}
+
+	void completeCommit() {
+		status.set(ReservationStatus.COMMITTED);
+		cancelExpiry();
+	}
+
+	void abortCommit() {
+		status.set(ReservationStatus.PENDING);
+	}
+
+	boolean markReleased() {
+		if (status.compareAndSet(ReservationStatus.PENDING, ReservationStatus.RELEASED)) {
+			cancelExpiry();
+			return true;
+		}
+		return false;
+	}
+
+	boolean markExpired() {
+		return status.compareAndSet(ReservationStatus.PENDING, ReservationStatus.EXPIRED);
+	}
+
+	void attachExpiry(WheelTimeout expiryTimeout) {
+		this.expiryTimeout = expiryTimeout;
+
+		if (!isPendingOrCommitting()) {
+			expiryTimeout.cancel();
+		}
+	}
+
+	private boolean isPendingOrCommitting() {
+		ReservationStatus currentStatus = status.get();
+		return currentStatus == ReservationStatus.PENDING || currentStatus == ReservationStatus.COMMITTING;
+	}
+
+	private void cancelExpiry() {
+		WheelTimeout timeout = expiryTimeout;
+
+		if (timeout != null) {
+			timeout.cancel();
+		}
+	}
+
+	public int size() {
+		return products.length;
+	}
+
+	public Product getProduct(int line) {
+		return products[line];
+	}
+
+	public int getQuantity(int line) {
+		return quantities[line];
+	}
+
+	int[] getStockIds() {
+		return stockIds;
+	}
+
+	Stock getStock(int line) {
+		return stocks[line];
+	}
+
+	long getHeldQuantities(int line) {
+		return heldQuantities[line];
+	}
+
+	public ReservationStatus getStatus() {
+		return status.get();
+	}
+}
@@ -0,0 +1,67 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import store.util.timer.HierarchicalTimingWheel;
+import store.util.timer.TimingWheelMetrics;
+import store.util.timer.TimingWheelTicker;
+import store.util.timer.WheelTimeout;
+
+public class ReservationExpiry implements AutoCloseable {
+
+	private static final long DEFAULT_TICK_MILLIS = 100;
+	private static final String EXPIRY_FAILURE_FORMAT = "%s %s%n";
+
+	private final HierarchicalTimingWheel timingWheel;
+	private final Duration timeToLive;
+	private final LongSupplier clockMillis;
+	private final TimingWheelTicker ticker;
+
+	private ReservationExpiry(HierarchicalTimingWheel timingWheel, Duration timeToLive, LongSupplier clockMillis,
+		TimingWheelTicker ticker) {
+		this.timingWheel = timingWheel;
+		this.timeToLive = timeToLive;
+		this.clockMillis = clockMillis;
+		this.ticker = ticker;
+	}
+
+	public static ReservationExpiry of(HierarchicalTimingWheel timingWheel, Duration timeToLive,
+		LongSupplier clockMillis) {
+		return new ReservationExpiry(timingWheel, timeToLive, clockMillis, null);
+	}
+
+	public static ReservationExpiry start(Duration timeToLive) {
+		LongSupplier clockMillis = () -> System.nanoTime() / 1_000_000;
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(DEFAULT_TICK_MILLIS, clockMillis.getAsLong());
+		TimingWheelTicker ticker = TimingWheelTicker.start(timingWheel, clockMillis, ReservationExpiry::reportFailure);
+
+		return new ReservationExpiry(timingWheel, timeToLive, clockMillis, ticker);
+	}
+
+	private static void reportFailure(RuntimeException failure) {
+		System.err.printf(EXPIRY_FAILURE_FORMAT, CAN_NOT_EXPIRE_RESERVATION.getMessage(), failure);
+	}
+
+	public void watch(Stocks stocks, Reservation reservation) {
+		WheelTimeout timeout = timingWheel.schedule(
+			() -> stocks.expire(reservation),
+			timeToLive.toMillis(),
+			clockMillis.getAsLong()
+		);
+		reservation.attachExpiry(timeout);
+	}
+
+	public TimingWheelMetrics getMetrics() {
+		return timingWheel.getMetrics();
+	}
+
+	@Override
+	public void close() {
+		if (ticker != null) {
+			ticker.close();
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package store.domain;
+
+public enum ReservationStatus {
+
+	PENDING,
+	COMMITTING,
+	COMMITTED,
+	RELEASED,
+	EXPIRED
+}
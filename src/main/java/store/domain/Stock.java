@@ -2,31 +2,49 @@ package store.domain;
 
 import static store.common.ErrorMessage.*;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+
 public class Stock {
 
+	private static final VarHandle QUANTITIES = MethodHandles.arrayElementVarHandle(long[].class);
+	private static final int OWN_SLOT = 0;
+
 	private final Product product;
-	private int promotionQuantity;
-	private int generalQuantity;
+	private final long[] quantities;
+	private final int slot;
+	private final QuantityOverlay overlay;
 
-	private Stock(Product product) {
+	private Stock(Product product, long[] quantities, int slot, QuantityOverlay overlay) {
 		this.product = product;
+		this.quantities = quantities;
+		this.slot = slot;
+		this.overlay = overlay;
 	}
 
 	public static Stock from(Product product) {
-		return new Stock(product);
+		return new Stock(product, new long[1], OWN_SLOT, null);
+	}
+
+	static Stock view(Product product, long[] quantityColumn, int slot) {
+		return new Stock(product, quantityColumn, slot, null);
+	}
+
+	static Stock overlay(Product product, QuantityOverlay overlay) {
+		return new Stock(product, null, OWN_SLOT, overlay);
 	}
 
 	public void incrementPromotionQuantity(int promotionQuantity) {
 		validateIncrementQuantity(promotionQuantity);
-		this.promotionQuantity += promotionQuantity;
+		restore(StockQuantity.pack(promotionQuantity, 0));
 	}
 
 	public void incrementGeneralQuantity(int generalQuantity) {
 		validateIncrementQuantity(generalQuantity);
-		this.generalQuantity += generalQuantity;
+		restore(StockQuantity.pack(0, generalQuantity));
 	}
 
 	private void validateIncrementQuantity(int quantity) {
@@ -36,71 +54,122 @@ public class Stock {
 	}
 
 	public void deductQuantity(int quantity, LocalDateTime now) {
-		if (hasActivePromotionProductAndExistPromotionQuantity(now)) {
-			deductQuantityWithPromotion(quantity);
-			return;
+		deduct(quantity, ActivePromotions.at(now));
+	}
+
+	long deduct(int quantity, ActivePromotions activePromotions) {
+		boolean hasActivePromotion = hasActivePromotionProduct(activePromotions);
+
+		while (true) {
+			long current = loadQuantities();
+			long deducted = calculateDeduction(current, quantity, hasActivePromotion);
+
+			if (compareAndSetQuantities(current, current - deducted)) {
+				return deducted;
+			}
 		}
+	}
 
-		validateDeductQuantityWithoutPromotion(quantity);
-		generalQuantity -= quantity;
+	long calculateDeduction(long current, int quantity, ActivePromotions activePromotions) {
+		return calculateDeduction(current, quantity, hasActivePromotionProduct(activePromotions));
 	}
 
-	private void deductQuantityWithPromotion(int quantity) {
-		validateDeductQuantityWithPromotion(quantity);
+	private long calculateDeduction(long current, int quantity, boolean hasActivePromotion) {
+		int promotionQuantity = StockQuantity.promotionQuantity(current);
+		int generalQuantity = StockQuantity.generalQuantity(current);
+
+		if (hasActivePromotion && promotionQuantity > 0) {
+			validateDeductQuantityWithPromotion(quantity, promotionQuantity, generalQuantity);
+			return calculateDeductionWithPromotion(quantity, promotionQuantity);
+		}
+
+		validateDeductQuantityWithoutPromotion(quantity, generalQuantity);
+		return StockQuantity.pack(0, quantity);
+	}
 
+	private long calculateDeductionWithPromotion(int quantity, int promotionQuantity) {
 		if (quantity > promotionQuantity) {
-			generalQuantity -= (quantity - promotionQuantity);
-			promotionQuantity = 0;
-			return;
+			return StockQuantity.pack(promotionQuantity, quantity - promotionQuantity);
 		}
 
-		promotionQuantity -= quantity;
+		return StockQuantity.pack(quantity, 0);
 	}
 
-	private void validateDeductQuantityWithPromotion(int quantity) {
-		if (quantity > promotionQuantity + generalQuantity) {
+	private void validateDeductQuantityWithPromotion(int quantity, int promotionQuantity, int generalQuantity) {
+		if ((long)quantity > (long)promotionQuantity + generalQuantity) {
 			throw new IllegalArgumentException(OVER_FLOW_STOCK_QUANTITY.getMessage());
 		}
 	}
 
-	private void validateDeductQuantityWithoutPromotion(int quantity) {
+	private void validateDeductQuantityWithoutPromotion(int quantity, int generalQuantity) {
 		if (quantity > generalQuantity) {
 			throw new IllegalArgumentException(OVER_FLOW_STOCK_QUANTITY.getMessage());
 		}
 	}
 
-	public PromotionResult calculatePromotion(int purchasedQuantity, LocalDateTime openDateTime) {
-		validatePromotionActive(openDateTime);
-
-		int availablePromotionQuantity = Math.min(promotionQuantity, purchasedQuantity);
-		int freeQuantity = product.calculateFreeQuantity(availablePromotionQuantity);
-		int restQuantity = product.calculateRestQuantity(availablePromotionQuantity);
-		int extraQuantity = calculateExtraQuantity(purchasedQuantity, availablePromotionQuantity);
-		int unApplicableQuantity = calculateUnApplicableQuantity(purchasedQuantity, restQuantity);
+	void restore(long restoredQuantities) {
+		while (true) {
+			long current = loadQuantities();
+			long next = StockQuantity.add(current, restoredQuantities);
 
-		return PromotionResult.of(freeQuantity, extraQuantity, unApplicableQuantity);
+			if (compareAndSetQuantities(current, next)) {
+				return;
+			}
+		}
 	}
 
-	private void validatePromotionActive(LocalDateTime openDateTime) {
-		if (!hasActivePromotionProductAndExistPromotionQuantity(openDateTime)) {
-			throw new IllegalStateException(WRONG_CALL_METHOD.getMessage());
+	void withdraw(long withdrawnQuantities) {
+		while (true) {
+			long current = loadQuantities();
+			validateWithdrawQuantities(current, withdrawnQuantities);
+
+			if (compareAndSetQuantities(current, current - withdrawnQuantities)) {
+				return;
+			}
 		}
 	}
 
-	private int calculateExtraQuantity(int purchasedQuantity, int availablePromotionQuantity) {
-		int extraQuantity = product.calculateExtraQuantity(availablePromotionQuantity);
+	private void validateWithdrawQuantities(long current, long withdrawnQuantities) {
+		int promotionQuantity = StockQuantity.promotionQuantity(withdrawnQuantities);
+		int generalQuantity = StockQuantity.generalQuantity(withdrawnQuantities);
 
-		if (promotionQuantity >= purchasedQuantity + extraQuantity) {
-			return extraQuantity;
+		if (promotionQuantity < 0 || generalQuantity < 0
+			|| promotionQuantity > StockQuantity.promotionQuantity(current)
+			|| generalQuantity > StockQuantity.generalQuantity(current)) {
+			throw new IllegalArgumentException(OVER_FLOW_STOCK_QUANTITY.getMessage());
 		}
-		return 0;
 	}
 
-	private int calculateUnApplicableQuantity(int purchasedQuantity, int restQuantity) {
-		if (promotionQuantity > purchasedQuantity) {
-			return 0;
+	void overwrite(long overwrittenQuantities) {
+		if (StockQuantity.promotionQuantity(overwrittenQuantities) < 0
+			|| StockQuantity.generalQuantity(overwrittenQuantities) < 0) {
+			throw new IllegalArgumentException(OVER_FLOW_STOCK_QUANTITY.getMessage());
+		}
+		if (overlay != null) {
+			overlay.store(product.getId(), overwrittenQuantities);
+			return;
+		}
+		QUANTITIES.setVolatile(quantities, slot, overwrittenQuantities);
+	}
+
+	public PromotionResult calculatePromotion(int purchasedQuantity, LocalDateTime openDateTime) {
+		return calculatePromotion(purchasedQuantity, ActivePromotions.at(openDateTime));
+	}
+
+	public PromotionResult calculatePromotion(int purchasedQuantity, ActivePromotions activePromotions) {
+		return calculatePromotion(purchasedQuantity, activePromotions, getPromotionQuantity());
+	}
+
+	PromotionResult calculatePromotion(int purchasedQuantity, ActivePromotions activePromotions,
+		int promotionQuantity) {
+		validatePromotionActive(activePromotions, promotionQuantity);
+		return product.calculatePromotionResult(promotionQuantity, purchasedQuantity);
+	}
+
+	private void validatePromotionActive(ActivePromotions activePromotions, int promotionQuantity) {
+		if (!hasActivePromotionProduct(activePromotions) || promotionQuantity <= 0) {
+			throw new IllegalStateException(WRONG_CALL_METHOD.getMessage());
 		}
-		return purchasedQuantity - promotionQuantity + restQuantity;
 	}
 
 	public boolean hasPromotionProduct() {
@@ -108,11 +177,19 @@ public class Stock {
 	}
 
 	public boolean hasActivePromotionProductAndExistPromotionQuantity(LocalDateTime comparedDateTime) {
-		return hasActivePromotionProduct(comparedDateTime) && promotionQuantity > 0;
+		return hasActivePromotionProductAndExistPromotionQuantity(ActivePromotions.at(comparedDateTime));
+	}
+
+	public boolean hasActivePromotionProductAndExistPromotionQuantity(ActivePromotions activePromotions) {
+		return hasActivePromotionProduct(activePromotions) && getPromotionQuantity() > 0;
 	}
 
 	public boolean hasActivePromotionProduct(LocalDateTime comparedDateTime) {
-		return product.hasActivePromotion(comparedDateTime);
+		return hasActivePromotionProduct(ActivePromotions.at(comparedDateTime));
+	}
+
+	public boolean hasActivePromotionProduct(ActivePromotions activePromotions) {
+		return product.hasActivePromotion(activePromotions);
 	}
 
 	public void validateOverFlowPurchasedQuantity(int purchasedQuantity) {
@@ -122,7 +199,29 @@ public class Stock {
 	}
 
 	private boolean hasOverFlowPurchasedQuantity(int purchasedQuantity) {
-		return purchasedQuantity > promotionQuantity + generalQuantity;
+		return purchasedQuantity > StockQuantity.totalQuantity(loadQuantities());
+	}
+
+	long getQuantities() {
+		return loadQuantities();
+	}
+
+	private long loadQuantities() {
+		if (overlay != null) {
+			return overlay.load(product.getId());
+		}
+		return loadQuantities(quantities, slot);
+	}
+
+	static long loadQuantities(long[] quantityColumn, int slot) {
+		return (long)QUANTITIES.getVolatile(quantityColumn, slot);
+	}
+
+	private boolean compareAndSetQuantities(long expected, long next) {
+		if (overlay != null) {
+			return overlay.compareAndSet(product.getId(), expected, next);
+		}
+		return QUANTITIES.compareAndSet(quantities, slot, expected, next);
 	}
 
 	public Product getProduct() {
@@ -130,11 +229,11 @@ public class Stock {
 	}
 
 	public int getPromotionQuantity() {
-		return promotionQuantity;
+		return StockQuantity.promotionQuantity(loadQuantities());
 	}
 
 	public int getGeneralQuantity() {
-		return generalQuantity;
+		return StockQuantity.generalQuantity(loadQuantities());
 	}
 
 	@Override
@@ -0,0 +1,22 @@
+package store.domain;
+
+public interface StockCatalog {
+
+	int getProductCount();
+
+	int findProductIdBy(String productName);
+
+	String getProductName(int productId);
+
+	int getPrice(int productId);
+
+	boolean hasPromotion(int productId);
+
+	int getPromotionIndex(int productId);
+
+	int getPromotionQuantity(int productId);
+
+	int getGeneralQuantity(int productId);
+
+	int getProductIdInNameOrder(int rank);
+}
@@ -0,0 +1,87 @@
+package store.domain;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+public class StockChangeLog {
+
+	private static final int DEFAULT_CAPACITY = 1 << 14;
+	private static final int MAXIMUM_SPIN_COUNT = 1 << 10;
+	private static final long PRODUCT_ID_MASK = 0xFFFF_FFFFL;
+
+	private final AtomicLongArray entries;
+	private final AtomicLong nextSequence;
+	private final int mask;
+
+	private StockChangeLog(int capacity) {
+		this.entries = new AtomicLongArray(capacity);
+		this.nextSequence = new AtomicLong();
+		this.mask = capacity - 1;
+
+		for (int slot = 0; slot < capacity; slot++) {
+			entries.set(slot, entryOf(slot - capacity, 0));
+		}
+	}
+
+	static StockChangeLog create() {
+		return of(DEFAULT_CAPACITY);
+	}
+
+	static StockChangeLog of(int minimumCapacity) {
+		return new StockChangeLog(Integer.highestOneBit(Math.max(1, minimumCapacity) * 2 - 1));
+	}
+
+	void record(int productId) {
+		long sequence = nextSequence.getAndIncrement();
+		entries.setRelease(slotOf(sequence), entryOf(sequence, productId));
+	}
+
+	void recordAll(int[] productIds, int count) {
+		for (int line = 0; line < count; line++) {
+			record(productIds[line]);
+		}
+	}
+
+	public long getSequence() {
+		return nextSequence.get();
+	}
+
+	public boolean forEachChanged(long fromSequence, long toSequence, IntConsumer action) {
+		if (toSequence - fromSequence > entries.length()) {
+			return false;
+		}
+
+		for (long sequence = fromSequence; sequence < toSequence; sequence++) {
+			long entry = awaitEntry(sequence);
+			if (lapOf(entry, sequence) != 0) {
+				return false;
+			}
+			action.accept((int)(entry & PRODUCT_ID_MASK));
+		}
+		return true;
+	}
+
+	private long awaitEntry(long sequence) {
+		long entry = entries.getAcquire(slotOf(sequence));
+		int spinCount = 0;
+
+		while (lapOf(entry, sequence) < 0 && spinCount++ < MAXIMUM_SPIN_COUNT) {
+			Thread.onSpinWait();
+			entry = entries.getAcquire(slotOf(sequence));
+		}
+		return entry;
+	}
+
+	private int slotOf(long sequence) {
+		return (int)(sequence & mask);
+	}
+
+	private static long entryOf(long sequence, int productId) {
+		return (sequence << Integer.SIZE) | (productId & PRODUCT_ID_MASK);
+	}
+
+	private static int lapOf(long entry, long sequence) {
+		return Integer.signum((int)(entry >>> Integer.SIZE) - (int)sequence);
+	}
+}
@@ -0,0 +1,227 @@
+package store.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+class StockFilterIndex {
+
+	private static final int NONE_PROMOTION_SLOT = -1;
+
+	private final StockTable stockTable;
+	private final StockChangeLog stockChangeLog;
+	private final int[] productIdsByRank;
+	private final int[] ranksByProductId;
+	private final Map<Promotion, Integer> slotsByPromotion;
+	private final Promotion[] promotions;
+	private final int[][] ranksByPromotion;
+	private final BitSet inStockRanks;
+	private final BitSet[] inStockPositionsByPromotion;
+	private long syncedSequence;
+
+	private StockFilterIndex(StockTable stockTable, StockChangeLog stockChangeLog, int[] productIdsByRank,
+		Map<Promotion, Integer> slotsByPromotion, Promotion[] promotions, int[][] ranksByPromotion) {
+		this.stockTable = stockTable;
+		this.stockChangeLog = stockChangeLog;
+		this.productIdsByRank = productIdsByRank;
+		this.ranksByProductId = new int[productIdsByRank.length];
+		this.slotsByPromotion = slotsByPromotion;
+		this.promotions = promotions;
+		this.ranksByPromotion = ranksByPromotion;
+		this.inStockRanks = new BitSet(productIdsByRank.length);
+		this.inStockPositionsByPromotion = new BitSet[promotions.length];
+
+		for (int rank = 0; rank < productIdsByRank.length; rank++) {
+			ranksByProductId[productIdsByRank[rank]] = rank;
+		}
+		for (int slot = 0; slot < promotions.length; slot++) {
+			inStockPositionsByPromotion[slot] = new BitSet(ranksByPromotion[slot].length);
+		}
+		rebuildInStockRanks();
+	}
+
+	static StockFilterIndex from(StockTable stockTable, StockChangeLog stockChangeLog) {
+		int[] productIdsByRank = stockTable.findProductIdsInNameOrder();
+		int[] slotsByProductId = new int[productIdsByRank.length];
+		Map<Promotion, Integer> slotsByPromotion = new IdentityHashMap<>();
+		List<Promotion> promotions = new ArrayList<>();
+
+		for (int productId = 0; productId < slotsByProductId.length; productId++) {
+			Promotion promotion = stockTable.getPromotion(productId);
+			slotsByProductId[productId] = NONE_PROMOTION_SLOT;
+			if (promotion.isPromotion()) {
+				slotsByProductId[productId] = slotOf(promotion, slotsByPromotion, promotions);
+			}
+		}
+
+		return new StockFilterIndex(stockTable, stockChangeLog, productIdsByRank, slotsByPromotion,
+			promotions.toArray(Promotion[]::new), groupRanks(productIdsByRank, slotsByProductId, promotions.size()));
+	}
+
+	private static int slotOf(Promotion promotion, Map<Promotion, Integer> slotsByPromotion,
+		List<Promotion> promotions) {
+		Integer slot = slotsByPromotion.get(promotion);
+		if (slot == null) {
+			slot = promotions.size();
+			slotsByPromotion.put(promotion, slot);
+			promotions.add(promotion);
+		}
+		return slot;
+	}
+
+	private static int[][] groupRanks(int[] productIdsByRank, int[] slotsByProductId, int slotCount) {
+		int[] rankCounts = new int[slotCount];
+		for (int slot : slotsByProductId) {
+			if (slot != NONE_PROMOTION_SLOT) {
+				rankCounts[slot]++;
+			}
+		}
+
+		int[][] ranksByPromotion = new int[slotCount][];
+		for (int slot = 0; slot < slotCount; slot++) {
+			ranksByPromotion[slot] = new int[rankCounts[slot]];
+		}
+		int[] positions = new int[slotCount];
+		for (int rank = 0; rank < productIdsByRank.length; rank++) {
+			int slot = slotsByProductId[productIdsByRank[rank]];
+			if (slot != NONE_PROMOTION_SLOT) {
+				ranksByPromotion[slot][positions[slot]++] = rank;
+			}
+		}
+		return ranksByPromotion;
+	}
+
+	StockPage findPage(StockQuery query, ActivePromotions activePromotions, int startRank, int endRank) {
+		syncInStockRanks();
+		if (query.isPromotedOnly()) {
+			return findPromotedPage(query, activePromotions, startRank, endRank);
+		}
+
+		List<Stock> stocks = new ArrayList<>();
+		int rank = nextRank(query, startRank, endRank);
+		while (rank < endRank && stocks.size() < query.getPageSize()) {
+			stocks.add(stockTable.getStock(productIdsByRank[rank]));
+			rank = nextRank(query, rank + 1, endRank);
+		}
+		return StockPage.of(stocks, query.startingAt(rank), rank < endRank);
+	}
+
+	private int nextRank(StockQuery query, int rank, int endRank) {
+		if (!query.isInStockOnly()) {
+			return Math.min(rank, endRank);
+		}
+		return boundedNextSetBit(inStockRanks, rank, endRank);
+	}
+
+	private StockPage findPromotedPage(StockQuery query, ActivePromotions activePromotions, int startRank,
+		int endRank) {
+		int[] activeSlots = findActiveSlots(activePromotions);
+		int[] positions = new int[activeSlots.length];
+		for (int cursor = 0; cursor < activeSlots.length; cursor++) {
+			int[] ranks = ranksByPromotion[activeSlots[cursor]];
+			positions[cursor] = nextPosition(query, activeSlots[cursor], lowerBoundOf(ranks, startRank));
+		}
+
+		List<Stock> stocks = new ArrayList<>();
+		int rank = headRank(activeSlots, positions, endRank);
+		while (rank < endRank && stocks.size() < query.getPageSize()) {
+			stocks.add(stockTable.getStock(productIdsByRank[rank]));
+			advance(query, activeSlots, positions, rank);
+			rank = headRank(activeSlots, positions, endRank);
+		}
+		return StockPage.of(stocks, query.startingAt(rank), rank < endRank);
+	}
+
+	private int[] findActiveSlots(ActivePromotions activePromotions) {
+		int[] activeSlots = new int[promotions.length];
+		int activeCount = 0;
+		for (int slot = 0; slot < promotions.length; slot++) {
+			if (activePromotions.contains(promotions[slot])) {
+				activeSlots[activeCount++] = slot;
+			}
+		}
+		return Arrays.copyOf(activeSlots, activeCount);
+	}
+
+	private int nextPosition(StockQuery query, int slot, int position) {
+		if (!query.isInStockOnly()) {
+			return position;
+		}
+		return boundedNextSetBit(inStockPositionsByPromotion[slot], position, ranksByPromotion[slot].length);
+	}
+
+	private int headRank(int[] activeSlots, int[] positions, int endRank) {
+		int rank = endRank;
+		for (int cursor = 0; cursor < activeSlots.length; cursor++) {
+			int[] ranks = ranksByPromotion[activeSlots[cursor]];
+			if (positions[cursor] < ranks.length) {
+				rank = Math.min(rank, ranks[positions[cursor]]);
+			}
+		}
+		return rank;
+	}
+
+	private void advance(StockQuery query, int[] activeSlots, int[] positions, int rank) {
+		for (int cursor = 0; cursor < activeSlots.length; cursor++) {
+			int[] ranks = ranksByPromotion[activeSlots[cursor]];
+			if (positions[cursor] < ranks.length && ranks[positions[cursor]] == rank) {
+				positions[cursor] = nextPosition(query, activeSlots[cursor], positions[cursor] + 1);
+			}
+		}
+	}
+
+	private void syncInStockRanks() {
+		long sequence = stockChangeLog.getSequence();
+		if (!stockChangeLog.forEachChanged(syncedSequence, sequence, this::updateInStock)) {
+			rebuildInStockRanks();
+			return;
+		}
+		syncedSequence = sequence;
+	}
+
+	private void rebuildInStockRanks() {
+		syncedSequence = stockChangeLog.getSequence();
+		for (int productId = 0; productId < ranksByProductId.length; productId++) {
+			inStockRanks.set(ranksByProductId[productId], isInStock(productId));
+		}
+		for (int slot = 0; slot < promotions.length; slot++) {
+			for (int position = 0; position < ranksByPromotion[slot].length; position++) {
+				inStockPositionsByPromotion[slot].set(position, inStockRanks.get(ranksByPromotion[slot][position]));
+			}
+		}
+	}
+
+	private void updateInStock(int productId) {
+		int rank = ranksByProductId[productId];
+		boolean inStock = isInStock(productId);
+		inStockRanks.set(rank, inStock);
+
+		Integer slot = slotsByPromotion.get(stockTable.getPromotion(productId));
+		if (slot != null) {
+			inStockPositionsByPromotion[slot].set(lowerBoundOf(ranksByPromotion[slot], rank), inStock);
+		}
+	}
+
+	private boolean isInStock(int productId) {
+		return stockTable.getPromotionQuantity(productId) > 0 || stockTable.getGeneralQuantity(productId) > 0;
+	}
+
+	private static int boundedNextSetBit(BitSet bits, int from, int end) {
+		int next = bits.nextSetBit(from);
+		if (next < 0 || next > end) {
+			return end;
+		}
+		return next;
+	}
+
+	private static int lowerBoundOf(int[] ranks, int rank) {
+		int position = Arrays.binarySearch(ranks, rank);
+		if (position < 0) {
+			return -position - 1;
+		}
+		return position;
+	}
+}
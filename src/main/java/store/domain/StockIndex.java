@@ -0,0 +1,75 @@
+package store.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class StockIndex {
+
+	private final StockTable stockTable;
+	private final StockChangeLog stockChangeLog;
+	private StockFilterIndex filterIndex;
+
+	private StockIndex(StockTable stockTable, StockChangeLog stockChangeLog) {
+		this.stockTable = stockTable;
+		this.stockChangeLog = stockChangeLog;
+	}
+
+	static StockIndex from(StockTable stockTable, StockChangeLog stockChangeLog) {
+		return new StockIndex(stockTable, stockChangeLog);
+	}
+
+	synchronized StockPage findPage(StockQuery query, ActivePromotions activePromotions) {
+		int startRank = Math.max(query.getStartRank(), lowerBoundOf(query.getNamePrefix()));
+		int endRank = upperBoundOf(query.getNamePrefix());
+		if (query.isPromotedOnly() || query.isInStockOnly()) {
+			return getFilterIndex().findPage(query, activePromotions, startRank, endRank);
+		}
+
+		List<Stock> stocks = new ArrayList<>();
+		int rank = Math.min(startRank, endRank);
+		while (rank < endRank && stocks.size() < query.getPageSize()) {
+			stocks.add(stockTable.getStock(stockTable.getProductIdInNameOrder(rank)));
+			rank++;
+		}
+		return StockPage.of(stocks, query.startingAt(rank), rank < endRank);
+	}
+
+	private StockFilterIndex getFilterIndex() {
+		if (filterIndex == null) {
+			filterIndex = StockFilterIndex.from(stockTable, stockChangeLog);
+		}
+		return filterIndex;
+	}
+
+	private int lowerBoundOf(String namePrefix) {
+		int low = 0;
+		int high = stockTable.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (nameAt(middle).compareTo(namePrefix) < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private int upperBoundOf(String namePrefix) {
+		int low = lowerBoundOf(namePrefix);
+		int high = stockTable.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (nameAt(middle).startsWith(namePrefix)) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private String nameAt(int rank) {
+		return stockTable.getName(stockTable.getProductIdInNameOrder(rank));
+	}
+}
@@ -0,0 +1,13 @@
+package store.domain;
+
+public interface StockJournal extends AutoCloseable {
+
+	static StockJournal getNoneInstance() {
+		return NoneStockJournal.INSTANCE;
+	}
+
+	void append(int[] productIds, int[] promotionQuantities, int[] generalQuantities, int lineCount);
+
+	@Override
+	void close();
+}
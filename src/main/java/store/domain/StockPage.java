@@ -0,0 +1,32 @@
+package store.domain;
+
+import java.util.List;
+
+public class StockPage {
+
+	private final List<Stock> stocks;
+	private final StockQuery nextQuery;
+	private final boolean hasNext;
+
+	private StockPage(List<Stock> stocks, StockQuery nextQuery, boolean hasNext) {
+		this.stocks = stocks;
+		this.nextQuery = nextQuery;
+		this.hasNext = hasNext;
+	}
+
+	static StockPage of(List<Stock> stocks, StockQuery nextQuery, boolean hasNext) {
+		return new StockPage(List.copyOf(stocks), nextQuery, hasNext);
+	}
+
+	public List<Stock> getStocks() {
+		return stocks;
+	}
+
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	public StockQuery nextQuery() {
+		return nextQuery;
+	}
+}
@@ -0,0 +1,38 @@
+package store.domain;
+
+final class StockQuantity {
+
+	private static final int QUANTITY_BITS = Integer.SIZE;
+	private static final long QUANTITY_MASK = 0xFFFF_FFFFL;
+
+	private StockQuantity() {
+	}
+
+	static long pack(int promotionQuantity, int generalQuantity) {
+		return ((long)promotionQuantity << QUANTITY_BITS) | (generalQuantity & QUANTITY_MASK);
+	}
+
+	static int promotionQuantity(long quantities) {
+		return (int)(quantities >>> QUANTITY_BITS);
+	}
+
+	static int generalQuantity(long quantities) {
+		return (int)(quantities & QUANTITY_MASK);
+	}
+
+	static long totalQuantity(long quantities) {
+		return (long)promotionQuantity(quantities) + generalQuantity(quantities);
+	}
+
+	static long add(long quantities, long addedQuantities) {
+		return pack(
+			Math.addExact(promotionQuantity(quantities), promotionQuantity(addedQuantities)),
+			Math.addExact(generalQuantity(quantities), generalQuantity(addedQuantities))
+		);
+	}
+
+	static long keep(long heldQuantities, int keptQuantity) {
+		int keptPromotionQuantity = Math.min(keptQuantity, promotionQuantity(heldQuantities));
+		return pack(keptPromotionQuantity, keptQuantity - keptPromotionQuantity);
+	}
+}
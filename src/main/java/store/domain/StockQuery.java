@@ -0,0 +1,73 @@
+package store.domain;
+
+import static store.common.ErrorMessage.*;
+
+public class StockQuery {
+
+	private static final String NO_NAME_PREFIX = "";
+	private static final int FIRST_RANK = 0;
+
+	private final String namePrefix;
+	private final boolean promotedOnly;
+	private final boolean inStockOnly;
+	private final int pageSize;
+	private final int startRank;
+
+	private StockQuery(String namePrefix, boolean promotedOnly, boolean inStockOnly, int pageSize, int startRank) {
+		this.namePrefix = namePrefix;
+		this.promotedOnly = promotedOnly;
+		this.inStockOnly = inStockOnly;
+		this.pageSize = pageSize;
+		this.startRank = startRank;
+	}
+
+	public static StockQuery firstPage(int pageSize) {
+		validatePageSize(pageSize);
+		return new StockQuery(NO_NAME_PREFIX, false, false, pageSize, FIRST_RANK);
+	}
+
+	private static void validatePageSize(int pageSize) {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+	}
+
+	public StockQuery withNamePrefix(String namePrefix) {
+		if (namePrefix == null) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+		return new StockQuery(namePrefix, promotedOnly, inStockOnly, pageSize, FIRST_RANK);
+	}
+
+	public StockQuery withPromotedOnly() {
+		return new StockQuery(namePrefix, true, inStockOnly, pageSize, FIRST_RANK);
+	}
+
+	public StockQuery withInStockOnly() {
+		return new StockQuery(namePrefix, promotedOnly, true, pageSize, FIRST_RANK);
+	}
+
+	StockQuery startingAt(int rank) {
+		return new StockQuery(namePrefix, promotedOnly, inStockOnly, pageSize, rank);
+	}
+
+	public String getNamePrefix() {
+		return namePrefix;
+	}
+
+	public boolean isPromotedOnly() {
+		return promotedOnly;
+	}
+
+	public boolean isInStockOnly() {
+		return inStockOnly;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	int getStartRank() {
+		return startRank;
+	}
+}
@@ -0,0 +1,28 @@
+package store.domain;
+
+import java.util.Map;
+
+public interface StockTable {
+
+	int size();
+
+	Stock getStock(int productId);
+
+	String getName(int productId);
+
+	Promotion getPromotion(int productId);
+
+	int getPromotionQuantity(int productId);
+
+	int getGeneralQuantity(int productId);
+
+	int getProductIdInNameOrder(int rank);
+
+	int[] findProductIdsInNameOrder();
+
+	boolean holds(int productId, Product product);
+
+	int findIdBy(String productName);
+
+	Map<String, Stock> asMap();
+}
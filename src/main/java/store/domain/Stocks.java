@@ -3,56 +3,388 @@ package store.domain;
 import static store.common.ErrorMessage.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
+import store.util.EpochMillis;
+import store.util.StripedLock;
+
 public class Stocks {
 
-	private final Map<String, Stock> stocks;
+	private static final int LOCK_STRIPE_COUNT = 64;
+
+	private final StockTable stockTable;
+	private final StripedLock stripedLock;
+	private final PromotionSchedule promotionSchedule;
+	private final StockChangeLog stockChangeLog;
+	private volatile StockIndex stockIndex;
+	private volatile StockJournal stockJournal;
 
-	private Stocks(Map<String, Stock> stocks) {
-		this.stocks = stocks;
+	private Stocks(StockTable stockTable, PromotionSchedule promotionSchedule) {
+		this.stockTable = stockTable;
+		this.stripedLock = StripedLock.of(LOCK_STRIPE_COUNT);
+		this.promotionSchedule = promotionSchedule;
+		this.stockChangeLog = StockChangeLog.create();
+		this.stockJournal = StockJournal.getNoneInstance();
 	}
 
 	public static Stocks from(Map<String, Stock> stocks) {
-		return new Stocks(stocks);
+		return from(stocks, PromotionSchedule.empty());
+	}
+
+	public static Stocks from(Map<String, Stock> stocks, PromotionSchedule promotionSchedule) {
+		return new Stocks(ObjectStockTable.from(stocks), promotionSchedule);
+	}
+
+	public static Stocks from(StockTable stockTable) {
+		return from(stockTable, PromotionSchedule.empty());
+	}
+
+	public static Stocks from(StockTable stockTable, PromotionSchedule promotionSchedule) {
+		return new Stocks(stockTable, promotionSchedule);
+	}
+
+	public ActivePromotions activePromotionsAt(long now) {
+		return promotionSchedule.at(now);
+	}
+
+	public int findProductIdBy(String productName) {
+		int productId = stockTable.findIdBy(productName);
+		validateExistProduct(productId);
+		return productId;
 	}
 
 	public Product findAvailableProductBy(String productName, int purchasedQuantity) {
-		Stock stock = stocks.get(productName);
+		return findAvailableProductBy(findProductIdBy(productName), purchasedQuantity);
+	}
 
-		validateExistProduct(productName);
+	public Product findAvailableProductBy(int productId, int purchasedQuantity) {
+		Stock stock = getStock(productId);
 		stock.validateOverFlowPurchasedQuantity(purchasedQuantity);
 
 		return stock.getProduct();
 	}
 
-	private void validateExistProduct(String productName) {
-		if (!stocks.containsKey(productName)) {
+	private void validateExistProduct(int productId) {
+		if (productId < 0 || productId >= stockTable.size()) {
 			throw new IllegalArgumentException(NOT_EXIST_PRODUCT.getMessage());
 		}
 	}
 
 	public PromotionResult calculatePromotion(String productName, int purchasedQuantity,
 		LocalDateTime openDateTime) {
-		Stock stock = stocks.get(productName);
+		return calculatePromotion(findProductIdBy(productName), purchasedQuantity, openDateTime);
+	}
+
+	public PromotionResult calculatePromotion(int productId, int purchasedQuantity, LocalDateTime openDateTime) {
+		return calculatePromotion(productId, purchasedQuantity, activePromotionsAt(EpochMillis.of(openDateTime)));
+	}
+
+	public PromotionResult calculatePromotion(int productId, int purchasedQuantity,
+		ActivePromotions activePromotions) {
+		Stock stock = getStock(productId);
 
-		if (stock.hasActivePromotionProductAndExistPromotionQuantity(openDateTime)) {
-			return stock.calculatePromotion(purchasedQuantity, openDateTime);
+		if (stock.hasActivePromotionProductAndExistPromotionQuantity(activePromotions)) {
+			return stock.calculatePromotion(purchasedQuantity, activePromotions);
 		}
 
-		return PromotionResult.of(0, 0, 0);
+		return PromotionResult.getNoneInstance();
 	}
 
 	public void deductQuantity(Receipts receipts, LocalDateTime now) {
+		deductQuantity(receipts, activePromotionsAt(EpochMillis.of(now)));
+	}
+
+	public void deductQuantity(Receipts receipts, ActivePromotions activePromotions) {
+		List<Receipt> receiptList = receipts.getReceipts();
+		int[] lineIds = new int[receiptList.size()];
+		int[] lineQuantities = new int[receiptList.size()];
+
+		for (int line = 0; line < lineIds.length; line++) {
+			Receipt receipt = receiptList.get(line);
+			lineIds[line] = idOf(receipt.getProduct());
+			lineQuantities[line] = receipt.getTotalQuantity();
+		}
+
+		long[] deductedQuantities = deductAllOrNothing(lineIds, lineQuantities, activePromotions);
+		try {
+			journal(lineIds, deductedQuantities);
+		} catch (IllegalStateException e) {
+			restore(lineIds, deductedQuantities);
+			throw e;
+		}
+	}
+
+	public Reservation reserve(Order order, LocalDateTime now) {
+		return reserve(order, activePromotionsAt(EpochMillis.of(now)));
+	}
+
+	public Reservation reserve(Order order, ActivePromotions activePromotions) {
+		Product[] products = new Product[order.size()];
+		int[] lineIds = new int[order.size()];
+		int[] lineQuantities = new int[order.size()];
+
+		for (int line = 0; line < products.length; line++) {
+			products[line] = order.getProduct(line);
+			lineIds[line] = idOf(products[line]);
+			lineQuantities[line] = order.getQuantity(line);
+		}
+
+		long[] heldQuantities = deductAllOrNothing(lineIds, lineQuantities, activePromotions);
+		return Reservation.of(products, lineQuantities, lineIds, stocksOf(lineIds), heldQuantities);
+	}
+
+	private int idOf(Product product) {
+		int productId = product.getId();
+		if (product.hasId() && productId < stockTable.size() && stockTable.holds(productId, product)) {
+			return productId;
+		}
+		return findProductIdBy(product.getName());
+	}
+
+	private Stock[] stocksOf(int[] lineIds) {
+		Stock[] lineStocks = new Stock[lineIds.length];
+		for (int line = 0; line < lineIds.length; line++) {
+			lineStocks[line] = stockTable.getStock(lineIds[line]);
+		}
+		return lineStocks;
+	}
+
+	public void commit(Reservation reservation, Receipts receipts, LocalDateTime now) {
+		commit(reservation, receipts, activePromotionsAt(EpochMillis.of(now)));
+	}
+
+	public void commit(Reservation reservation, Receipts receipts, ActivePromotions activePromotions) {
+		List<Receipt> receiptList = receipts.getReceipts();
+		validateReservedReceipts(reservation, receiptList);
+
+		reservation.beginCommit();
+		long[] extraQuantities;
+		try {
+			extraQuantities = deductExtraQuantity(reservation, receiptList, activePromotions);
+		} catch (IllegalArgumentException e) {
+			reservation.abortCommit();
+			throw e;
+		}
+
+		long[] committedQuantities = calculateCommittedQuantity(reservation, receiptList, extraQuantities);
+		try {
+			journal(reservation.getStockIds(), committedQuantities);
+		} catch (IllegalStateException e) {
+			restore(reservation.getStockIds(), extraQuantities);
+			reservation.abortCommit();
+			throw e;
+		}
+
+		restoreSurplusQuantity(reservation, committedQuantities);
+		reservation.completeCommit();
+	}
+
+	private void validateReservedReceipts(Reservation reservation, List<Receipt> receipts) {
+		if (reservation.size() != receipts.size()) {
+			throw new IllegalStateException(WRONG_CALL_METHOD.getMessage());
+		}
+
+		for (int line = 0; line < receipts.size(); line++) {
+			if (!reservation.getProduct(line).equals(receipts.get(line).getProduct())) {
+				throw new IllegalStateException(WRONG_CALL_METHOD.getMessage());
+			}
+		}
+	}
+
+	private long[] deductExtraQuantity(Reservation reservation, List<Receipt> receipts,
+		ActivePromotions activePromotions) {
+		int[] extraQuantities = new int[reservation.size()];
+
+		for (int line = 0; line < extraQuantities.length; line++) {
+			long heldQuantity = StockQuantity.totalQuantity(reservation.getHeldQuantities(line));
+			extraQuantities[line] = (int)Math.max(0, receipts.get(line).getTotalQuantity() - heldQuantity);
+		}
+
+		return deductAllOrNothing(reservation.getStockIds(), extraQuantities, activePromotions);
+	}
+
+	private long[] calculateCommittedQuantity(Reservation reservation, List<Receipt> receipts,
+		long[] extraQuantities) {
+		long[] committedQuantities = new long[reservation.size()];
+
+		for (int line = 0; line < committedQuantities.length; line++) {
+			long heldQuantities = reservation.getHeldQuantities(line);
+			int committedQuantity = receipts.get(line).getTotalQuantity();
+			committedQuantities[line] = StockQuantity.add(heldQuantities, extraQuantities[line]);
+
+			if (committedQuantity < StockQuantity.totalQuantity(heldQuantities)) {
+				committedQuantities[line] = StockQuantity.keep(heldQuantities, committedQuantity);
+			}
+		}
+		return committedQuantities;
+	}
+
+	private void restoreSurplusQuantity(Reservation reservation, long[] committedQuantities) {
+		for (int line = 0; line < committedQuantities.length; line++) {
+			long heldQuantities = reservation.getHeldQuantities(line);
+			if (StockQuantity.totalQuantity(committedQuantities[line]) < StockQuantity.totalQuantity(heldQuantities)) {
+				reservation.getStock(line).restore(heldQuantities - committedQuantities[line]);
+				stockChangeLog.record(reservation.getStockIds()[line]);
+			}
+		}
+	}
+
+	private void restore(int[] lineIds, long[] quantities) {
+		for (int line = 0; line < lineIds.length; line++) {
+			stockTable.getStock(lineIds[line]).restore(quantities[line]);
+		}
+		stockChangeLog.recordAll(lineIds, lineIds.length);
+	}
+
+	private void journal(int[] lineIds, long[] deductedQuantities) {
+		StockJournal journal = stockJournal;
+		if (journal == StockJournal.getNoneInstance()) {
+			return;
+		}
+
+		int[] promotionQuantities = new int[lineIds.length];
+		int[] generalQuantities = new int[lineIds.length];
+		for (int line = 0; line < lineIds.length; line++) {
+			promotionQuantities[line] = StockQuantity.promotionQuantity(deductedQuantities[line]);
+			generalQuantities[line] = StockQuantity.generalQuantity(deductedQuantities[line]);
+		}
+		journal.append(lineIds, promotionQuantities, generalQuantities, lineIds.length);
+	}
+
+	public void attachJournal(StockJournal stockJournal) {
+		this.stockJournal = stockJournal;
+	}
 
-		for (Receipt receipt : receipts.getReceipts()) {
-			Product product = receipt.getProduct();
-			Stock stock = stocks.get(product.getName());
-			stock.deductQuantity(receipt.getTotalQuantity(), now);
+	public void replayDeduction(int productId, int promotionQuantity, int generalQuantity) {
+		validateExistProduct(productId);
+		stockTable.getStock(productId).withdraw(StockQuantity.pack(promotionQuantity, generalQuantity));
+		stockChangeLog.record(productId);
+	}
+
+	public void overwriteQuantity(int productId, int promotionQuantity, int generalQuantity) {
+		validateExistProduct(productId);
+		if (stockTable.getPromotionQuantity(productId) == promotionQuantity
+			&& stockTable.getGeneralQuantity(productId) == generalQuantity) {
+			return;
+		}
+		stockTable.getStock(productId).overwrite(StockQuantity.pack(promotionQuantity, generalQuantity));
+		stockChangeLog.record(productId);
+	}
+
+	public void release(Reservation reservation) {
+		if (reservation.markReleased()) {
+			restoreHeldQuantity(reservation);
+		}
+	}
+
+	public void expire(Reservation reservation) {
+		if (reservation.markExpired()) {
+			restoreHeldQuantity(reservation);
 		}
 	}
 
+	private void restoreHeldQuantity(Reservation reservation) {
+		for (int line = 0; line < reservation.size(); line++) {
+			reservation.getStock(line).restore(reservation.getHeldQuantities(line));
+		}
+		stockChangeLog.recordAll(reservation.getStockIds(), reservation.size());
+	}
+
+	private long[] deductAllOrNothing(int[] lineIds, int[] lineQuantities, ActivePromotions activePromotions) {
+		int[] stripes = stripedLock.stripesOf(lineIds);
+		stripedLock.lockAll(stripes);
+		try {
+			long[] deductedQuantities = calculateDeduction(lineIds, lineQuantities, activePromotions);
+			withdraw(lineIds, deductedQuantities);
+			stockChangeLog.recordAll(lineIds, lineIds.length);
+			return deductedQuantities;
+		} finally {
+			stripedLock.unlockAll(stripes);
+		}
+	}
+
+	private long[] calculateDeduction(int[] lineIds, int[] lineQuantities, ActivePromotions activePromotions) {
+		long[] deductedQuantities = new long[lineIds.length];
+		long[] remainingQuantities = new long[lineIds.length];
+
+		for (int line = 0; line < lineIds.length; line++) {
+			Stock stock = stockTable.getStock(lineIds[line]);
+			long remainingQuantity = findRemainingQuantity(lineIds, remainingQuantities, line, stock);
+
+			deductedQuantities[line] = stock.calculateDeduction(remainingQuantity, lineQuantities[line],
+				activePromotions);
+			remainingQuantities[line] = remainingQuantity - deductedQuantities[line];
+		}
+		return deductedQuantities;
+	}
+
+	private long findRemainingQuantity(int[] lineIds, long[] remainingQuantities, int line, Stock stock) {
+		for (int previousLine = line - 1; previousLine >= 0; previousLine--) {
+			if (lineIds[previousLine] == lineIds[line]) {
+				return remainingQuantities[previousLine];
+			}
+		}
+		return stock.getQuantities();
+	}
+
+	private void withdraw(int[] lineIds, long[] deductedQuantities) {
+		for (int line = 0; line < lineIds.length; line++) {
+			stockTable.getStock(lineIds[line]).withdraw(deductedQuantities[line]);
+		}
+	}
+
+	public Stock getStock(int productId) {
+		validateExistProduct(productId);
+		return stockTable.getStock(productId);
+	}
+
+	public String getProductName(int productId) {
+		validateExistProduct(productId);
+		return stockTable.getName(productId);
+	}
+
+	public int getPromotionQuantity(int productId) {
+		validateExistProduct(productId);
+		return stockTable.getPromotionQuantity(productId);
+	}
+
+	public int getGeneralQuantity(int productId) {
+		validateExistProduct(productId);
+		return stockTable.getGeneralQuantity(productId);
+	}
+
+	public int[] findProductIdsInNameOrder() {
+		return stockTable.findProductIdsInNameOrder();
+	}
+
+	public int size() {
+		return stockTable.size();
+	}
+
+	public StockPage findPage(StockQuery query, ActivePromotions activePromotions) {
+		return getStockIndex().findPage(query, activePromotions);
+	}
+
+	private StockIndex getStockIndex() {
+		StockIndex index = stockIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = stockIndex;
+				if (index == null) {
+					index = StockIndex.from(stockTable, stockChangeLog);
+					stockIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	public StockChangeLog getChangeLog() {
+		return stockChangeLog;
+	}
+
 	public Map<String, Stock> getStocks() {
-		return stocks;
+		return stockTable.asMap();
 	}
 }
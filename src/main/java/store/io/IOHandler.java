@@ -1,15 +1,17 @@
 package store.io;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 
+import store.checkout.CustomerIntention;
+import store.domain.ActivePromotions;
 import store.domain.Product;
 import store.domain.Receipts;
+import store.domain.StockPage;
 import store.domain.Stocks;
 import store.io.input.InputHandler;
 import store.io.output.OutputHandler;
 
-public class IOHandler {
+public class IOHandler implements CustomerIntention {
 
 	private final InputHandler inputHandler;
 	private final OutputHandler outputHandler;
@@ -19,9 +21,14 @@ public class IOHandler {
 		this.outputHandler = outputHandler;
 	}
 
-	public void showStocks(Stocks stocks, LocalDateTime openDateTime) {
+	public void showStocks(Stocks stocks, ActivePromotions activePromotions) {
 		outputHandler.showWelcomeMessage();
-		outputHandler.showStocks(stocks, openDateTime);
+		outputHandler.showStocks(stocks, activePromotions);
+	}
+
+	public void showStockPage(StockPage stockPage, ActivePromotions activePromotions) {
+		outputHandler.showWelcomeMessage();
+		outputHandler.showStockPage(stockPage, activePromotions);
 	}
 
 	public void showReceipt(Receipts receipts) {
@@ -38,6 +45,7 @@ public class IOHandler {
 		}
 	}
 
+	@Override
 	public boolean hasMemberShip() {
 		while (true) {
 			try {
@@ -48,6 +56,7 @@ public class IOHandler {
 		}
 	}
 
+	@Override
 	public boolean hasAdditionalPurchaseAboutExtraQuantity(Product product, int extraQuantity) {
 		while (true) {
 			try {
@@ -58,6 +67,7 @@ public class IOHandler {
 		}
 	}
 
+	@Override
 	public boolean hasNotAdditionalPurchaseUnApplicableQuantity(Product product, int unApplicableQuantity) {
 		while (true) {
 			try {
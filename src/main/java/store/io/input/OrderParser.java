@@ -0,0 +1,47 @@
+package store.io.input;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import store.io.input.validation.UserInputValidation;
+
+public class OrderParser {
+
+	private static final String ORDER_DELIMITER = ",";
+	private static final char ORDER_PREFIX = '[';
+	private static final char ORDER_SUFFIX = ']';
+	private static final String PRODUCT_NAME_AND_QUANTITY_DELIMITER = "-";
+	private static final int PRODUCT_NAME_INDEX = 0;
+	private static final int QUANTITY_INDEX = 1;
+
+	private final UserInputValidation userInputValidation;
+
+	public OrderParser(UserInputValidation userInputValidation) {
+		this.userInputValidation = userInputValidation;
+	}
+
+	public Map<String, Integer> parse(String userInput) {
+		userInputValidation.validateBlankInputOrder(userInput);
+
+		String[] splitUserInput = userInput.split(ORDER_DELIMITER);
+		userInputValidation.validateInputOrder(splitUserInput, PRODUCT_NAME_AND_QUANTITY_DELIMITER,
+			ORDER_PREFIX, ORDER_SUFFIX);
+
+		return toOrderMap(splitUserInput);
+	}
+
+	private Map<String, Integer> toOrderMap(String[] splitUserInput) {
+		return Arrays.stream(splitUserInput)
+			.map(String::trim)
+			.map(split -> split.substring(split.indexOf(ORDER_PREFIX) + 1, split.indexOf(ORDER_SUFFIX)))
+			.map(split -> split.split(PRODUCT_NAME_AND_QUANTITY_DELIMITER))
+			.collect(Collectors.toMap(
+				split -> split[PRODUCT_NAME_INDEX],
+				split -> Integer.parseInt(split[QUANTITY_INDEX]),
+				Integer::sum,
+				LinkedHashMap::new
+			));
+	}
+}
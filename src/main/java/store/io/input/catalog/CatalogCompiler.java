@@ -0,0 +1,178 @@
+package store.io.input.catalog;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Promotions;
+import store.domain.Stock;
+import store.domain.Stocks;
+import store.io.input.provider.PromotionProvider;
+import store.io.input.provider.StockProvider;
+
+public class CatalogCompiler {
+
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final PromotionProvider promotionProvider;
+	private final StockProvider stockProvider;
+
+	public CatalogCompiler(PromotionProvider promotionProvider, StockProvider stockProvider) {
+		this.promotionProvider = promotionProvider;
+		this.stockProvider = stockProvider;
+	}
+
+	public void compile(String promotionFilePath, String productFilePath, String imagePath) {
+		try {
+			SourceStamp promotionSource = SourceStamp.of(Paths.get(promotionFilePath));
+			SourceStamp productSource = SourceStamp.of(Paths.get(productFilePath));
+			Promotions promotions = promotionProvider.provide(promotionFilePath);
+			Stocks stocks = stockProvider.provide(promotions, productFilePath);
+
+			Promotion[] indexedPromotions = indexPromotions(promotions);
+			long recordBytes = CatalogImage.imageBytesOf(indexedPromotions.length, stocks.size(), 0);
+			if (recordBytes > Integer.MAX_VALUE) {
+				throw new IOException();
+			}
+
+			ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+			ByteBuffer records = ByteBuffer.allocate((int)recordBytes - Integer.BYTES)
+				.position(CatalogImage.HEADER_BYTES);
+			putPromotions(records, stringTable, indexedPromotions);
+			putProducts(records, stringTable, stocks);
+			putIndex(records, stocks);
+			putNameOrder(records, stocks);
+			putHeader(records, promotionSource, productSource, indexedPromotions.length, stocks.size(),
+				stringTable.size());
+
+			write(Paths.get(imagePath), records.flip(), ByteBuffer.wrap(stringTable.toByteArray()));
+			CatalogImage.map(imagePath).verify();
+		} catch (IOException | IllegalStateException e) {
+			throw new IllegalStateException(CAN_NOT_WRITE_CATALOG.getMessage());
+		}
+	}
+
+	private Promotion[] indexPromotions(Promotions promotions) {
+		Promotion[] indexedPromotions = new Promotion[promotions.getPromotions().size()];
+		for (Promotion promotion : promotions.getPromotions()) {
+			indexedPromotions[promotion.getIndex()] = promotion;
+		}
+		return indexedPromotions;
+	}
+
+	private void putPromotions(ByteBuffer records, ByteArrayOutputStream stringTable, Promotion[] promotions) {
+		for (Promotion promotion : promotions) {
+			putName(records, stringTable, promotion.getName());
+			records.putInt(promotion.getBuy())
+				.putInt(promotion.getGet())
+				.putLong(promotion.getStartEpochMillis())
+				.putLong(promotion.getEndEpochMillis());
+		}
+	}
+
+	private void putProducts(ByteBuffer records, ByteArrayOutputStream stringTable, Stocks stocks) {
+		for (int productId = 0; productId < stocks.size(); productId++) {
+			Stock stock = stocks.getStock(productId);
+			Product product = stock.getProduct();
+			putName(records, stringTable, product.getName());
+			records.putInt(product.getPrice())
+				.putInt(promotionIndexOf(product))
+				.putInt(stock.getPromotionQuantity())
+				.putInt(stock.getGeneralQuantity());
+		}
+	}
+
+	private void putIndex(ByteBuffer records, Stocks stocks) {
+		int indexSlotCount = (int)CatalogImage.indexSlotCountOf(stocks.size());
+		int[] hashes = new int[indexSlotCount];
+		int[] productIds = new int[indexSlotCount];
+		Arrays.fill(productIds, CatalogImage.NOT_EXIST_ID);
+
+		for (int productId = 0; productId < stocks.size(); productId++) {
+			int hash = stocks.getStock(productId).getProduct().getName().hashCode();
+			int slot = CatalogImage.indexSlotOf(hash, indexSlotCount);
+			while (productIds[slot] != CatalogImage.NOT_EXIST_ID) {
+				slot = (slot + 1) & (indexSlotCount - 1);
+			}
+			hashes[slot] = hash;
+			productIds[slot] = productId;
+		}
+
+		for (int slot = 0; slot < indexSlotCount; slot++) {
+			records.putInt(hashes[slot]).putInt(productIds[slot]);
+		}
+	}
+
+	private void putNameOrder(ByteBuffer records, Stocks stocks) {
+		for (int productId : stocks.findProductIdsInNameOrder()) {
+			records.putInt(productId);
+		}
+	}
+
+	private int promotionIndexOf(Product product) {
+		if (product.hasPromotion()) {
+			return product.getPromotion().getIndex();
+		}
+		return CatalogImage.NONE_PROMOTION_INDEX;
+	}
+
+	private void putName(ByteBuffer records, ByteArrayOutputStream stringTable, String name) {
+		byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+		records.putInt(stringTable.size()).putInt(encodedName.length);
+		stringTable.writeBytes(encodedName);
+	}
+
+	private void putHeader(ByteBuffer records, SourceStamp promotionSource, SourceStamp productSource,
+		int promotionCount, int productCount, int stringTableBytes) throws IOException {
+		if (CatalogImage.imageBytesOf(promotionCount, productCount, stringTableBytes) > Integer.MAX_VALUE) {
+			throw new IOException();
+		}
+
+		ByteBuffer header = records.duplicate().position(0);
+		header.putInt(CatalogImage.MAGIC).putInt(CatalogImage.VERSION);
+		promotionSource.writeTo(header);
+		productSource.writeTo(header);
+		header.putInt(promotionCount).putInt(productCount).putInt(stringTableBytes);
+		header.putInt(CatalogImage.headerChecksumOf(header));
+	}
+
+	private void write(Path imagePath, ByteBuffer records, ByteBuffer stringTable) throws IOException {
+		int checksum = checksumOf(records, stringTable);
+		Path temporary = imagePath.resolveSibling(imagePath.getFileName() + TEMPORARY_SUFFIX);
+
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			write(channel, records);
+			write(channel, stringTable);
+			write(channel, ByteBuffer.allocate(Integer.BYTES).putInt(0, checksum));
+			channel.force(true);
+		}
+		Files.move(temporary, imagePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private int checksumOf(ByteBuffer records, ByteBuffer stringTable) {
+		CRC32C checksum = new CRC32C();
+		checksum.update(records.duplicate());
+		checksum.update(stringTable.duplicate());
+		return (int)checksum.getValue();
+	}
+
+	private void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
@@ -0,0 +1,270 @@
+package store.io.input.catalog;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import store.domain.StockCatalog;
+
+public class CatalogImage implements StockCatalog {
+
+	static final int MAGIC = 0x5343_4154;
+	static final int VERSION = 4;
+	static final int HEADER_BYTES = Integer.BYTES * 2 + SourceStamp.BYTES * 2 + Integer.BYTES * 4;
+	static final int PROMOTION_BYTES = Integer.BYTES * 4 + Long.BYTES * 2;
+	static final int PRODUCT_BYTES = Integer.BYTES * 6;
+	static final int INDEX_SLOT_BYTES = Integer.BYTES * 2;
+	static final int NAME_ORDER_BYTES = Integer.BYTES;
+	static final int NONE_PROMOTION_INDEX = -1;
+	static final int NOT_EXIST_ID = -1;
+	private static final int PROMOTION_SOURCE_OFFSET = Integer.BYTES * 2;
+	private static final int PRODUCT_SOURCE_OFFSET = PROMOTION_SOURCE_OFFSET + SourceStamp.BYTES;
+	private static final int PROMOTION_COUNT_OFFSET = PRODUCT_SOURCE_OFFSET + SourceStamp.BYTES;
+	private static final int PRODUCT_COUNT_OFFSET = PROMOTION_COUNT_OFFSET + Integer.BYTES;
+	private static final int STRING_TABLE_BYTES_OFFSET = PRODUCT_COUNT_OFFSET + Integer.BYTES;
+	static final int HEADER_CHECKSUM_OFFSET = STRING_TABLE_BYTES_OFFSET + Integer.BYTES;
+	private static final int NAME_LENGTH_OFFSET = Integer.BYTES;
+	private static final int BUY_OFFSET = Integer.BYTES * 2;
+	private static final int GET_OFFSET = Integer.BYTES * 3;
+	private static final int START_EPOCH_MILLIS_OFFSET = Integer.BYTES * 4;
+	private static final int END_EPOCH_MILLIS_OFFSET = START_EPOCH_MILLIS_OFFSET + Long.BYTES;
+	private static final int PRICE_OFFSET = Integer.BYTES * 2;
+	private static final int PROMOTION_INDEX_OFFSET = Integer.BYTES * 3;
+	private static final int PROMOTION_QUANTITY_OFFSET = Integer.BYTES * 4;
+	private static final int GENERAL_QUANTITY_OFFSET = Integer.BYTES * 5;
+
+	private final ByteBuffer image;
+	private final int promotionCount;
+	private final int productCount;
+	private final int indexSlotCount;
+	private final int stringTableBytes;
+	private final int productTableOffset;
+	private final int indexOffset;
+	private final int nameOrderOffset;
+	private final int stringTableOffset;
+
+	private CatalogImage(ByteBuffer image, int promotionCount, int productCount, int stringTableBytes) {
+		this.image = image;
+		this.promotionCount = promotionCount;
+		this.productCount = productCount;
+		this.indexSlotCount = (int)indexSlotCountOf(productCount);
+		this.stringTableBytes = stringTableBytes;
+		this.productTableOffset = HEADER_BYTES + promotionCount * PROMOTION_BYTES;
+		this.indexOffset = productTableOffset + productCount * PRODUCT_BYTES;
+		this.nameOrderOffset = indexOffset + indexSlotCount * INDEX_SLOT_BYTES;
+		this.stringTableOffset = nameOrderOffset + productCount * NAME_ORDER_BYTES;
+	}
+
+	public static CatalogImage map(String imagePath) {
+		try (FileChannel channel = FileChannel.open(Paths.get(imagePath), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException();
+			}
+			return from(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+	}
+
+	private static CatalogImage from(ByteBuffer image) throws IOException {
+		if (image.limit() < HEADER_BYTES + Integer.BYTES || !hasCurrentFormat(image)
+			|| image.getInt(HEADER_CHECKSUM_OFFSET) != headerChecksumOf(image)) {
+			throw new IOException();
+		}
+
+		int promotionCount = image.getInt(PROMOTION_COUNT_OFFSET);
+		int productCount = image.getInt(PRODUCT_COUNT_OFFSET);
+		int stringTableBytes = image.getInt(STRING_TABLE_BYTES_OFFSET);
+		if (promotionCount < 0 || productCount < 0 || stringTableBytes < 0
+			|| image.limit() != imageBytesOf(promotionCount, productCount, stringTableBytes)) {
+			throw new IOException();
+		}
+		return new CatalogImage(image, promotionCount, productCount, stringTableBytes);
+	}
+
+	public void verify() {
+		int checksumOffset = image.limit() - Integer.BYTES;
+		if (image.getInt(checksumOffset) != checksumOf(image.slice(0, checksumOffset))) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+	}
+
+	static int headerChecksumOf(ByteBuffer header) {
+		return checksumOf(header.slice(0, HEADER_CHECKSUM_OFFSET));
+	}
+
+	private static boolean hasCurrentFormat(ByteBuffer header) {
+		return header.getInt(0) == MAGIC && header.getInt(Integer.BYTES) == VERSION;
+	}
+
+	static long imageBytesOf(int promotionCount, int productCount, int stringTableBytes) {
+		return HEADER_BYTES + (long)promotionCount * PROMOTION_BYTES + (long)productCount * PRODUCT_BYTES
+			+ indexSlotCountOf(productCount) * INDEX_SLOT_BYTES + (long)productCount * NAME_ORDER_BYTES
+			+ stringTableBytes + Integer.BYTES;
+	}
+
+	static long indexSlotCountOf(int productCount) {
+		return Long.highestOneBit(Math.max(productCount, 1) * 2L - 1) * 2;
+	}
+
+	static int indexSlotOf(int hash, int indexSlotCount) {
+		return (hash ^ (hash >>> 16)) & (indexSlotCount - 1);
+	}
+
+	private static int checksumOf(ByteBuffer content) {
+		CRC32C checksum = new CRC32C();
+		checksum.update(content);
+		return (int)checksum.getValue();
+	}
+
+	public static boolean isCompiledFrom(String imagePath, String promotionFilePath, String productFilePath) {
+		try (FileChannel channel = FileChannel.open(Paths.get(imagePath), StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					return false;
+				}
+			}
+
+			return hasCurrentFormat(header)
+				&& SourceStamp.readFrom(header, PROMOTION_SOURCE_OFFSET)
+				.matches(SourceStamp.of(Paths.get(promotionFilePath)))
+				&& SourceStamp.readFrom(header, PRODUCT_SOURCE_OFFSET)
+				.matches(SourceStamp.of(Paths.get(productFilePath)));
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	public int getPromotionCount() {
+		return promotionCount;
+	}
+
+	public String getPromotionName(int promotionIndex) {
+		return nameAt(promotionOffsetOf(promotionIndex));
+	}
+
+	public int getBuy(int promotionIndex) {
+		return image.getInt(promotionOffsetOf(promotionIndex) + BUY_OFFSET);
+	}
+
+	public int getGet(int promotionIndex) {
+		return image.getInt(promotionOffsetOf(promotionIndex) + GET_OFFSET);
+	}
+
+	public long getStartEpochMillis(int promotionIndex) {
+		return image.getLong(promotionOffsetOf(promotionIndex) + START_EPOCH_MILLIS_OFFSET);
+	}
+
+	public long getEndEpochMillis(int promotionIndex) {
+		return image.getLong(promotionOffsetOf(promotionIndex) + END_EPOCH_MILLIS_OFFSET);
+	}
+
+	@Override
+	public int getProductCount() {
+		return productCount;
+	}
+
+	@Override
+	public int findProductIdBy(String productName) {
+		int hash = productName.hashCode();
+		int slot = indexSlotOf(hash, indexSlotCount);
+
+		for (int probe = 0; probe < indexSlotCount; probe++) {
+			int slotOffset = indexOffset + slot * INDEX_SLOT_BYTES;
+			int productId = image.getInt(slotOffset + Integer.BYTES);
+			if (productId == NOT_EXIST_ID) {
+				return NOT_EXIST_ID;
+			}
+			if (image.getInt(slotOffset) == hash && getProductName(productId).equals(productName)) {
+				return productId;
+			}
+			slot = (slot + 1) & (indexSlotCount - 1);
+		}
+		return NOT_EXIST_ID;
+	}
+
+	@Override
+	public String getProductName(int productId) {
+		return nameAt(productOffsetOf(productId));
+	}
+
+	@Override
+	public int getPrice(int productId) {
+		return image.getInt(productOffsetOf(productId) + PRICE_OFFSET);
+	}
+
+	@Override
+	public int getPromotionIndex(int productId) {
+		int promotionIndex = image.getInt(productOffsetOf(productId) + PROMOTION_INDEX_OFFSET);
+		if (promotionIndex < NONE_PROMOTION_INDEX || promotionIndex >= promotionCount) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+		return promotionIndex;
+	}
+
+	@Override
+	public boolean hasPromotion(int productId) {
+		return getPromotionIndex(productId) != NONE_PROMOTION_INDEX;
+	}
+
+	@Override
+	public int getPromotionQuantity(int productId) {
+		return quantityAt(productOffsetOf(productId) + PROMOTION_QUANTITY_OFFSET);
+	}
+
+	@Override
+	public int getGeneralQuantity(int productId) {
+		return quantityAt(productOffsetOf(productId) + GENERAL_QUANTITY_OFFSET);
+	}
+
+	@Override
+	public int getProductIdInNameOrder(int rank) {
+		if (rank < 0 || rank >= productCount) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+
+		int productId = image.getInt(nameOrderOffset + rank * NAME_ORDER_BYTES);
+		if (productId < 0 || productId >= productCount) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+		return productId;
+	}
+
+	private int quantityAt(int offset) {
+		int quantity = image.getInt(offset);
+		if (quantity < 0) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+		return quantity;
+	}
+
+	private int promotionOffsetOf(int promotionIndex) {
+		return HEADER_BYTES + promotionIndex * PROMOTION_BYTES;
+	}
+
+	private int productOffsetOf(int productId) {
+		if (productId < 0 || productId >= productCount) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+		return productTableOffset + productId * PRODUCT_BYTES;
+	}
+
+	private String nameAt(int recordOffset) {
+		int nameOffset = image.getInt(recordOffset);
+		int nameLength = image.getInt(recordOffset + NAME_LENGTH_OFFSET);
+		if (nameOffset < 0 || nameLength < 0 || nameLength > stringTableBytes - nameOffset) {
+			throw new IllegalStateException(CAN_NOT_READ_CATALOG.getMessage());
+		}
+
+		byte[] name = new byte[nameLength];
+		image.get(stringTableOffset + nameOffset, name);
+		return new String(name, StandardCharsets.UTF_8);
+	}
+}
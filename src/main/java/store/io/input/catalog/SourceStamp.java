@@ -0,0 +1,35 @@
+package store.io.input.catalog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class SourceStamp {
+
+	static final int BYTES = Long.BYTES * 2;
+
+	private final long size;
+	private final long modifiedMillis;
+
+	private SourceStamp(long size, long modifiedMillis) {
+		this.size = size;
+		this.modifiedMillis = modifiedMillis;
+	}
+
+	static SourceStamp of(Path sourcePath) throws IOException {
+		return new SourceStamp(Files.size(sourcePath), Files.getLastModifiedTime(sourcePath).toMillis());
+	}
+
+	static SourceStamp readFrom(ByteBuffer buffer, int offset) {
+		return new SourceStamp(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+	}
+
+	void writeTo(ByteBuffer buffer) {
+		buffer.putLong(size).putLong(modifiedMillis);
+	}
+
+	boolean matches(SourceStamp other) {
+		return size == other.size && modifiedMillis == other.modifiedMillis;
+	}
+}
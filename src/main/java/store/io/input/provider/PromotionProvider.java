@@ -3,13 +3,16 @@ package store.io.input.provider;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import store.domain.Promotion;
+import store.domain.PromotionResultTable;
 import store.domain.Promotions;
+import store.io.input.catalog.CatalogImage;
+import store.util.EpochMillis;
 import store.util.StoreFileReader;
+import store.util.StoreRow;
 
 public class PromotionProvider {
 
@@ -19,29 +22,53 @@ public class PromotionProvider {
 	private static final int START_DATE_INDEX = 3;
 	private static final int END_DATE_INDEX = 4;
 
+	private final int promotionResultBound;
+
+	public PromotionProvider() {
+		this(PromotionResultTable.DEFAULT_BOUND);
+	}
+
+	public PromotionProvider(int promotionResultBound) {
+		this.promotionResultBound = promotionResultBound;
+	}
+
 	public Promotions provide(String promotionFilePath) {
-		List<String[]> readInfos = StoreFileReader.readWithoutHeader(promotionFilePath);
-		return createPromotions(readInfos);
+		Map<String, Promotion> promotions = new HashMap<>();
+
+		StoreFileReader.readEachWithoutHeader(promotionFilePath, row -> {
+			Promotion promotion = createPromotion(promotions.size(), row);
+			promotions.putIfAbsent(promotion.getName(), promotion);
+		});
+		return Promotions.from(promotions);
 	}
 
-	private Promotions createPromotions(List<String[]> readLinesWithoutHeader) {
-		Map<String, Promotion> promotions = readLinesWithoutHeader.stream()
-			.collect(Collectors.toMap(
-				info -> info[NAME_INDEX],
-				this::createPromotion,
-				(oldPromotion, newPromotion) -> oldPromotion
-			));
+	public Promotions provide(CatalogImage catalogImage) {
+		Map<String, Promotion> promotions = new HashMap<>();
 
+		for (int promotionIndex = 0; promotionIndex < catalogImage.getPromotionCount(); promotionIndex++) {
+			Promotion promotion = Promotion.create(
+				promotionIndex,
+				catalogImage.getPromotionName(promotionIndex),
+				catalogImage.getBuy(promotionIndex),
+				catalogImage.getGet(promotionIndex),
+				EpochMillis.toDateTime(catalogImage.getStartEpochMillis(promotionIndex)),
+				EpochMillis.toDateTime(catalogImage.getEndEpochMillis(promotionIndex)),
+				promotionResultBound
+			);
+			promotions.put(promotion.getName(), promotion);
+		}
 		return Promotions.from(promotions);
 	}
 
-	private Promotion createPromotion(String[] info) {
-		return Promotion.of(
-			info[NAME_INDEX],
-			Integer.parseInt(info[BUY_INDEX]),
-			Integer.parseInt(info[GET_INDEX]),
-			LocalDateTime.of(LocalDate.parse(info[START_DATE_INDEX]), LocalTime.of(0, 0)),
-			LocalDateTime.of(LocalDate.parse(info[END_DATE_INDEX]), LocalTime.of(0, 0)).plusDays(1)
+	private Promotion createPromotion(int promotionIndex, StoreRow row) {
+		return Promotion.create(
+			promotionIndex,
+			row.getString(NAME_INDEX),
+			row.getInt(BUY_INDEX),
+			row.getInt(GET_INDEX),
+			LocalDateTime.of(LocalDate.parse(row.getString(START_DATE_INDEX)), LocalTime.of(0, 0)),
+			LocalDateTime.of(LocalDate.parse(row.getString(END_DATE_INDEX)), LocalTime.of(0, 0)).plusDays(1),
+			promotionResultBound
 		);
 	}
 
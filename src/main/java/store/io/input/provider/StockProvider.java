@@ -1,15 +1,19 @@
 package store.io.input.provider;
 
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+import store.domain.ColumnarStockTable;
+import store.domain.LazyStockTable;
 import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.PromotionSchedule;
 import store.domain.Promotions;
 import store.domain.Stock;
 import store.domain.Stocks;
+import store.io.input.catalog.CatalogImage;
 import store.util.StoreFileReader;
+import store.util.StoreRow;
 
 public class StockProvider {
 
@@ -20,55 +24,132 @@ public class StockProvider {
 	private static final String NONE_PROMOTION_SIGN = "null";
 
 	public Stocks provide(Promotions promotions, String productFilePath) {
-		List<String[]> infos = StoreFileReader.readWithoutHeader(productFilePath);
-		Map<String, Stock> stocks = createStocks(promotions, infos);
-		return Stocks.from(stocks);
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+
+		StoreFileReader.readEachWithoutHeader(productFilePath, row -> {
+			Stock stock = findOrCreateStock(promotions, row, stocks);
+			updateQuantity(row, stock);
+		});
+		return Stocks.from(stocks, PromotionSchedule.from(promotions));
+	}
+
+	public Stocks provideColumnar(Promotions promotions, String productFilePath) {
+		ColumnarStockTable.Builder builder = ColumnarStockTable.builder(0);
+
+		StoreFileReader.readEachWithoutHeader(productFilePath, row -> {
+			int productId = builder.put(
+				row.getString(NAME_INDEX),
+				row.getInt(PRICE_INDEX),
+				promotions.findBy(row.getString(PROMOTION_INDEX))
+			);
+			updateQuantity(row, builder, productId);
+		});
+		return Stocks.from(builder.build(), PromotionSchedule.from(promotions));
+	}
+
+	public Stocks provide(Promotions promotions, CatalogImage catalogImage) {
+		Promotion[] catalogPromotions = findCatalogPromotions(promotions, catalogImage);
+		ColumnarStockTable.Builder builder = ColumnarStockTable.builder(catalogImage.getProductCount());
+
+		for (int productId = 0; productId < catalogImage.getProductCount(); productId++) {
+			builder.put(
+				catalogImage.getProductName(productId),
+				catalogImage.getPrice(productId),
+				findPromotion(catalogPromotions, catalogImage, productId)
+			);
+			updateQuantity(catalogImage, builder, productId);
+		}
+		return Stocks.from(builder.build(), PromotionSchedule.from(promotions));
 	}
 
-	private Map<String, Stock> createStocks(Promotions promotions, List<String[]> infos) {
-		Map<String, Stock> stocks = createInitialStocks(promotions, infos);
+	public Stocks provideLazily(Promotions promotions, CatalogImage catalogImage) {
+		return Stocks.from(
+			LazyStockTable.of(catalogImage, findCatalogPromotions(promotions, catalogImage)),
+			PromotionSchedule.from(promotions)
+		);
+	}
 
-		for (String[] info : infos) {
-			updateQuantity(info, stocks.get(info[NAME_INDEX]));
+	private Promotion[] findCatalogPromotions(Promotions promotions, CatalogImage catalogImage) {
+		Promotion[] catalogPromotions = new Promotion[catalogImage.getPromotionCount()];
+		for (int promotionIndex = 0; promotionIndex < catalogPromotions.length; promotionIndex++) {
+			catalogPromotions[promotionIndex] = promotions.findBy(catalogImage.getPromotionName(promotionIndex));
 		}
-		return stocks;
+		return catalogPromotions;
 	}
 
-	private Map<String, Stock> createInitialStocks(Promotions promotions, List<String[]> infos) {
-		return infos.stream()
-			.collect(Collectors.toMap(
-				info -> info[NAME_INDEX],
-				info -> createStock(promotions, info),
-				this::mergeStock,
-				LinkedHashMap::new
-			));
+	private Promotion findPromotion(Promotion[] catalogPromotions, CatalogImage catalogImage, int productId) {
+		if (catalogImage.hasPromotion(productId)) {
+			return catalogPromotions[catalogImage.getPromotionIndex(productId)];
+		}
+		return Promotion.getNoneInstance();
 	}
 
-	private Stock createStock(Promotions promotions, String[] info) {
+	private Stock findOrCreateStock(Promotions promotions, StoreRow row, Map<String, Stock> stocks) {
+		String productName = row.getString(NAME_INDEX);
+		Stock oldStock = stocks.get(productName);
+		if (oldStock != null && oldStock.hasPromotionProduct()) {
+			return oldStock;
+		}
+
+		int productId = stocks.size();
+		if (oldStock != null) {
+			productId = oldStock.getProduct().getId();
+		}
+
+		Stock newStock = createStock(promotions, productId, productName, row);
+		if (oldStock != null) {
+			moveQuantity(oldStock, newStock);
+		}
+		stocks.put(productName, newStock);
+		return newStock;
+	}
+
+	private Stock createStock(Promotions promotions, int productId, String productName, StoreRow row) {
 		Product product = Product.create(
-			info[NAME_INDEX],
-			Integer.parseInt(info[PRICE_INDEX]),
-			promotions.findBy(info[PROMOTION_INDEX])
+			productId,
+			productName,
+			row.getInt(PRICE_INDEX),
+			promotions.findBy(row.getString(PROMOTION_INDEX))
 		);
 		return Stock.from(product);
 	}
 
-	private Stock mergeStock(Stock oldStock, Stock newStock) {
-		if (oldStock.hasPromotionProduct()) {
-			return oldStock;
+	private void moveQuantity(Stock oldStock, Stock newStock) {
+		if (oldStock.getPromotionQuantity() > 0) {
+			newStock.incrementPromotionQuantity(oldStock.getPromotionQuantity());
+		}
+		if (oldStock.getGeneralQuantity() > 0) {
+			newStock.incrementGeneralQuantity(oldStock.getGeneralQuantity());
 		}
+	}
 
-		return newStock;
+	private void updateQuantity(StoreRow row, Stock stock) {
+		if (row.isEqualTo(PROMOTION_INDEX, NONE_PROMOTION_SIGN)) {
+			stock.incrementGeneralQuantity(row.getInt(QUANTITY_INDEX));
+		}
+
+		if (!row.isEqualTo(PROMOTION_INDEX, NONE_PROMOTION_SIGN)) {
+			stock.incrementPromotionQuantity(row.getInt(QUANTITY_INDEX));
+		}
 	}
 
-	private void updateQuantity(String[] info, Stock stock) {
-		if (NONE_PROMOTION_SIGN.equals(info[PROMOTION_INDEX])) {
-			stock.incrementGeneralQuantity(Integer.parseInt(info[QUANTITY_INDEX]));
+	private void updateQuantity(StoreRow row, ColumnarStockTable.Builder builder, int productId) {
+		if (row.isEqualTo(PROMOTION_INDEX, NONE_PROMOTION_SIGN)) {
+			builder.incrementGeneralQuantity(productId, row.getInt(QUANTITY_INDEX));
 		}
 
-		if (!NONE_PROMOTION_SIGN.equals(info[PROMOTION_INDEX])) {
-			stock.incrementPromotionQuantity(Integer.parseInt(info[QUANTITY_INDEX]));
+		if (!row.isEqualTo(PROMOTION_INDEX, NONE_PROMOTION_SIGN)) {
+			builder.incrementPromotionQuantity(productId, row.getInt(QUANTITY_INDEX));
+		}
+	}
+
+	private void updateQuantity(CatalogImage catalogImage, ColumnarStockTable.Builder builder, int productId) {
+		if (catalogImage.getPromotionQuantity(productId) > 0) {
+			builder.incrementPromotionQuantity(productId, catalogImage.getPromotionQuantity(productId));
+		}
+		if (catalogImage.getGeneralQuantity(productId) > 0) {
+			builder.incrementGeneralQuantity(productId, catalogImage.getGeneralQuantity(productId));
 		}
 	}
 
-}
\ No newline at end of file
+}
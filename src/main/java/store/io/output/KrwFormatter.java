@@ -0,0 +1,44 @@
+package store.io.output;
+
+public class KrwFormatter {
+
+	private static final char GROUPING_SEPARATOR = ',';
+	private static final char MINUS_SIGN = '-';
+	private static final int GROUP_SIZE = 3;
+	private static final int RADIX = 10;
+
+	private KrwFormatter() {
+	}
+
+	public static StringBuilder appendTo(StringBuilder builder, long amount) {
+		if (amount < 0) {
+			builder.append(MINUS_SIGN);
+		}
+
+		int digitCount = countDigits(amount);
+		int length = digitCount + (digitCount - 1) / GROUP_SIZE;
+		int end = builder.length() + length;
+		builder.setLength(end);
+
+		long remaining = amount;
+		int position = end;
+		for (int digit = 0; digit < digitCount; digit++) {
+			if (digit > 0 && digit % GROUP_SIZE == 0) {
+				builder.setCharAt(--position, GROUPING_SEPARATOR);
+			}
+			builder.setCharAt(--position, (char)('0' + Math.abs(remaining % RADIX)));
+			remaining /= RADIX;
+		}
+		return builder;
+	}
+
+	private static int countDigits(long amount) {
+		int digitCount = 1;
+		long remaining = amount / RADIX;
+		while (remaining != 0) {
+			digitCount++;
+			remaining /= RADIX;
+		}
+		return digitCount;
+	}
+}
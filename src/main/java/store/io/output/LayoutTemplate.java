@@ -0,0 +1,137 @@
+package store.io.output;
+
+import static store.common.ErrorMessage.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class LayoutTemplate {
+
+	private static final char FIELD_SIGN = '%';
+	private static final char TEXT_CONVERSION = 's';
+	private static final char NUMBER_CONVERSION = 'd';
+	private static final char LINE_SEPARATOR_CONVERSION = 'n';
+	private static final char LEFT_JUSTIFY_FLAG = '-';
+	private static final char GROUPING_FLAG = ',';
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+	private static final String PADDING = "                                ";
+
+	private final String[] literals;
+	private final Field[] fields;
+
+	private LayoutTemplate(String[] literals, Field[] fields) {
+		this.literals = literals;
+		this.fields = fields;
+	}
+
+	static LayoutTemplate compile(String format) {
+		List<String> literals = new ArrayList<>();
+		List<Field> fields = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+
+		int position = 0;
+		while (position < format.length()) {
+			char current = format.charAt(position++);
+			if (current != FIELD_SIGN) {
+				literal.append(current);
+				continue;
+			}
+
+			boolean leftJustified = false;
+			boolean grouped = false;
+			while (format.charAt(position) == LEFT_JUSTIFY_FLAG || format.charAt(position) == GROUPING_FLAG) {
+				leftJustified |= format.charAt(position) == LEFT_JUSTIFY_FLAG;
+				grouped |= format.charAt(position) == GROUPING_FLAG;
+				position++;
+			}
+
+			int width = 0;
+			while (Character.isDigit(format.charAt(position))) {
+				width = width * 10 + Character.digit(format.charAt(position++), 10);
+			}
+
+			char conversion = format.charAt(position++);
+			if (conversion == FIELD_SIGN) {
+				literal.append(FIELD_SIGN);
+				continue;
+			}
+			if (conversion == LINE_SEPARATOR_CONVERSION) {
+				literal.append(LINE_SEPARATOR);
+				continue;
+			}
+
+			literals.add(literal.toString());
+			fields.add(Field.of(conversion, width, leftJustified, grouped));
+			literal.setLength(0);
+		}
+		literals.add(literal.toString());
+		return new LayoutTemplate(literals.toArray(String[]::new), fields.toArray(Field[]::new));
+	}
+
+	void appendTo(StringBuilder builder, String[] texts, long[] numbers) {
+		int textIndex = 0;
+		int numberIndex = 0;
+
+		for (int index = 0; index < fields.length; index++) {
+			builder.append(literals[index]);
+			Field field = fields[index];
+			int start = builder.length();
+
+			if (field.isText()) {
+				builder.append(texts[textIndex++]);
+			} else {
+				appendNumber(builder, numbers[numberIndex++], field.grouped);
+			}
+			justify(builder, start, field);
+		}
+		builder.append(literals[fields.length]);
+	}
+
+	private void appendNumber(StringBuilder builder, long number, boolean grouped) {
+		if (grouped) {
+			KrwFormatter.appendTo(builder, number);
+			return;
+		}
+		builder.append(number);
+	}
+
+	private void justify(StringBuilder builder, int start, Field field) {
+		int padding = field.width - (builder.length() - start);
+
+		while (padding > 0) {
+			int chunk = Math.min(padding, PADDING.length());
+			if (field.leftJustified) {
+				builder.append(PADDING, 0, chunk);
+			} else {
+				builder.insert(start, PADDING, 0, chunk);
+			}
+			padding -= chunk;
+		}
+	}
+
+	private static class Field {
+
+		private final char conversion;
+		private final int width;
+		private final boolean leftJustified;
+		private final boolean grouped;
+
+		private Field(char conversion, int width, boolean leftJustified, boolean grouped) {
+			this.conversion = conversion;
+			this.width = width;
+			this.leftJustified = leftJustified;
+			this.grouped = grouped;
+		}
+
+		private static Field of(char conversion, int width, boolean leftJustified, boolean grouped) {
+			if (conversion != TEXT_CONVERSION && conversion != NUMBER_CONVERSION) {
+				throw new IllegalStateException(WRONG_CALL_METHOD.getMessage());
+			}
+			return new Field(conversion, width, leftJustified, grouped);
+		}
+
+		private boolean isText() {
+			return conversion == TEXT_CONVERSION;
+		}
+	}
+}
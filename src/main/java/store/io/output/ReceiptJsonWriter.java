@@ -0,0 +1,111 @@
+package store.io.output;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import store.domain.Receipt;
+import store.domain.ReceiptSummary;
+import store.domain.Receipts;
+
+public class ReceiptJsonWriter {
+
+	private static final String STATUS_OK = "OK";
+	private static final String STATUS_ERROR = "ERROR";
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final Writer writer;
+	private final StringBuilder line;
+
+	public ReceiptJsonWriter(Writer writer) {
+		this.writer = writer;
+		this.line = new StringBuilder();
+	}
+
+	public void writeReceipt(long lineNumber, Receipts receipts) {
+		startLine(lineNumber, STATUS_OK);
+
+		line.append(",\"items\":[");
+		boolean first = true;
+		for (Receipt receipt : receipts.getReceipts()) {
+			if (!first) {
+				line.append(',');
+			}
+			appendReceipt(receipt);
+			first = false;
+		}
+		line.append(']');
+
+		ReceiptSummary summary = receipts.getSummary();
+		appendField("totalQuantity", summary.getTotalQuantity());
+		appendField("totalPrice", summary.getTotalPrice());
+		appendField("promotionDiscount", summary.getPromotionDiscount());
+		appendField("memberShipDiscount", summary.getMemberShipDiscount());
+		appendField("payment", summary.getTotalPayment());
+		endLine();
+	}
+
+	public void writeError(long lineNumber, String message) {
+		startLine(lineNumber, STATUS_ERROR);
+		line.append(",\"message\":");
+		appendString(message);
+		endLine();
+	}
+
+	public void flush() {
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_WRITE_RECEIPT.getMessage());
+		}
+	}
+
+	private void appendReceipt(Receipt receipt) {
+		line.append("{\"name\":");
+		appendString(receipt.getProduct().getName());
+		appendField("quantity", receipt.getTotalQuantity());
+		appendField("freeQuantity", receipt.getFreeQuantity());
+		appendField("price", receipt.calculatePurchasedPrice());
+		line.append('}');
+	}
+
+	private void startLine(long lineNumber, String status) {
+		line.setLength(0);
+		line.append("{\"line\":").append(lineNumber);
+		line.append(",\"status\":\"").append(status).append('"');
+	}
+
+	private void appendField(String name, long value) {
+		line.append(",\"").append(name).append("\":").append(value);
+	}
+
+	private void appendString(String value) {
+		line.append('"');
+		for (int index = 0; index < value.length(); index++) {
+			appendEscaped(value.charAt(index));
+		}
+		line.append('"');
+	}
+
+	private void appendEscaped(char character) {
+		if (character == '"' || character == '\\') {
+			line.append('\\').append(character);
+			return;
+		}
+		if (character < ' ') {
+			line.append(String.format("\\u%04x", (int)character));
+			return;
+		}
+		line.append(character);
+	}
+
+	private void endLine() {
+		line.append('}').append(LINE_SEPARATOR);
+		try {
+			writer.append(line);
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_WRITE_RECEIPT.getMessage());
+		}
+	}
+}
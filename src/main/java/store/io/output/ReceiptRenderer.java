@@ -0,0 +1,79 @@
+package store.io.output;
+
+import java.io.PrintStream;
+
+import store.domain.Receipt;
+import store.domain.ReceiptSummary;
+import store.domain.Receipts;
+
+class ReceiptRenderer {
+
+	private static final LayoutTemplate RECEIPT_HEADER = LayoutTemplate.compile(
+		"%n==============W 편의점================%n상품명  \t\t\t  수량  \t\t\t 금액%n");
+	private static final LayoutTemplate PURCHASE_DETAIL = LayoutTemplate.compile("%-15s %5d %,10d\n");
+	private static final LayoutTemplate PROMOTION_DETAIL_DELIMITER = LayoutTemplate.compile(
+		"=============증      정===============%n");
+	private static final LayoutTemplate PROMOTION_DETAIL = LayoutTemplate.compile("%-10s \t\t %d\n");
+	private static final LayoutTemplate PAYMENT_RESULT_DELIMITER = LayoutTemplate.compile(
+		"====================================%n");
+	private static final LayoutTemplate TOTAL_PRICE = LayoutTemplate.compile("총구매액   \t\t %d \t\t\t %,d\n");
+	private static final LayoutTemplate TOTAL_PROMOTION_PRICE = LayoutTemplate.compile("행사할인   \t\t\t\t\t -%,d\n");
+	private static final LayoutTemplate MEMBERSHIP_DISCOUNT = LayoutTemplate.compile("멤버십할인 \t\t\t\t\t -%,d\n");
+	private static final LayoutTemplate PAYMENT_RESULT = LayoutTemplate.compile("내실돈     \t\t\t\t\t %,d\n");
+
+	private final RenderBuffer renderBuffer = new RenderBuffer();
+	private final String[] texts = new String[1];
+	private final long[] numbers = new long[2];
+	private StringBuilder builder;
+
+	ReceiptRenderer render(Receipts receipts) {
+		builder = renderBuffer.reset();
+		RECEIPT_HEADER.appendTo(builder, texts, numbers);
+		renderPurchaseDetail(receipts);
+
+		PROMOTION_DETAIL_DELIMITER.appendTo(builder, texts, numbers);
+		renderPromotionDetail(receipts);
+
+		PAYMENT_RESULT_DELIMITER.appendTo(builder, texts, numbers);
+		renderPaymentResult(receipts.getSummary());
+		return this;
+	}
+
+	private void renderPurchaseDetail(Receipts receipts) {
+		for (Receipt receipt : receipts.getReceipts()) {
+			texts[0] = receipt.getProduct().getName();
+			numbers[0] = receipt.getTotalQuantity();
+			numbers[1] = receipt.calculatePurchasedPrice();
+			PURCHASE_DETAIL.appendTo(builder, texts, numbers);
+		}
+	}
+
+	private void renderPromotionDetail(Receipts receipts) {
+		for (Receipt receipt : receipts.getReceipts()) {
+			if (receipt.getFreeQuantity() > 0) {
+				texts[0] = receipt.getProduct().getName();
+				numbers[0] = receipt.getFreeQuantity();
+				PROMOTION_DETAIL.appendTo(builder, texts, numbers);
+			}
+		}
+	}
+
+	private void renderPaymentResult(ReceiptSummary summary) {
+		numbers[0] = summary.getTotalQuantity();
+		numbers[1] = summary.getTotalPrice();
+		TOTAL_PRICE.appendTo(builder, texts, numbers);
+
+		numbers[0] = summary.getPromotionDiscount();
+		TOTAL_PROMOTION_PRICE.appendTo(builder, texts, numbers);
+
+		numbers[0] = summary.getMemberShipDiscount();
+		MEMBERSHIP_DISCOUNT.appendTo(builder, texts, numbers);
+
+		numbers[0] = summary.getTotalPayment();
+		PAYMENT_RESULT.appendTo(builder, texts, numbers);
+	}
+
+	void writeTo(PrintStream out) {
+		renderBuffer.writeTo(out);
+	}
+}
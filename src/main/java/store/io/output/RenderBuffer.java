@@ -0,0 +1,46 @@
+package store.io.output;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+class RenderBuffer {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+	private CharsetEncoder encoder;
+	private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+	StringBuilder reset() {
+		builder.setLength(0);
+		return builder;
+	}
+
+	void writeTo(PrintStream out) {
+		ByteBuffer encoded = encode(out);
+		out.write(encoded.array(), 0, encoded.position());
+		out.flush();
+	}
+
+	private ByteBuffer encode(PrintStream out) {
+		if (encoder == null || !encoder.charset().equals(out.charset())) {
+			encoder = out.charset().newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+
+		int maxLength = (int)Math.ceil(builder.length() * (double)encoder.maxBytesPerChar());
+		if (bytes.capacity() < maxLength) {
+			bytes = ByteBuffer.allocate(maxLength);
+		}
+
+		bytes.clear();
+		encoder.reset();
+		encoder.encode(CharBuffer.wrap(builder), bytes, true);
+		encoder.flush(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,149 @@
+package store.io.output;
+
+import java.io.PrintStream;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import store.domain.ActivePromotions;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Stock;
+import store.domain.StockPage;
+import store.domain.Stocks;
+
+class StockRenderer {
+
+	private static final LayoutTemplate STOCK_ANNOUNCE_COMMENT = LayoutTemplate.compile(
+		"현재 보유하고 있는 상품입니다.%n%n");
+	private static final LayoutTemplate PROMOTION_STOCK = LayoutTemplate.compile("- %s %,d원 %d개 %s\n");
+	private static final LayoutTemplate EMPTY_PROMOTION_STOCK = LayoutTemplate.compile("- %s %,d원 재고 없음 %s\n");
+	private static final LayoutTemplate GENERAL_STOCK = LayoutTemplate.compile("- %s %,d원 %d개\n");
+	private static final LayoutTemplate EMPTY_GENERAL_STOCK = LayoutTemplate.compile("- %s %,d원 재고 없음\n");
+	private static final LayoutTemplate STOCK_END = LayoutTemplate.compile("%n");
+
+	private final RenderBuffer renderBuffer = new RenderBuffer();
+	private final StringBuilder rowBuilder = new StringBuilder();
+	private final Map<Promotion, Boolean> promotionActivities = new IdentityHashMap<>();
+	private final String[] texts = new String[2];
+	private final long[] numbers = new long[2];
+	private Stocks renderedStocks;
+	private String[] renderedRows;
+	private long renderedSequence;
+	private ActivePromotions activePromotions;
+
+	StockRenderer render(Stocks stocks, ActivePromotions activePromotions) {
+		this.activePromotions = activePromotions;
+		long sequence = stocks.getChangeLog().getSequence();
+
+		if (stocks != renderedStocks || !renderChangedRows(stocks, sequence)) {
+			renderAllRows(stocks);
+		}
+		renderedSequence = sequence;
+
+		StringBuilder builder = renderBuffer.reset();
+		STOCK_ANNOUNCE_COMMENT.appendTo(builder, texts, numbers);
+		for (String renderedRow : renderedRows) {
+			builder.append(renderedRow);
+		}
+		STOCK_END.appendTo(builder, texts, numbers);
+		return this;
+	}
+
+	private boolean renderChangedRows(Stocks stocks, long sequence) {
+		if (!stocks.getChangeLog().forEachChanged(renderedSequence, sequence, this::renderRow)) {
+			return false;
+		}
+
+		Set<Promotion> changedPromotions = findChangedPromotions();
+		if (changedPromotions.isEmpty()) {
+			return true;
+		}
+		for (int productId = 0; productId < renderedRows.length; productId++) {
+			if (changedPromotions.contains(renderedStocks.getStock(productId).getProduct().getPromotion())) {
+				renderRow(productId);
+			}
+		}
+		return true;
+	}
+
+	private Set<Promotion> findChangedPromotions() {
+		Set<Promotion> changedPromotions = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (Map.Entry<Promotion, Boolean> promotionActivity : promotionActivities.entrySet()) {
+			boolean active = activePromotions.contains(promotionActivity.getKey());
+			if (active != promotionActivity.getValue()) {
+				promotionActivity.setValue(active);
+				changedPromotions.add(promotionActivity.getKey());
+			}
+		}
+		return changedPromotions;
+	}
+
+	private void renderAllRows(Stocks stocks) {
+		renderedStocks = stocks;
+		renderedRows = new String[stocks.size()];
+		promotionActivities.clear();
+
+		for (int productId = 0; productId < renderedRows.length; productId++) {
+			Promotion promotion = stocks.getStock(productId).getProduct().getPromotion();
+			promotionActivities.computeIfAbsent(promotion, activePromotions::contains);
+			renderRow(productId);
+		}
+	}
+
+	private void renderRow(int productId) {
+		rowBuilder.setLength(0);
+		renderStock(rowBuilder, renderedStocks.getStock(productId));
+		renderedRows[productId] = rowBuilder.toString();
+	}
+
+	StockRenderer renderPage(StockPage stockPage, ActivePromotions activePromotions) {
+		this.activePromotions = activePromotions;
+
+		StringBuilder builder = renderBuffer.reset();
+		STOCK_ANNOUNCE_COMMENT.appendTo(builder, texts, numbers);
+		for (Stock stock : stockPage.getStocks()) {
+			renderStock(builder, stock);
+		}
+		STOCK_END.appendTo(builder, texts, numbers);
+		return this;
+	}
+
+	private void renderStock(StringBuilder builder, Stock stock) {
+		Product product = stock.getProduct();
+		texts[0] = product.getName();
+		numbers[0] = product.getPrice();
+
+		if (product.hasActivePromotion(activePromotions)) {
+			renderPromotionStock(builder, stock, product);
+		}
+		renderGeneralStock(builder, stock);
+	}
+
+	private void renderPromotionStock(StringBuilder builder, Stock stock, Product product) {
+		texts[1] = product.getPromotion().getName();
+		numbers[1] = stock.getPromotionQuantity();
+
+		if (stock.getPromotionQuantity() == 0) {
+			EMPTY_PROMOTION_STOCK.appendTo(builder, texts, numbers);
+			return;
+		}
+		PROMOTION_STOCK.appendTo(builder, texts, numbers);
+	}
+
+	private void renderGeneralStock(StringBuilder builder, Stock stock) {
+		numbers[1] = stock.getGeneralQuantity();
+
+		if (stock.getGeneralQuantity() == 0) {
+			EMPTY_GENERAL_STOCK.appendTo(builder, texts, numbers);
+			return;
+		}
+		GENERAL_STOCK.appendTo(builder, texts, numbers);
+	}
+
+	void writeTo(PrintStream out) {
+		renderBuffer.writeTo(out);
+	}
+}
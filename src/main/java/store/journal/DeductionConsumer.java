@@ -0,0 +1,7 @@
+package store.journal;
+
+@FunctionalInterface
+interface DeductionConsumer {
+
+	void accept(int productId, int promotionQuantity, int generalQuantity);
+}
@@ -0,0 +1,437 @@
+package store.journal;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongBinaryOperator;
+import java.util.function.UnaryOperator;
+import java.util.zip.CRC32;
+
+import store.domain.StockJournal;
+import store.domain.Stocks;
+
+public class FileStockJournal implements StockJournal {
+
+	private static final String THREAD_NAME = "stock-journal-writer";
+	private static final String SEGMENT_SUFFIX = ".segment";
+	private static final int INITIAL_BUFFER_BYTES = 1 << 16;
+
+	private final Path activePath;
+	private final PositionedFiles closedSegments;
+	private final GroupCommitPolicy policy;
+	private final SegmentPolicy segmentPolicy;
+	private final int catalogChecksum;
+	private final ReentrantLock lock;
+	private final Condition pendingCondition;
+	private final Condition durableCondition;
+	private final CRC32 checksum;
+	private final Thread writer;
+	private volatile FileChannel channel;
+	private StockImage image;
+	private JournalCompactor compactor;
+	private ByteBuffer pending;
+	private ByteBuffer writing;
+	private long pendingBatch;
+	private long durableBatch;
+	private long firstPendingNanos;
+	private long segmentBasePosition;
+	private long segmentFirstRecordPosition;
+	private long segmentStartNanos;
+	private long journalEnd;
+	private boolean running;
+	private boolean failed;
+
+	private FileStockJournal(Path activePath, GroupCommitPolicy policy, SegmentPolicy segmentPolicy,
+		int catalogChecksum) {
+		this.activePath = activePath;
+		this.closedSegments = PositionedFiles.of(activePath, SEGMENT_SUFFIX);
+		this.policy = policy;
+		this.segmentPolicy = segmentPolicy;
+		this.catalogChecksum = catalogChecksum;
+		this.lock = new ReentrantLock();
+		this.pendingCondition = lock.newCondition();
+		this.durableCondition = lock.newCondition();
+		this.checksum = new CRC32();
+		this.writer = new Thread(this::writeBatches, THREAD_NAME);
+		this.writer.setDaemon(true);
+		this.pending = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+		this.writing = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+		this.pendingBatch = 1;
+	}
+
+	public static FileStockJournal open(Path path, Stocks stocks, GroupCommitPolicy policy) {
+		FileStockJournal journal = new FileStockJournal(path, policy, SegmentPolicy.rolling(),
+			StockSnapshot.catalogChecksumOf(stocks));
+		journal.recoverSegments((firstPosition, lastPosition) -> SnapshotStore.NO_SNAPSHOT,
+			(productId, promotionQuantity, generalQuantity) -> {
+			});
+		journal.startWriter();
+		return journal;
+	}
+
+	public static FileStockJournal recover(Path path, Stocks stocks, GroupCommitPolicy policy) {
+		FileStockJournal journal = new FileStockJournal(path, policy, SegmentPolicy.rolling(),
+			StockSnapshot.catalogChecksumOf(stocks));
+		journal.recoverSegments((firstPosition, lastPosition) -> SnapshotStore.NO_SNAPSHOT, stocks::replayDeduction);
+		journal.startWriter();
+		stocks.attachJournal(journal);
+		return journal;
+	}
+
+	public static FileStockJournal recover(Path path, Stocks stocks, GroupCommitPolicy policy,
+		SnapshotPolicy snapshotPolicy) {
+		return recover(path, stocks, policy, SegmentPolicy.rolling(), snapshotPolicy);
+	}
+
+	public static FileStockJournal recover(Path path, Stocks stocks, GroupCommitPolicy policy,
+		SegmentPolicy segmentPolicy, SnapshotPolicy snapshotPolicy) {
+		SnapshotStore snapshotStore = SnapshotStore.of(path, snapshotPolicy.getRetainedCount());
+		int catalogChecksum = StockSnapshot.catalogChecksumOf(stocks);
+		FileStockJournal journal = new FileStockJournal(path, policy, segmentPolicy, catalogChecksum);
+		journal.recoverSegments((firstPosition, lastPosition) ->
+				snapshotStore.restoreNewest(stocks, catalogChecksum, firstPosition, lastPosition),
+			stocks::replayDeduction);
+
+		journal.image = StockImage.from(stocks, catalogChecksum, journal.journalEnd);
+		journal.compactor = JournalCompactor.start(journal, journal.image, snapshotStore, snapshotPolicy);
+		journal.startWriter();
+		stocks.attachJournal(journal);
+		return journal;
+	}
+
+	private void recoverSegments(LongBinaryOperator replayStartOf, DeductionConsumer consumer) {
+		try {
+			List<JournalSegment> segments = findSegments();
+			validateContinuous(segments);
+			validateCatalog(segments);
+
+			JournalSegment activeSegment = segments.get(segments.size() - 1);
+			long replayStart = replayStartOf.applyAsLong(segments.get(0).getBasePosition(),
+				activeSegment.getEndPosition());
+			journalEnd = replay(segments, Math.max(0, replayStart), consumer);
+
+			channel = JournalSegment.openForAppend(activePath, journalEnd - activeSegment.getBasePosition());
+			segmentBasePosition = activeSegment.getBasePosition();
+			segmentFirstRecordPosition = activeSegment.getFirstRecordPosition();
+			segmentStartNanos = System.nanoTime();
+		} catch (IOException | IllegalArgumentException e) {
+			throw new IllegalStateException(CAN_NOT_READ_JOURNAL.getMessage());
+		}
+	}
+
+	private List<JournalSegment> findSegments() throws IOException {
+		List<JournalSegment> segments = new ArrayList<>();
+		for (Path path : closedSegments.findInPositionOrder()) {
+			segments.add(JournalSegment.read(path));
+		}
+
+		if (!Files.exists(activePath) || Files.size(activePath) == 0) {
+			JournalSegment.create(activePath, endPositionOf(segments), catalogChecksum).close();
+		}
+		segments.add(JournalSegment.read(activePath));
+		return segments;
+	}
+
+	private static long endPositionOf(List<JournalSegment> segments) {
+		if (segments.isEmpty()) {
+			return 0;
+		}
+		return segments.get(segments.size() - 1).getEndPosition();
+	}
+
+	private static void validateContinuous(List<JournalSegment> segments) throws IOException {
+		for (int index = 1; index < segments.size(); index++) {
+			if (segments.get(index).getBasePosition() != segments.get(index - 1).getEndPosition()) {
+				throw new IOException();
+			}
+		}
+	}
+
+	private void validateCatalog(List<JournalSegment> segments) {
+		for (JournalSegment segment : segments) {
+			if (!segment.isWrittenFor(catalogChecksum)) {
+				throw new IllegalStateException(MISMATCHED_JOURNAL_CATALOG.getMessage());
+			}
+		}
+	}
+
+	private static long replay(List<JournalSegment> segments, long replayStart, DeductionConsumer consumer)
+		throws IOException {
+		if (replayStart < segments.get(0).getBasePosition()) {
+			throw new IOException();
+		}
+
+		long position = replayStart;
+		int activeIndex = segments.size() - 1;
+		for (int index = 0; index <= activeIndex; index++) {
+			JournalSegment segment = segments.get(index);
+			if (index < activeIndex && segment.getEndPosition() <= position) {
+				continue;
+			}
+
+			position = segment.replay(position, consumer);
+			if (index < activeIndex && position != segment.getEndPosition()) {
+				throw new IOException();
+			}
+		}
+		return position;
+	}
+
+	private void startWriter() {
+		running = true;
+		writer.start();
+	}
+
+	@Override
+	public void append(int[] productIds, int[] promotionQuantities, int[] generalQuantities, int lineCount) {
+		lock.lock();
+		try {
+			validateWritable();
+			long batch = pendingBatch;
+			encode(productIds, promotionQuantities, generalQuantities, lineCount);
+
+			while (durableBatch < batch && !failed) {
+				durableCondition.awaitUninterruptibly();
+			}
+			if (durableBatch < batch) {
+				throw new IllegalStateException(CAN_NOT_WRITE_JOURNAL.getMessage());
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void validateWritable() {
+		if (!running || failed) {
+			throw new IllegalStateException(CAN_NOT_WRITE_JOURNAL.getMessage());
+		}
+	}
+
+	private void encode(int[] productIds, int[] promotionQuantities, int[] generalQuantities, int lineCount) {
+		int recordBytes = JournalSegment.recordBytesOf(lineCount);
+		pending = JournalSegment.ensureCapacity(pending, recordBytes);
+
+		int start = pending.position();
+		if (start == 0) {
+			firstPendingNanos = System.nanoTime();
+			pendingCondition.signal();
+		}
+
+		pending.putInt(lineCount);
+		for (int line = 0; line < lineCount; line++) {
+			pending.putInt(productIds[line]).putInt(promotionQuantities[line]).putInt(generalQuantities[line]);
+		}
+		checksum.reset();
+		checksum.update(pending.array(), start, pending.position() - start);
+		pending.putInt((int)checksum.getValue());
+
+		if (pending.position() >= policy.getMaxBatchBytes()) {
+			pendingCondition.signal();
+		}
+	}
+
+	private void writeBatches() {
+		while (true) {
+			ByteBuffer batch;
+			long batchNumber;
+
+			lock.lock();
+			try {
+				while (running && pending.position() == 0) {
+					pendingCondition.awaitUninterruptibly();
+				}
+				if (pending.position() == 0) {
+					return;
+				}
+				awaitCommitDelay();
+
+				batch = pending;
+				pending = writing;
+				writing = batch;
+				batchNumber = pendingBatch++;
+			} finally {
+				lock.unlock();
+			}
+
+			boolean written = write(batch);
+			if (written) {
+				applyToImage(batch);
+			}
+			batch.clear();
+
+			lock.lock();
+			try {
+				if (written) {
+					durableBatch = batchNumber;
+				}
+				failed |= !written;
+				durableCondition.signalAll();
+			} finally {
+				lock.unlock();
+			}
+			if (!written) {
+				return;
+			}
+		}
+	}
+
+	private void awaitCommitDelay() {
+		if (!policy.isSyncOnCommit()) {
+			return;
+		}
+
+		long deadlineNanos = firstPendingNanos + policy.getCommitDelay().toNanos();
+		long remainingNanos = deadlineNanos - System.nanoTime();
+
+		while (running && pending.position() < policy.getMaxBatchBytes() && remainingNanos > 0) {
+			try {
+				pendingCondition.awaitNanos(remainingNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			remainingNanos = deadlineNanos - System.nanoTime();
+		}
+	}
+
+	private boolean write(ByteBuffer batch) {
+		long batchStart;
+		try {
+			rollOverIfDue();
+			batchStart = channel.position();
+		} catch (IOException e) {
+			return false;
+		}
+
+		try {
+			batch.flip();
+			while (batch.hasRemaining()) {
+				channel.write(batch);
+			}
+			if (policy.isSyncOnCommit()) {
+				channel.force(false);
+			}
+			return true;
+		} catch (IOException e) {
+			discardFrom(batchStart);
+			return false;
+		}
+	}
+
+	private void discardFrom(long batchStart) {
+		try {
+			channel.truncate(batchStart);
+			channel.position(batchStart);
+			channel.force(true);
+		} catch (IOException ignored) {
+		}
+	}
+
+	private void rollOverIfDue() throws IOException {
+		if (journalEnd == segmentFirstRecordPosition || !isSegmentDue()) {
+			return;
+		}
+
+		channel.force(true);
+		Files.move(activePath, closedSegments.pathOf(segmentBasePosition), StandardCopyOption.ATOMIC_MOVE);
+		channel.close();
+
+		channel = JournalSegment.create(activePath, journalEnd, catalogChecksum);
+		segmentBasePosition = journalEnd;
+		segmentFirstRecordPosition = journalEnd + JournalSegment.HEADER_BYTES;
+		segmentStartNanos = System.nanoTime();
+		journalEnd = segmentFirstRecordPosition;
+
+		if (compactor != null) {
+			compactor.wakeUp();
+		}
+	}
+
+	private boolean isSegmentDue() {
+		return journalEnd - segmentBasePosition >= segmentPolicy.getMaxSegmentBytes()
+			|| System.nanoTime() - segmentStartNanos >= segmentPolicy.getMaxSegmentAge().toNanos();
+	}
+
+	private void applyToImage(ByteBuffer batch) {
+		journalEnd += batch.limit();
+		if (image != null) {
+			image.apply(batch.rewind(), journalEnd);
+		}
+	}
+
+	void force() throws IOException {
+		while (true) {
+			FileChannel current = channel;
+			try {
+				current.force(false);
+				return;
+			} catch (ClosedChannelException e) {
+				if (current == channel) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	void wrapChannel(UnaryOperator<FileChannel> wrapper) {
+		lock.lock();
+		try {
+			channel = wrapper.apply(channel);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void compact() throws IOException {
+		if (compactor != null) {
+			compactor.compact();
+		}
+	}
+
+	void deleteSegmentsBefore(long position) throws IOException {
+		for (Path path : closedSegments.findInPositionOrder()) {
+			if (closedSegments.positionOf(path) + Files.size(path) > position) {
+				return;
+			}
+			Files.delete(path);
+		}
+	}
+
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			running = false;
+			pendingCondition.signalAll();
+		} finally {
+			lock.unlock();
+		}
+
+		try {
+			writer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (compactor != null) {
+			compactor.close();
+		}
+		closeQuietly(channel);
+	}
+
+	private static void closeQuietly(FileChannel channel) {
+		try {
+			channel.close();
+		} catch (IOException ignored) {
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package store.journal;
+
+import static store.common.ErrorMessage.*;
+
+import java.time.Duration;
+
+public class GroupCommitPolicy {
+
+	private static final Duration DEFAULT_COMMIT_DELAY = Duration.ofMillis(1);
+	private static final int DEFAULT_MAX_BATCH_BYTES = 1 << 20;
+
+	private final Duration commitDelay;
+	private final int maxBatchBytes;
+	private final boolean syncOnCommit;
+
+	private GroupCommitPolicy(Duration commitDelay, int maxBatchBytes, boolean syncOnCommit) {
+		this.commitDelay = commitDelay;
+		this.maxBatchBytes = maxBatchBytes;
+		this.syncOnCommit = syncOnCommit;
+	}
+
+	public static GroupCommitPolicy of(Duration commitDelay, int maxBatchBytes, boolean syncOnCommit) {
+		validatePolicy(commitDelay, maxBatchBytes);
+		return new GroupCommitPolicy(commitDelay, maxBatchBytes, syncOnCommit);
+	}
+
+	public static GroupCommitPolicy durable() {
+		return new GroupCommitPolicy(DEFAULT_COMMIT_DELAY, DEFAULT_MAX_BATCH_BYTES, true);
+	}
+
+	private static void validatePolicy(Duration commitDelay, int maxBatchBytes) {
+		if (commitDelay == null || commitDelay.isNegative() || maxBatchBytes <= 0) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+	}
+
+	public Duration getCommitDelay() {
+		return commitDelay;
+	}
+
+	public int getMaxBatchBytes() {
+		return maxBatchBytes;
+	}
+
+	public boolean isSyncOnCommit() {
+		return syncOnCommit;
+	}
+}
@@ -0,0 +1,34 @@
+package store.journal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+class IoThrottle {
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final long bytesPerSecond;
+	private long nextFreeNanos;
+
+	private IoThrottle(long bytesPerSecond, long nextFreeNanos) {
+		this.bytesPerSecond = bytesPerSecond;
+		this.nextFreeNanos = nextFreeNanos;
+	}
+
+	static IoThrottle of(long bytesPerSecond) {
+		return new IoThrottle(bytesPerSecond, System.nanoTime());
+	}
+
+	static IoThrottle unlimited() {
+		return of(Long.MAX_VALUE);
+	}
+
+	void acquire(int bytes) {
+		long now = System.nanoTime();
+		while (now < nextFreeNanos) {
+			LockSupport.parkNanos(nextFreeNanos - now);
+			now = System.nanoTime();
+		}
+		nextFreeNanos = Math.max(now, nextFreeNanos) + bytes * NANOS_PER_SECOND / bytesPerSecond;
+	}
+}
@@ -0,0 +1,81 @@
+package store.journal;
+
+import java.io.IOException;
+import java.util.concurrent.locks.LockSupport;
+
+class JournalCompactor implements AutoCloseable {
+
+	private static final String THREAD_NAME = "stock-journal-compactor";
+
+	private final FileStockJournal journal;
+	private final StockImage image;
+	private final SnapshotStore snapshotStore;
+	private final IoThrottle throttle;
+	private final long intervalNanos;
+	private final Thread thread;
+	private volatile boolean running;
+	private long savedPosition;
+
+	private JournalCompactor(FileStockJournal journal, StockImage image, SnapshotStore snapshotStore,
+		IoThrottle throttle, long intervalNanos) {
+		this.journal = journal;
+		this.image = image;
+		this.snapshotStore = snapshotStore;
+		this.throttle = throttle;
+		this.intervalNanos = intervalNanos;
+		this.savedPosition = SnapshotStore.NO_SNAPSHOT;
+		this.thread = new Thread(this::compactPeriodically, THREAD_NAME);
+		this.thread.setDaemon(true);
+	}
+
+	static JournalCompactor start(FileStockJournal journal, StockImage image, SnapshotStore snapshotStore,
+		SnapshotPolicy policy) {
+		JournalCompactor compactor = new JournalCompactor(journal, image, snapshotStore,
+			IoThrottle.of(policy.getMaxBytesPerSecond()), policy.getInterval().toNanos());
+		compactor.running = true;
+		compactor.thread.start();
+		return compactor;
+	}
+
+	private void compactPeriodically() {
+		while (running) {
+			LockSupport.parkNanos(intervalNanos);
+			if (running) {
+				compactQuietly();
+			}
+		}
+	}
+
+	void wakeUp() {
+		LockSupport.unpark(thread);
+	}
+
+	private void compactQuietly() {
+		try {
+			compact();
+		} catch (IOException | RuntimeException ignored) {
+		}
+	}
+
+	synchronized void compact() throws IOException {
+		StockSnapshot snapshot = image.capture();
+		if (snapshot.getJournalPosition() != savedPosition) {
+			journal.force();
+			snapshotStore.save(snapshot, throttle);
+			savedPosition = snapshot.getJournalPosition();
+		}
+		journal.deleteSegmentsBefore(snapshotStore.findOldestPosition());
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		LockSupport.unpark(thread);
+		try {
+			thread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		compactQuietly();
+	}
+}
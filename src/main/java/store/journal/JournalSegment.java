@@ -0,0 +1,190 @@
+package store.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+class JournalSegment {
+
+	static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+	private static final int MAGIC = 0x534A_524E;
+	private static final int VERSION = 3;
+	private static final int POSITIONED_VERSION = 2;
+	private static final int POSITIONED_HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+	private static final int LEGACY_VERSION = 1;
+	private static final int LEGACY_HEADER_BYTES = Integer.BYTES * 2;
+	private static final int LINE_BYTES = Integer.BYTES * 3;
+	private static final int RECORD_OVERHEAD_BYTES = Integer.BYTES * 2;
+	private static final int INITIAL_BUFFER_BYTES = 1 << 16;
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final Path path;
+	private final long basePosition;
+	private final int headerBytes;
+	private final boolean hasCatalogChecksum;
+	private final int catalogChecksum;
+	private final long size;
+
+	private JournalSegment(Path path, long basePosition, int headerBytes, boolean hasCatalogChecksum,
+		int catalogChecksum, long size) {
+		this.path = path;
+		this.basePosition = basePosition;
+		this.headerBytes = headerBytes;
+		this.hasCatalogChecksum = hasCatalogChecksum;
+		this.catalogChecksum = catalogChecksum;
+		this.size = size;
+	}
+
+	static JournalSegment read(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			readFully(channel, header, 0);
+			header.flip();
+
+			if (header.remaining() < LEGACY_HEADER_BYTES || header.getInt() != MAGIC) {
+				throw new IOException();
+			}
+			int version = header.getInt();
+			if (version == LEGACY_VERSION) {
+				return new JournalSegment(path, 0, LEGACY_HEADER_BYTES, false, 0, channel.size());
+			}
+			if (version == POSITIONED_VERSION && header.remaining() >= Long.BYTES) {
+				return new JournalSegment(path, header.getLong(), POSITIONED_HEADER_BYTES, false, 0, channel.size());
+			}
+			if (version != VERSION || header.remaining() < Long.BYTES + Integer.BYTES) {
+				throw new IOException();
+			}
+			return new JournalSegment(path, header.getLong(), HEADER_BYTES, true, header.getInt(), channel.size());
+		}
+	}
+
+	static FileChannel create(Path path, long basePosition, int catalogChecksum) throws IOException {
+		Path temporary = path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putLong(basePosition)
+				.putInt(catalogChecksum);
+			writeFully(channel, header.flip(), 0);
+			channel.force(true);
+		}
+		Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		return openForAppend(path, HEADER_BYTES);
+	}
+
+	static FileChannel openForAppend(Path path, long validBytes) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			channel.truncate(validBytes);
+			channel.position(validBytes);
+			return channel;
+		} catch (IOException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	long replay(long fromPosition, DeductionConsumer consumer) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			CRC32 checksum = new CRC32();
+			ByteBuffer record = ByteBuffer.allocate(INITIAL_BUFFER_BYTES);
+			long offset = Math.max(fromPosition - basePosition, headerBytes);
+
+			while (size - offset >= RECORD_OVERHEAD_BYTES) {
+				ByteBuffer lineCount = ByteBuffer.allocate(Integer.BYTES);
+				readFully(channel, lineCount, offset);
+				int recordBytes = recordBytesOf(lineCount.getInt(0));
+				if (recordBytes < 0 || recordBytes > size - offset) {
+					break;
+				}
+
+				record = ensureCapacity(record.clear(), recordBytes);
+				record.limit(recordBytes);
+				readFully(channel, record, offset);
+				if (!hasValidChecksum(checksum, record, recordBytes)) {
+					break;
+				}
+
+				forEachLine(record.flip(), consumer);
+				offset += recordBytes;
+			}
+			return basePosition + offset;
+		}
+	}
+
+	static int recordBytesOf(int lineCount) {
+		if (lineCount < 0 || lineCount > (Integer.MAX_VALUE - RECORD_OVERHEAD_BYTES) / LINE_BYTES) {
+			return -1;
+		}
+		return RECORD_OVERHEAD_BYTES + lineCount * LINE_BYTES;
+	}
+
+	private static boolean hasValidChecksum(CRC32 checksum, ByteBuffer record, int recordBytes) {
+		checksum.reset();
+		checksum.update(record.array(), 0, recordBytes - Integer.BYTES);
+		return (int)checksum.getValue() == record.getInt(recordBytes - Integer.BYTES);
+	}
+
+	static void forEachLine(ByteBuffer records, DeductionConsumer consumer) {
+		while (records.hasRemaining()) {
+			int lineCount = records.getInt();
+			for (int line = 0; line < lineCount; line++) {
+				consumer.accept(records.getInt(), records.getInt(), records.getInt());
+			}
+			records.getInt();
+		}
+	}
+
+	static ByteBuffer ensureCapacity(ByteBuffer buffer, int additionalBytes) {
+		if (buffer.remaining() >= additionalBytes) {
+			return buffer;
+		}
+
+		int capacity = Math.max(buffer.capacity() * 2, buffer.position() + additionalBytes);
+		ByteBuffer expanded = ByteBuffer.allocate(capacity);
+		expanded.put(buffer.flip());
+		return expanded;
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		long readPosition = position;
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, readPosition);
+			if (read < 0) {
+				return;
+			}
+			readPosition += read;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		long writePosition = position;
+		while (buffer.hasRemaining()) {
+			writePosition += channel.write(buffer, writePosition);
+		}
+	}
+
+	boolean isWrittenFor(int catalogChecksum) {
+		return !hasCatalogChecksum || this.catalogChecksum == catalogChecksum;
+	}
+
+	Path getPath() {
+		return path;
+	}
+
+	long getBasePosition() {
+		return basePosition;
+	}
+
+	long getFirstRecordPosition() {
+		return basePosition + headerBytes;
+	}
+
+	long getEndPosition() {
+		return basePosition + size;
+	}
+}
@@ -0,0 +1,67 @@
+package store.journal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+class PositionedFiles {
+
+	static final long NO_POSITION = -1;
+	private static final String NAME_DELIMITER = ".";
+	private static final String POSITION_FORMAT = "%016x";
+	private static final int POSITION_RADIX = 16;
+
+	private final Path directory;
+	private final String namePrefix;
+	private final String nameSuffix;
+
+	private PositionedFiles(Path directory, String namePrefix, String nameSuffix) {
+		this.directory = directory;
+		this.namePrefix = namePrefix;
+		this.nameSuffix = nameSuffix;
+	}
+
+	static PositionedFiles of(Path journalPath, String nameSuffix) {
+		Path absolutePath = journalPath.toAbsolutePath();
+		return new PositionedFiles(absolutePath.getParent(), absolutePath.getFileName() + NAME_DELIMITER,
+			nameSuffix);
+	}
+
+	Path pathOf(long position) {
+		return directory.resolve(namePrefix + String.format(POSITION_FORMAT, position) + nameSuffix);
+	}
+
+	List<Path> findInPositionOrder() {
+		List<Path> paths = new ArrayList<>();
+		try (DirectoryStream<Path> directoryPaths = Files.newDirectoryStream(directory)) {
+			for (Path path : directoryPaths) {
+				if (positionOf(path) != NO_POSITION) {
+					paths.add(path);
+				}
+			}
+		} catch (IOException ignored) {
+		}
+
+		paths.sort(Comparator.comparingLong(this::positionOf));
+		return paths;
+	}
+
+	long positionOf(Path path) {
+		String name = path.getFileName().toString();
+		if (!name.startsWith(namePrefix) || !name.endsWith(nameSuffix)) {
+			return NO_POSITION;
+		}
+
+		try {
+			long position = Long.parseLong(
+				name.substring(namePrefix.length(), name.length() - nameSuffix.length()), POSITION_RADIX);
+			return Math.max(position, NO_POSITION);
+		} catch (NumberFormatException e) {
+			return NO_POSITION;
+		}
+	}
+}
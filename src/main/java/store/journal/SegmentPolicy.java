@@ -0,0 +1,42 @@
+package store.journal;
+
+import static store.common.ErrorMessage.*;
+
+import java.time.Duration;
+
+public class SegmentPolicy {
+
+	private static final long DEFAULT_MAX_SEGMENT_BYTES = 64L << 20;
+	private static final Duration DEFAULT_MAX_SEGMENT_AGE = Duration.ofHours(1);
+
+	private final long maxSegmentBytes;
+	private final Duration maxSegmentAge;
+
+	private SegmentPolicy(long maxSegmentBytes, Duration maxSegmentAge) {
+		this.maxSegmentBytes = maxSegmentBytes;
+		this.maxSegmentAge = maxSegmentAge;
+	}
+
+	public static SegmentPolicy of(long maxSegmentBytes, Duration maxSegmentAge) {
+		validatePolicy(maxSegmentBytes, maxSegmentAge);
+		return new SegmentPolicy(maxSegmentBytes, maxSegmentAge);
+	}
+
+	public static SegmentPolicy rolling() {
+		return new SegmentPolicy(DEFAULT_MAX_SEGMENT_BYTES, DEFAULT_MAX_SEGMENT_AGE);
+	}
+
+	private static void validatePolicy(long maxSegmentBytes, Duration maxSegmentAge) {
+		if (maxSegmentBytes <= 0 || maxSegmentAge == null || maxSegmentAge.isNegative() || maxSegmentAge.isZero()) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+	}
+
+	public long getMaxSegmentBytes() {
+		return maxSegmentBytes;
+	}
+
+	public Duration getMaxSegmentAge() {
+		return maxSegmentAge;
+	}
+}
@@ -0,0 +1,54 @@
+package store.journal;
+
+import static store.common.ErrorMessage.*;
+
+import java.time.Duration;
+
+public class SnapshotPolicy {
+
+	private static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+	private static final int DEFAULT_RETAINED_COUNT = 2;
+	private static final long DEFAULT_MAX_BYTES_PER_SECOND = 16L << 20;
+
+	private final Duration interval;
+	private final int retainedCount;
+	private final long maxBytesPerSecond;
+
+	private SnapshotPolicy(Duration interval, int retainedCount, long maxBytesPerSecond) {
+		this.interval = interval;
+		this.retainedCount = retainedCount;
+		this.maxBytesPerSecond = maxBytesPerSecond;
+	}
+
+	public static SnapshotPolicy of(Duration interval, int retainedCount) {
+		return of(interval, retainedCount, DEFAULT_MAX_BYTES_PER_SECOND);
+	}
+
+	public static SnapshotPolicy of(Duration interval, int retainedCount, long maxBytesPerSecond) {
+		validatePolicy(interval, retainedCount, maxBytesPerSecond);
+		return new SnapshotPolicy(interval, retainedCount, maxBytesPerSecond);
+	}
+
+	public static SnapshotPolicy periodic() {
+		return new SnapshotPolicy(DEFAULT_INTERVAL, DEFAULT_RETAINED_COUNT, DEFAULT_MAX_BYTES_PER_SECOND);
+	}
+
+	private static void validatePolicy(Duration interval, int retainedCount, long maxBytesPerSecond) {
+		if (interval == null || interval.isNegative() || interval.isZero() || retainedCount <= 0
+			|| maxBytesPerSecond <= 0) {
+			throw new IllegalArgumentException(INCORRECT_INPUT_FORMAT.getMessage());
+		}
+	}
+
+	public Duration getInterval() {
+		return interval;
+	}
+
+	public int getRetainedCount() {
+		return retainedCount;
+	}
+
+	public long getMaxBytesPerSecond() {
+		return maxBytesPerSecond;
+	}
+}
@@ -0,0 +1,84 @@
+package store.journal;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import store.domain.Stocks;
+
+class SnapshotStore {
+
+	static final long NO_SNAPSHOT = PositionedFiles.NO_POSITION;
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	private final PositionedFiles snapshotFiles;
+	private final int retainedCount;
+
+	private SnapshotStore(PositionedFiles snapshotFiles, int retainedCount) {
+		this.snapshotFiles = snapshotFiles;
+		this.retainedCount = retainedCount;
+	}
+
+	static SnapshotStore of(Path journalPath, int retainedCount) {
+		return new SnapshotStore(PositionedFiles.of(journalPath, SNAPSHOT_SUFFIX), retainedCount);
+	}
+
+	long restoreNewest(Stocks stocks, int catalogChecksum, long firstPosition, long lastPosition) {
+		List<Path> snapshots = snapshotFiles.findInPositionOrder();
+		boolean hasOtherCatalog = false;
+		for (int index = snapshots.size() - 1; index >= 0; index--) {
+			Path path = snapshots.get(index);
+			long position = snapshotFiles.positionOf(path);
+			if (position < firstPosition || position > lastPosition) {
+				continue;
+			}
+
+			try {
+				StockSnapshot snapshot = StockSnapshot.readFrom(path);
+				if (!snapshot.matches(catalogChecksum, stocks.size())) {
+					hasOtherCatalog = true;
+					continue;
+				}
+				if (snapshot.getJournalPosition() == position) {
+					snapshot.applyTo(stocks);
+					return position;
+				}
+			} catch (IOException ignored) {
+			}
+		}
+
+		if (hasOtherCatalog) {
+			throw new IllegalStateException(MISMATCHED_JOURNAL_CATALOG.getMessage());
+		}
+		return NO_SNAPSHOT;
+	}
+
+	void save(StockSnapshot snapshot, IoThrottle throttle) throws IOException {
+		Path target = snapshotFiles.pathOf(snapshot.getJournalPosition());
+		Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+
+		snapshot.writeTo(temporary, throttle);
+		Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		deleteExpired();
+	}
+
+	private void deleteExpired() throws IOException {
+		List<Path> snapshots = snapshotFiles.findInPositionOrder();
+		for (int index = 0; index < snapshots.size() - retainedCount; index++) {
+			Files.deleteIfExists(snapshots.get(index));
+		}
+	}
+
+	long findOldestPosition() {
+		List<Path> snapshots = snapshotFiles.findInPositionOrder();
+		if (snapshots.isEmpty()) {
+			return NO_SNAPSHOT;
+		}
+		return snapshotFiles.positionOf(snapshots.get(0));
+	}
+}
@@ -0,0 +1,83 @@
+package store.journal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import store.domain.Stocks;
+
+class StockImage {
+
+	static final int PAGE_SHIFT = 12;
+	static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+	static final int PAGE_MASK = PAGE_SIZE - 1;
+	private static final int QUANTITY_BITS = Integer.SIZE;
+	private static final long QUANTITY_MASK = 0xFFFF_FFFFL;
+
+	private final int size;
+	private final int catalogChecksum;
+	private final long[][] pages;
+	private final boolean[] sharedPages;
+	private long journalPosition;
+
+	private StockImage(int size, int catalogChecksum, long[][] pages, long journalPosition) {
+		this.size = size;
+		this.catalogChecksum = catalogChecksum;
+		this.pages = pages;
+		this.sharedPages = new boolean[pages.length];
+		this.journalPosition = journalPosition;
+	}
+
+	static StockImage from(Stocks stocks, int catalogChecksum, long journalPosition) {
+		long[][] pages = allocatePages(stocks.size());
+		for (int productId = 0; productId < stocks.size(); productId++) {
+			pages[productId >>> PAGE_SHIFT][productId & PAGE_MASK] =
+				pack(stocks.getPromotionQuantity(productId), stocks.getGeneralQuantity(productId));
+		}
+		return new StockImage(stocks.size(), catalogChecksum, pages, journalPosition);
+	}
+
+	static long[][] allocatePages(int size) {
+		long[][] pages = new long[(size + PAGE_MASK) >>> PAGE_SHIFT][];
+		for (int page = 0; page < pages.length; page++) {
+			pages[page] = new long[Math.min(PAGE_SIZE, size - (page << PAGE_SHIFT))];
+		}
+		return pages;
+	}
+
+	synchronized void apply(ByteBuffer records, long journalPosition) {
+		JournalSegment.forEachLine(records, this::deduct);
+		this.journalPosition = journalPosition;
+	}
+
+	private void deduct(int productId, int promotionQuantity, int generalQuantity) {
+		long[] page = writablePage(productId >>> PAGE_SHIFT);
+		long quantities = page[productId & PAGE_MASK];
+		page[productId & PAGE_MASK] = pack(promotionQuantityOf(quantities) - promotionQuantity,
+			generalQuantityOf(quantities) - generalQuantity);
+	}
+
+	private long[] writablePage(int page) {
+		if (sharedPages[page]) {
+			pages[page] = pages[page].clone();
+			sharedPages[page] = false;
+		}
+		return pages[page];
+	}
+
+	synchronized StockSnapshot capture() {
+		Arrays.fill(sharedPages, true);
+		return StockSnapshot.of(journalPosition, catalogChecksum, size, pages.clone());
+	}
+
+	static long pack(int promotionQuantity, int generalQuantity) {
+		return ((long)promotionQuantity << QUANTITY_BITS) | (generalQuantity & QUANTITY_MASK);
+	}
+
+	static int promotionQuantityOf(long quantities) {
+		return (int)(quantities >>> QUANTITY_BITS);
+	}
+
+	static int generalQuantityOf(long quantities) {
+		return (int)(quantities & QUANTITY_MASK);
+	}
+}
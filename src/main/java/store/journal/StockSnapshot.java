@@ -0,0 +1,160 @@
+package store.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import store.domain.Stocks;
+
+class StockSnapshot {
+
+	private static final int MAGIC = 0x5353_4E50;
+	private static final int VERSION = 1;
+	private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES + Integer.BYTES * 2;
+	private static final int PRODUCT_BYTES = Integer.BYTES * 2;
+	private static final int BUFFER_BYTES = 1 << 16;
+
+	private final long journalPosition;
+	private final int catalogChecksum;
+	private final int size;
+	private final long[][] pages;
+
+	private StockSnapshot(long journalPosition, int catalogChecksum, int size, long[][] pages) {
+		this.journalPosition = journalPosition;
+		this.catalogChecksum = catalogChecksum;
+		this.size = size;
+		this.pages = pages;
+	}
+
+	static StockSnapshot of(long journalPosition, int catalogChecksum, int size, long[][] pages) {
+		return new StockSnapshot(journalPosition, catalogChecksum, size, pages);
+	}
+
+	static int catalogChecksumOf(Stocks stocks) {
+		CRC32 checksum = new CRC32();
+		for (int productId = 0; productId < stocks.size(); productId++) {
+			checksum.update(stocks.getProductName(productId).getBytes(StandardCharsets.UTF_8));
+			checksum.update(0);
+		}
+		return (int)checksum.getValue();
+	}
+
+	static StockSnapshot readFrom(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			CRC32 checksum = new CRC32();
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+			readFully(channel, buffer.limit(HEADER_BYTES));
+			checksum.update(buffer.flip());
+
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+				throw new IOException();
+			}
+			long journalPosition = buffer.getLong(Integer.BYTES * 2);
+			int catalogChecksum = buffer.getInt(Integer.BYTES * 2 + Long.BYTES);
+			int size = buffer.getInt(Integer.BYTES * 3 + Long.BYTES);
+			if (size < 0 || channel.size() != HEADER_BYTES + (long)size * PRODUCT_BYTES + Integer.BYTES) {
+				throw new IOException();
+			}
+
+			long[][] pages = readPages(channel, buffer, checksum, size);
+			readFully(channel, buffer.clear().limit(Integer.BYTES));
+			if (buffer.getInt(0) != (int)checksum.getValue()) {
+				throw new IOException();
+			}
+			return new StockSnapshot(journalPosition, catalogChecksum, size, pages);
+		}
+	}
+
+	private static long[][] readPages(FileChannel channel, ByteBuffer buffer, CRC32 checksum, int size)
+		throws IOException {
+		long[][] pages = StockImage.allocatePages(size);
+		buffer.clear().limit(0);
+
+		for (int productId = 0; productId < size; productId++) {
+			if (!buffer.hasRemaining()) {
+				long remainingBytes = (long)(size - productId) * PRODUCT_BYTES;
+				readFully(channel, buffer.clear().limit((int)Math.min(BUFFER_BYTES, remainingBytes)));
+				checksum.update(buffer.flip());
+				buffer.rewind();
+			}
+
+			int promotionQuantity = buffer.getInt();
+			int generalQuantity = buffer.getInt();
+			if (promotionQuantity < 0 || generalQuantity < 0) {
+				throw new IOException();
+			}
+			pages[productId >>> StockImage.PAGE_SHIFT][productId & StockImage.PAGE_MASK] =
+				StockImage.pack(promotionQuantity, generalQuantity);
+		}
+		return pages;
+	}
+
+	void writeTo(Path path, IoThrottle throttle) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			CRC32 checksum = new CRC32();
+			ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+			buffer.putInt(MAGIC).putInt(VERSION).putLong(journalPosition).putInt(catalogChecksum).putInt(size);
+
+			for (int productId = 0; productId < size; productId++) {
+				if (buffer.remaining() < PRODUCT_BYTES) {
+					flush(channel, buffer, checksum, throttle);
+				}
+				long quantities = quantitiesOf(productId);
+				buffer.putInt(StockImage.promotionQuantityOf(quantities))
+					.putInt(StockImage.generalQuantityOf(quantities));
+			}
+			flush(channel, buffer, checksum, throttle);
+
+			write(channel, buffer.putInt((int)checksum.getValue()).flip());
+			channel.force(true);
+		}
+	}
+
+	private static void flush(FileChannel channel, ByteBuffer buffer, CRC32 checksum, IoThrottle throttle)
+		throws IOException {
+		buffer.flip();
+		checksum.update(buffer.array(), 0, buffer.limit());
+		throttle.acquire(buffer.limit());
+		write(channel, buffer);
+		buffer.clear();
+	}
+
+	private static void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException();
+			}
+		}
+	}
+
+	void applyTo(Stocks stocks) {
+		for (int productId = 0; productId < size; productId++) {
+			long quantities = quantitiesOf(productId);
+			stocks.overwriteQuantity(productId, StockImage.promotionQuantityOf(quantities),
+				StockImage.generalQuantityOf(quantities));
+		}
+	}
+
+	private long quantitiesOf(int productId) {
+		return pages[productId >>> StockImage.PAGE_SHIFT][productId & StockImage.PAGE_MASK];
+	}
+
+	boolean matches(int catalogChecksum, int size) {
+		return this.catalogChecksum == catalogChecksum && this.size == size;
+	}
+
+	long getJournalPosition() {
+		return journalPosition;
+	}
+}
@@ -0,0 +1,37 @@
+package store.metric;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CheckoutMetrics {
+
+	private static final double P50 = 50;
+	private static final double P99 = 99;
+
+	private final LatencyHistogram checkoutNanos;
+	private final LongAdder completedOrders;
+	private final long startNanos;
+
+	private CheckoutMetrics(long startNanos) {
+		this.checkoutNanos = LatencyHistogram.create();
+		this.completedOrders = new LongAdder();
+		this.startNanos = startNanos;
+	}
+
+	public static CheckoutMetrics start() {
+		return new CheckoutMetrics(System.nanoTime());
+	}
+
+	public void record(long elapsedNanos) {
+		checkoutNanos.record(elapsedNanos);
+		completedOrders.increment();
+	}
+
+	public CheckoutReport report() {
+		return CheckoutReport.of(
+			completedOrders.sum(),
+			System.nanoTime() - startNanos,
+			checkoutNanos.valueAtPercentile(P50),
+			checkoutNanos.valueAtPercentile(P99)
+		);
+	}
+}
@@ -0,0 +1,46 @@
+package store.metric;
+
+public class CheckoutReport {
+
+	private static final double NANOS_PER_MILLI = 1_000_000.0;
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	private final long completedOrders;
+	private final long elapsedNanos;
+	private final long p50Nanos;
+	private final long p99Nanos;
+
+	private CheckoutReport(long completedOrders, long elapsedNanos, long p50Nanos, long p99Nanos) {
+		this.completedOrders = completedOrders;
+		this.elapsedNanos = elapsedNanos;
+		this.p50Nanos = p50Nanos;
+		this.p99Nanos = p99Nanos;
+	}
+
+	public static CheckoutReport of(long completedOrders, long elapsedNanos, long p50Nanos, long p99Nanos) {
+		return new CheckoutReport(completedOrders, elapsedNanos, p50Nanos, p99Nanos);
+	}
+
+	public double calculateOrdersPerSecond() {
+		if (elapsedNanos <= 0) {
+			return 0;
+		}
+		return completedOrders / (elapsedNanos / NANOS_PER_SECOND);
+	}
+
+	public double getP50Millis() {
+		return p50Nanos / NANOS_PER_MILLI;
+	}
+
+	public double getP99Millis() {
+		return p99Nanos / NANOS_PER_MILLI;
+	}
+
+	public long getCompletedOrders() {
+		return completedOrders;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+}
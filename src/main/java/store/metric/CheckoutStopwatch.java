@@ -0,0 +1,26 @@
+package store.metric;
+
+public class CheckoutStopwatch {
+
+	private long startNanos;
+	private long elapsedNanos;
+
+	private CheckoutStopwatch() {
+	}
+
+	public static CheckoutStopwatch create() {
+		return new CheckoutStopwatch();
+	}
+
+	public void start() {
+		startNanos = System.nanoTime();
+	}
+
+	public void stop() {
+		elapsedNanos += System.nanoTime() - startNanos;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+}
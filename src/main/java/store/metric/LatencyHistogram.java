@@ -0,0 +1,83 @@
+package store.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts;
+
+	private LatencyHistogram() {
+		this.counts = new AtomicLongArray(BUCKET_COUNT);
+	}
+
+	public static LatencyHistogram create() {
+		return new LatencyHistogram();
+	}
+
+	public void record(long value) {
+		counts.incrementAndGet(indexOf(Math.max(0, value)));
+	}
+
+	public long valueAtPercentile(double percentile) {
+		long[] snapshot = snapshot();
+		long totalCount = sum(snapshot);
+		if (totalCount == 0) {
+			return 0;
+		}
+
+		long targetRank = Math.max(1, (long)Math.ceil(percentile / 100 * totalCount));
+		long cumulativeCount = 0;
+		for (int index = 0; index < snapshot.length; index++) {
+			cumulativeCount += snapshot[index];
+			if (cumulativeCount >= targetRank) {
+				return highestValueOf(index);
+			}
+		}
+		return highestValueOf(snapshot.length - 1);
+	}
+
+	public long getTotalCount() {
+		return sum(snapshot());
+	}
+
+	private long[] snapshot() {
+		long[] snapshot = new long[BUCKET_COUNT];
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			snapshot[index] = counts.get(index);
+		}
+		return snapshot;
+	}
+
+	private long sum(long[] snapshot) {
+		long totalCount = 0;
+		for (long count : snapshot) {
+			totalCount += count;
+		}
+		return totalCount;
+	}
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int)value;
+		}
+
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int)(value >>> shift) & SUB_BUCKET_MASK;
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowestValue = (long)(SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << shift;
+		return lowestValue + (1L << shift) - 1;
+	}
+}
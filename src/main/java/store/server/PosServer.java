@@ -0,0 +1,151 @@
+package store.server;
+
+import static store.common.ErrorMessage.*;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import store.ConvenienceStore;
+import store.domain.Stocks;
+import store.io.IOHandler;
+import store.io.input.InputHandler;
+import store.io.input.validation.UserInputValidation;
+import store.io.output.OutputHandler;
+import store.metric.CheckoutMetrics;
+import store.metric.CheckoutReport;
+
+public class PosServer implements AutoCloseable {
+
+	private static final String REPORT_FORMAT = "[POS] 동시 접속 %d대 | 누적 결제 %d건 | 처리량 %.1f건/초 | p50 %.2fms | p99 %.2fms%n";
+	private static final String DISCONNECT_FORMAT = "[POS] 단말기 연결 종료 %s%n";
+	private static final String TERMINAL_FAILURE_FORMAT = "[POS] 단말기 오류로 연결 종료 %s | %s%n";
+
+	private final ServerSocket serverSocket;
+	private final Stocks stocks;
+	private final Function<IOHandler, ConvenienceStore> storeFactory;
+	private final CheckoutMetrics checkoutMetrics;
+	private final ExecutorService sessions;
+	private final Set<Socket> terminals;
+
+	private PosServer(ServerSocket serverSocket, Stocks stocks, Function<IOHandler, ConvenienceStore> storeFactory,
+		CheckoutMetrics checkoutMetrics) {
+		this.serverSocket = serverSocket;
+		this.stocks = stocks;
+		this.storeFactory = storeFactory;
+		this.checkoutMetrics = checkoutMetrics;
+		this.sessions = Executors.newVirtualThreadPerTaskExecutor();
+		this.terminals = ConcurrentHashMap.newKeySet();
+	}
+
+	public static PosServer open(int port, Stocks stocks, Function<IOHandler, ConvenienceStore> storeFactory,
+		CheckoutMetrics checkoutMetrics) {
+		try {
+			return new PosServer(new ServerSocket(port), stocks, storeFactory, checkoutMetrics);
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_OPEN_SERVER.getMessage());
+		}
+	}
+
+	public void serve(Duration reportInterval, PrintStream reportOut) {
+		sessions.submit(() -> report(reportInterval, reportOut));
+
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket terminal = serverSocket.accept();
+				terminals.add(terminal);
+				sessions.submit(() -> serveTerminal(terminal, reportOut));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int countTerminals() {
+		return terminals.size();
+	}
+
+	private void serveTerminal(Socket terminal, PrintStream reportOut) {
+		SocketAddress terminalAddress = terminal.getRemoteSocketAddress();
+
+		try (terminal) {
+			BufferedReader reader = new BufferedReader(
+				new InputStreamReader(terminal.getInputStream(), StandardCharsets.UTF_8));
+			PrintStream out = new PrintStream(terminal.getOutputStream(), true, StandardCharsets.UTF_8);
+
+			IOHandler ioHandler = new IOHandler(
+				new InputHandler(new UserInputValidation(), lineReaderOf(reader), out),
+				new OutputHandler(out)
+			);
+			storeFactory.apply(ioHandler).open(stocks);
+			reportOut.printf(DISCONNECT_FORMAT, terminalAddress);
+
+		} catch (NoSuchElementException e) {
+			reportOut.printf(DISCONNECT_FORMAT, terminalAddress);
+		} catch (IOException | RuntimeException e) {
+			reportOut.printf(TERMINAL_FAILURE_FORMAT, terminalAddress, e);
+		} finally {
+			terminals.remove(terminal);
+		}
+	}
+
+	private Supplier<String> lineReaderOf(BufferedReader reader) {
+		return () -> {
+			try {
+				String line = reader.readLine();
+				if (line == null) {
+					throw new NoSuchElementException();
+				}
+				return line;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		};
+	}
+
+	private void report(Duration reportInterval, PrintStream reportOut) {
+		try {
+			while (!serverSocket.isClosed()) {
+				Thread.sleep(reportInterval);
+				CheckoutReport report = checkoutMetrics.report();
+				reportOut.printf(REPORT_FORMAT, countTerminals(), report.getCompletedOrders(),
+					report.calculateOrdersPerSecond(), report.getP50Millis(), report.getP99Millis());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void close() {
+		closeQuietly(serverSocket);
+		terminals.forEach(this::closeQuietly);
+		sessions.shutdownNow();
+	}
+
+	private void closeQuietly(Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException ignored) {
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package store.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class EpochMillis {
+
+	private static final long MILLIS_PER_SECOND = 1_000L;
+	private static final int NANOS_PER_MILLI = 1_000_000;
+
+	private EpochMillis() {
+	}
+
+	public static long of(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC) * MILLIS_PER_SECOND + dateTime.getNano() / NANOS_PER_MILLI;
+	}
+
+	public static LocalDateTime toDateTime(long epochMillis) {
+		return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, MILLIS_PER_SECOND),
+			(int)Math.floorMod(epochMillis, MILLIS_PER_SECOND) * NANOS_PER_MILLI, ZoneOffset.UTC);
+	}
+}
@@ -3,15 +3,22 @@ package store.util;
 import static store.common.ErrorMessage.*;
 
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 public class StoreFileReader {
 
 	private static final int HEADER_INDEX = 1;
 	private static final String DELIMITER = ",";
+	private static final long MAX_WINDOW_SIZE = 1L << 30;
+	private static final byte LINE_FEED = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
 
 	private StoreFileReader() {
 	}
@@ -34,4 +41,62 @@ public class StoreFileReader {
 			.toList();
 	}
 
+	public static void readEachWithoutHeader(String filePath, Consumer<StoreRow> rowConsumer) {
+		try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+			StoreRow row = new StoreRow();
+			long fileSize = channel.size();
+			long position = 0;
+			boolean skipHeader = true;
+
+			while (position < fileSize) {
+				long windowSize = Math.min(MAX_WINDOW_SIZE, fileSize - position);
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+				boolean lastWindow = position + windowSize == fileSize;
+
+				int consumed = readLines(window, lastWindow, skipHeader, row, rowConsumer);
+				if (consumed == 0) {
+					throw new IllegalStateException(CAN_NOT_READ_FILE.getMessage());
+				}
+				position += consumed;
+				skipHeader = false;
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException(CAN_NOT_READ_FILE.getMessage());
+		}
+	}
+
+	private static int readLines(MappedByteBuffer window, boolean lastWindow, boolean skipHeader, StoreRow row,
+		Consumer<StoreRow> rowConsumer) {
+		int limit = window.limit();
+		int lineStart = 0;
+		boolean skipLine = skipHeader;
+
+		for (int position = 0; position < limit; position++) {
+			if (window.get(position) == LINE_FEED) {
+				readLine(window, lineStart, position, skipLine, row, rowConsumer);
+				lineStart = position + 1;
+				skipLine = false;
+			}
+		}
+
+		if (lastWindow && lineStart < limit) {
+			readLine(window, lineStart, limit, skipLine, row, rowConsumer);
+			return limit;
+		}
+		return lineStart;
+	}
+
+	private static void readLine(MappedByteBuffer window, int lineStart, int lineEnd, boolean skipLine, StoreRow row,
+		Consumer<StoreRow> rowConsumer) {
+		if (lineEnd > lineStart && window.get(lineEnd - 1) == CARRIAGE_RETURN) {
+			lineEnd--;
+		}
+		if (skipLine || lineEnd == lineStart) {
+			return;
+		}
+
+		row.reset(window, lineStart, lineEnd);
+		rowConsumer.accept(row);
+	}
+
 }
@@ -0,0 +1,98 @@
+package store.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class StoreRow {
+
+	private static final byte FIELD_DELIMITER = ',';
+	private static final int INITIAL_FIELD_CAPACITY = 8;
+	private static final int INITIAL_SCRATCH_CAPACITY = 64;
+	private static final int MAX_FAST_PARSE_DIGITS = 9;
+
+	private ByteBuffer buffer;
+	private int[] fieldStarts;
+	private int[] fieldEnds;
+	private int fieldCount;
+	private byte[] scratch;
+
+	StoreRow() {
+		this.fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+		this.fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+		this.scratch = new byte[INITIAL_SCRATCH_CAPACITY];
+	}
+
+	void reset(ByteBuffer buffer, int lineStart, int lineEnd) {
+		this.buffer = buffer;
+		this.fieldCount = 0;
+
+		int fieldStart = lineStart;
+		for (int position = lineStart; position < lineEnd; position++) {
+			if (buffer.get(position) == FIELD_DELIMITER) {
+				addField(fieldStart, position);
+				fieldStart = position + 1;
+			}
+		}
+		addField(fieldStart, lineEnd);
+	}
+
+	private void addField(int fieldStart, int fieldEnd) {
+		if (fieldCount == fieldStarts.length) {
+			fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+			fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+		}
+		fieldStarts[fieldCount] = fieldStart;
+		fieldEnds[fieldCount] = fieldEnd;
+		fieldCount++;
+	}
+
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	public String getString(int index) {
+		Objects.checkIndex(index, fieldCount);
+		int length = fieldEnds[index] - fieldStarts[index];
+
+		if (scratch.length < length) {
+			scratch = new byte[Math.max(length, scratch.length * 2)];
+		}
+		buffer.get(fieldStarts[index], scratch, 0, length);
+		return new String(scratch, 0, length, StandardCharsets.UTF_8);
+	}
+
+	public int getInt(int index) {
+		Objects.checkIndex(index, fieldCount);
+		int length = fieldEnds[index] - fieldStarts[index];
+		if (length == 0 || length > MAX_FAST_PARSE_DIGITS) {
+			return Integer.parseInt(getString(index));
+		}
+
+		int value = 0;
+		for (int position = fieldStarts[index]; position < fieldEnds[index]; position++) {
+			int digit = buffer.get(position) - '0';
+			if (digit < 0 || digit > 9) {
+				return Integer.parseInt(getString(index));
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	public boolean isEqualTo(int index, String asciiValue) {
+		Objects.checkIndex(index, fieldCount);
+		int length = fieldEnds[index] - fieldStarts[index];
+		if (length != asciiValue.length()) {
+			return false;
+		}
+
+		for (int offset = 0; offset < length; offset++) {
+			if (buffer.get(fieldStarts[index] + offset) != asciiValue.charAt(offset)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
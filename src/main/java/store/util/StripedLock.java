@@ -0,0 +1,93 @@
+package store.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class StripedLock {
+
+	private static final int MAXIMUM_STRIPE_COUNT = 1 << 16;
+
+	private final ReentrantLock[] locks;
+	private final int mask;
+
+	private StripedLock(int stripeCount) {
+		this.locks = new ReentrantLock[stripeCount];
+		this.mask = stripeCount - 1;
+
+		for (int index = 0; index < stripeCount; index++) {
+			locks[index] = new ReentrantLock();
+		}
+	}
+
+	public static StripedLock of(int minimumStripeCount) {
+		int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(minimumStripeCount, MAXIMUM_STRIPE_COUNT)) * 2 - 1);
+		return new StripedLock(stripeCount);
+	}
+
+	public int stripeOf(Object key) {
+		return stripeOf(key.hashCode());
+	}
+
+	public int stripeOf(int key) {
+		return (key ^ (key >>> 16)) & mask;
+	}
+
+	public int[] stripesOf(List<?> keys) {
+		int[] stripes = new int[keys.size()];
+
+		for (int index = 0; index < stripes.length; index++) {
+			stripes[index] = stripeOf(keys.get(index));
+		}
+		Arrays.sort(stripes);
+		return distinct(stripes);
+	}
+
+	public int[] stripesOf(int[] keys) {
+		int[] stripes = new int[keys.length];
+
+		for (int index = 0; index < stripes.length; index++) {
+			stripes[index] = stripeOf(keys[index]);
+		}
+		Arrays.sort(stripes);
+		return distinct(stripes);
+	}
+
+	private int[] distinct(int[] sortedStripes) {
+		if (sortedStripes.length == 0) {
+			return sortedStripes;
+		}
+
+		int size = 1;
+		for (int index = 1; index < sortedStripes.length; index++) {
+			if (sortedStripes[index] != sortedStripes[size - 1]) {
+				sortedStripes[size++] = sortedStripes[index];
+			}
+		}
+		return Arrays.copyOf(sortedStripes, size);
+	}
+
+	public void lock(int stripe) {
+		locks[stripe].lock();
+	}
+
+	public void unlock(int stripe) {
+		locks[stripe].unlock();
+	}
+
+	public void lockAll(int[] sortedStripes) {
+		for (int stripe : sortedStripes) {
+			locks[stripe].lock();
+		}
+	}
+
+	public void unlockAll(int[] sortedStripes) {
+		for (int index = sortedStripes.length - 1; index >= 0; index--) {
+			locks[sortedStripes[index]].unlock();
+		}
+	}
+
+	public int getStripeCount() {
+		return locks.length;
+	}
+}
@@ -0,0 +1,256 @@
+package store.util.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class HierarchicalTimingWheel {
+
+	private static final int WHEEL_BITS = 6;
+	private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+	private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+	private static final int LEVEL_COUNT = 4;
+	private static final int OVERFLOW_LEVEL = LEVEL_COUNT;
+	private static final int OVERFLOW_SLOT = 0;
+
+	private final long tickMillis;
+	private final long startMillis;
+	private final WheelTimeout[][] buckets;
+	private final ReentrantLock lock;
+
+	private long currentTick;
+	private long liveTimeouts;
+	private long expiredTimeouts;
+	private long cancelledTimeouts;
+	private long failedTimeouts;
+	private long tickLagMillis;
+	private long maxTickLagMillis;
+
+	private HierarchicalTimingWheel(long tickMillis, long startMillis) {
+		this.tickMillis = tickMillis;
+		this.startMillis = startMillis;
+		this.buckets = new WheelTimeout[LEVEL_COUNT + 1][WHEEL_SIZE];
+		this.lock = new ReentrantLock();
+	}
+
+	public static HierarchicalTimingWheel of(long tickMillis, long startMillis) {
+		return new HierarchicalTimingWheel(tickMillis, startMillis);
+	}
+
+	public WheelTimeout schedule(Runnable task, long delayMillis, long nowMillis) {
+		long deadlineTick = Math.ceilDiv(nowMillis + delayMillis - startMillis, tickMillis);
+
+		lock.lock();
+		try {
+			WheelTimeout timeout = new WheelTimeout(this, task, Math.max(deadlineTick, currentTick + 1));
+			place(timeout);
+			liveTimeouts++;
+			return timeout;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	boolean cancel(WheelTimeout timeout) {
+		lock.lock();
+		try {
+			if (timeout.state != WheelTimeout.PENDING) {
+				return false;
+			}
+
+			unlink(timeout);
+			timeout.state = WheelTimeout.CANCELLED;
+			liveTimeouts--;
+			cancelledTimeouts++;
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int stateOf(WheelTimeout timeout) {
+		lock.lock();
+		try {
+			return timeout.state;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int advanceTo(long nowMillis) {
+		long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+		List<WheelTimeout> expiredTimeouts = new ArrayList<>();
+
+		lock.lock();
+		try {
+			recordTickLag(nowMillis, targetTick);
+			while (currentTick < targetTick) {
+				currentTick++;
+				cascade();
+				expireCurrentSlot(expiredTimeouts);
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		runAll(expiredTimeouts);
+		return expiredTimeouts.size();
+	}
+
+	private void runAll(List<WheelTimeout> expiredTimeouts) {
+		RuntimeException failure = null;
+		int failedCount = 0;
+
+		for (WheelTimeout expiredTimeout : expiredTimeouts) {
+			try {
+				expiredTimeout.run();
+			} catch (RuntimeException e) {
+				failure = addFailure(failure, e);
+				failedCount++;
+			}
+		}
+
+		if (failure != null) {
+			recordFailure(failedCount);
+			throw failure;
+		}
+	}
+
+	private void recordFailure(int failedCount) {
+		lock.lock();
+		try {
+			failedTimeouts += failedCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private RuntimeException addFailure(RuntimeException failure, RuntimeException e) {
+		if (failure == null) {
+			return e;
+		}
+
+		failure.addSuppressed(e);
+		return failure;
+	}
+
+	private void recordTickLag(long nowMillis, long targetTick) {
+		if (targetTick <= currentTick) {
+			tickLagMillis = 0;
+			return;
+		}
+
+		long firstDueMillis = startMillis + (currentTick + 1) * tickMillis;
+		tickLagMillis = nowMillis - firstDueMillis;
+		maxTickLagMillis = Math.max(maxTickLagMillis, tickLagMillis);
+	}
+
+	private void place(WheelTimeout timeout) {
+		long deadlineTick = timeout.deadlineTick;
+
+		for (int level = 0; level < LEVEL_COUNT; level++) {
+			int upperShift = WHEEL_BITS * (level + 1);
+			if ((deadlineTick >>> upperShift) == (currentTick >>> upperShift)) {
+				link(timeout, level, slotOf(deadlineTick, level));
+				return;
+			}
+		}
+
+		link(timeout, OVERFLOW_LEVEL, OVERFLOW_SLOT);
+	}
+
+	private int slotOf(long tick, int level) {
+		return (int)((tick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+	}
+
+	private void cascade() {
+		for (int level = OVERFLOW_LEVEL; level >= 1; level--) {
+			long levelSpanMask = (1L << (WHEEL_BITS * level)) - 1;
+
+			if ((currentTick & levelSpanMask) == 0) {
+				replace(detach(level, cascadeSlotOf(level)));
+			}
+		}
+	}
+
+	private int cascadeSlotOf(int level) {
+		if (level == OVERFLOW_LEVEL) {
+			return OVERFLOW_SLOT;
+		}
+		return slotOf(currentTick, level);
+	}
+
+	private void replace(WheelTimeout head) {
+		WheelTimeout timeout = head;
+
+		while (timeout != null) {
+			WheelTimeout next = timeout.next;
+			timeout.previous = null;
+			timeout.next = null;
+			place(timeout);
+			timeout = next;
+		}
+	}
+
+	private void expireCurrentSlot(List<WheelTimeout> expiredTimeouts) {
+		WheelTimeout timeout = detach(0, slotOf(currentTick, 0));
+
+		while (timeout != null) {
+			WheelTimeout next = timeout.next;
+			timeout.previous = null;
+			timeout.next = null;
+			timeout.state = WheelTimeout.EXPIRED;
+			liveTimeouts--;
+			this.expiredTimeouts++;
+			expiredTimeouts.add(timeout);
+			timeout = next;
+		}
+	}
+
+	private void link(WheelTimeout timeout, int level, int slot) {
+		WheelTimeout head = buckets[level][slot];
+
+		timeout.level = level;
+		timeout.slot = slot;
+		timeout.previous = null;
+		timeout.next = head;
+		if (head != null) {
+			head.previous = timeout;
+		}
+		buckets[level][slot] = timeout;
+	}
+
+	private void unlink(WheelTimeout timeout) {
+		if (timeout.previous == null) {
+			buckets[timeout.level][timeout.slot] = timeout.next;
+		} else {
+			timeout.previous.next = timeout.next;
+		}
+
+		if (timeout.next != null) {
+			timeout.next.previous = timeout.previous;
+		}
+		timeout.previous = null;
+		timeout.next = null;
+	}
+
+	private WheelTimeout detach(int level, int slot) {
+		WheelTimeout head = buckets[level][slot];
+		buckets[level][slot] = null;
+		return head;
+	}
+
+	public TimingWheelMetrics getMetrics() {
+		lock.lock();
+		try {
+			return TimingWheelMetrics.of(liveTimeouts, expiredTimeouts, cancelledTimeouts, failedTimeouts,
+				tickLagMillis, maxTickLagMillis);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public long getTickMillis() {
+		return tickMillis;
+	}
+}
@@ -0,0 +1,51 @@
+package store.util.timer;
+
+public class TimingWheelMetrics {
+
+	private final long liveTimeouts;
+	private final long expiredTimeouts;
+	private final long cancelledTimeouts;
+	private final long failedTimeouts;
+	private final long tickLagMillis;
+	private final long maxTickLagMillis;
+
+	private TimingWheelMetrics(long liveTimeouts, long expiredTimeouts, long cancelledTimeouts, long failedTimeouts,
+		long tickLagMillis, long maxTickLagMillis) {
+		this.liveTimeouts = liveTimeouts;
+		this.expiredTimeouts = expiredTimeouts;
+		this.cancelledTimeouts = cancelledTimeouts;
+		this.failedTimeouts = failedTimeouts;
+		this.tickLagMillis = tickLagMillis;
+		this.maxTickLagMillis = maxTickLagMillis;
+	}
+
+	public static TimingWheelMetrics of(long liveTimeouts, long expiredTimeouts, long cancelledTimeouts,
+		long failedTimeouts, long tickLagMillis, long maxTickLagMillis) {
+		return new TimingWheelMetrics(liveTimeouts, expiredTimeouts, cancelledTimeouts, failedTimeouts,
+			tickLagMillis, maxTickLagMillis);
+	}
+
+	public long getLiveTimeouts() {
+		return liveTimeouts;
+	}
+
+	public long getExpiredTimeouts() {
+		return expiredTimeouts;
+	}
+
+	public long getCancelledTimeouts() {
+		return cancelledTimeouts;
+	}
+
+	public long getFailedTimeouts() {
+		return failedTimeouts;
+	}
+
+	public long getTickLagMillis() {
+		return tickLagMillis;
+	}
+
+	public long getMaxTickLagMillis() {
+		return maxTickLagMillis;
+	}
+}
@@ -0,0 +1,76 @@
+package store.util.timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+public class TimingWheelTicker implements AutoCloseable {
+
+	private static final String THREAD_NAME = "timing-wheel-ticker";
+
+	private final HierarchicalTimingWheel timingWheel;
+	private final LongSupplier clockMillis;
+	private final Consumer<RuntimeException> failureHandler;
+	private final Thread thread;
+	private volatile boolean running;
+
+	private TimingWheelTicker(HierarchicalTimingWheel timingWheel, LongSupplier clockMillis,
+		Consumer<RuntimeException> failureHandler) {
+		this.timingWheel = timingWheel;
+		this.clockMillis = clockMillis;
+		this.failureHandler = failureHandler;
+		this.thread = new Thread(this::tick, THREAD_NAME);
+		this.thread.setDaemon(true);
+	}
+
+	private TimingWheelTicker(HierarchicalTimingWheel timingWheel, LongSupplier clockMillis,
+		Consumer<RuntimeException> failureHandler, Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+		this(timingWheel, clockMillis, failureHandler);
+		this.thread.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+	}
+
+	public static TimingWheelTicker start(HierarchicalTimingWheel timingWheel, LongSupplier clockMillis,
+		Consumer<RuntimeException> failureHandler) {
+		return start(new TimingWheelTicker(timingWheel, clockMillis, failureHandler));
+	}
+
+	public static TimingWheelTicker start(HierarchicalTimingWheel timingWheel, LongSupplier clockMillis,
+		Consumer<RuntimeException> failureHandler, Thread.UncaughtExceptionHandler uncaughtExceptionHandler) {
+		return start(new TimingWheelTicker(timingWheel, clockMillis, failureHandler, uncaughtExceptionHandler));
+	}
+
+	private static TimingWheelTicker start(TimingWheelTicker ticker) {
+		ticker.running = true;
+		ticker.thread.start();
+		return ticker;
+	}
+
+	private void tick() {
+		long tickNanos = TimeUnit.MILLISECONDS.toNanos(timingWheel.getTickMillis());
+
+		while (running) {
+			try {
+				timingWheel.advanceTo(clockMillis.getAsLong());
+			} catch (RuntimeException e) {
+				reportFailure(e);
+			}
+			LockSupport.parkNanos(tickNanos);
+		}
+	}
+
+	private void reportFailure(RuntimeException failure) {
+		try {
+			failureHandler.accept(failure);
+		} catch (RuntimeException handlerFailure) {
+			handlerFailure.addSuppressed(failure);
+			thread.getUncaughtExceptionHandler().uncaughtException(thread, handlerFailure);
+		}
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		LockSupport.unpark(thread);
+	}
+}
@@ -0,0 +1,41 @@
+package store.util.timer;
+
+public class WheelTimeout {
+
+	static final int PENDING = 0;
+	static final int CANCELLED = 1;
+	static final int EXPIRED = 2;
+
+	private final HierarchicalTimingWheel timingWheel;
+	private final Runnable task;
+	final long deadlineTick;
+
+	WheelTimeout previous;
+	WheelTimeout next;
+	int level;
+	int slot;
+	int state;
+
+	WheelTimeout(HierarchicalTimingWheel timingWheel, Runnable task, long deadlineTick) {
+		this.timingWheel = timingWheel;
+		this.task = task;
+		this.deadlineTick = deadlineTick;
+		this.state = PENDING;
+	}
+
+	public boolean cancel() {
+		return timingWheel.cancel(this);
+	}
+
+	void run() {
+		task.run();
+	}
+
+	public boolean isCancelled() {
+		return timingWheel.stateOf(this) == CANCELLED;
+	}
+
+	public boolean isExpired() {
+		return timingWheel.stateOf(this) == EXPIRED;
+	}
+}
@@ -0,0 +1,113 @@
+package store.batch;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.checkout.Cashier;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Stock;
+import store.domain.Stocks;
+import store.io.input.validation.UserInputValidation;
+import store.io.output.ReceiptJsonWriter;
+
+class BatchCheckoutTest {
+
+	@DisplayName("주문을 한 줄씩 결제하고 영수증을 한 줄씩 출력한다.")
+	@Test
+	void run() {
+
+		// given
+		Stocks stocks = createStocks();
+		StringWriter receiptOut = new StringWriter();
+		BatchCheckout batchCheckout = new BatchCheckout(new UserInputValidation(), new Cashier(),
+			new ReceiptJsonWriter(receiptOut));
+
+		String orders = String.join("\n",
+			"# 주석은 건너뛴다",
+			"[제로 콜라-2] ; extra=Y membership=Y",
+			"[없는 상품-1]",
+			"",
+			"[오렌지 주스-2]"
+		);
+
+		// when
+		BatchSummary batchSummary = batchCheckout.run(new BufferedReader(new StringReader(orders)), stocks,
+			BatchPolicy.asOrdered(), LocalDateTime.of(2022, 6, 1, 0, 0));
+
+		// then
+		assertThat(batchSummary.getCompletedOrders()).isEqualTo(2);
+		assertThat(batchSummary.getFailedOrders()).isEqualTo(1);
+		assertThat(receiptOut.toString().split("\n")).containsExactly(
+			"{\"line\":2,\"status\":\"OK\",\"items\":[{\"name\":\"제로 콜라\",\"quantity\":3,\"freeQuantity\":1,"
+				+ "\"price\":6000}],\"totalQuantity\":3,\"totalPrice\":6000,\"promotionDiscount\":2000,"
+				+ "\"memberShipDiscount\":0,\"payment\":4000}",
+			"{\"line\":3,\"status\":\"ERROR\",\"message\":\"[ERROR] 존재하지 않는 상품입니다. 다시 입력해 주세요.\"}",
+			"{\"line\":5,\"status\":\"OK\",\"items\":[{\"name\":\"오렌지 주스\",\"quantity\":2,\"freeQuantity\":0,"
+				+ "\"price\":3000}],\"totalQuantity\":2,\"totalPrice\":3000,\"promotionDiscount\":0,"
+				+ "\"memberShipDiscount\":0,\"payment\":3000}"
+		);
+		assertThat(stocks.getStocks().get("제로 콜라").getPromotionQuantity()).isEqualTo(7);
+	}
+
+	@DisplayName("줄마다 지정한 플래그로 정책을 덮어쓸 수 있다.")
+	@Test
+	void overrideWith() {
+
+		// given
+		BatchPolicy batchPolicy = BatchPolicy.asOrdered();
+
+		// when
+		BatchPolicy overriddenPolicy = batchPolicy.overrideWith("extra=y  unapplicable=N membership=Y",
+			new UserInputValidation());
+
+		// then
+		assertThat(overriddenPolicy.hasAdditionalPurchaseAboutExtraQuantity(null, 1)).isTrue();
+		assertThat(overriddenPolicy.hasNotAdditionalPurchaseUnApplicableQuantity(null, 1)).isTrue();
+		assertThat(overriddenPolicy.hasMemberShip()).isTrue();
+	}
+
+	@DisplayName("알 수 없는 플래그나 Y/N이 아닌 값은 허용하지 않는다.")
+	@Test
+	void overrideWithIncorrectFlag() {
+
+		// given
+		BatchPolicy batchPolicy = BatchPolicy.asOrdered();
+
+		// when // then
+		assertThatThrownBy(() -> batchPolicy.overrideWith("coupon=Y", new UserInputValidation()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("[ERROR]");
+		assertThatThrownBy(() -> batchPolicy.overrideWith("extra=X", new UserInputValidation()))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("[ERROR]");
+	}
+
+	private Stocks createStocks() {
+		Promotion promotion = Promotion.of("2+1 프로모션", 2, 1,
+			LocalDateTime.of(2022, 1, 1, 0, 0),
+			LocalDateTime.of(2022, 12, 31, 23, 59)
+		);
+
+		Stock stock01 = Stock.from(Product.create("제로 콜라", 2000, promotion));
+		Stock stock02 = Stock.from(Product.create("오렌지 주스", 1500, Promotion.getNoneInstance()));
+
+		stock01.incrementPromotionQuantity(10);
+		stock01.incrementGeneralQuantity(10);
+		stock02.incrementGeneralQuantity(10);
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put(stock01.getProduct().getName(), stock01);
+		stockMap.put(stock02.getProduct().getName(), stock02);
+		return Stocks.from(stockMap);
+	}
+}
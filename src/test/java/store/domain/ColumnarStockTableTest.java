@@ -0,0 +1,48 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ColumnarStockTableTest {
+
+	@DisplayName("같은 상품 번호로 재고를 다시 찾으면 만들어 둔 재고를 그대로 쓴다.")
+	@Test
+	void getStock() {
+
+		// given
+		ColumnarStockTable.Builder builder = ColumnarStockTable.builder(2);
+		int productId = builder.put("콜라", 1000, Promotion.getNoneInstance());
+		builder.incrementGeneralQuantity(productId, 10);
+		ColumnarStockTable stockTable = builder.build();
+
+		// when
+		Stock stock = stockTable.getStock(productId);
+		stock.deduct(3, ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 0, 0)));
+
+		// then
+		assertThat(stockTable.getStock(productId)).isSameAs(stock);
+		assertThat(stockTable.getStock(productId).getGeneralQuantity()).isEqualTo(7);
+	}
+
+	@DisplayName("상품 이름이 같으면 다른 문자열 객체여도 같은 상품으로 본다.")
+	@Test
+	void holds() {
+
+		// given
+		ColumnarStockTable.Builder builder = ColumnarStockTable.builder(2);
+		int productId = builder.put("콜라", 1000, Promotion.getNoneInstance());
+		ColumnarStockTable stockTable = builder.build();
+
+		// when
+		Product sameNameProduct = Product.create(productId, new String("콜라"), 1000, Promotion.getNoneInstance());
+		Product otherProduct = Product.create(productId, "사이다", 1000, Promotion.getNoneInstance());
+
+		// then
+		assertThat(stockTable.holds(productId, sameNameProduct)).isTrue();
+		assertThat(stockTable.holds(productId, otherProduct)).isFalse();
+	}
+}
@@ -0,0 +1,211 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LazyStockTableTest {
+
+	private static final ActivePromotions ACTIVE_PROMOTIONS = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+	@DisplayName("처음 찾는 상품만 재고를 만들고, 다시 찾으면 만들어 둔 재고를 그대로 쓴다.")
+	@Test
+	void getStock() {
+
+		// given
+		FixedStockCatalog stockCatalog = new FixedStockCatalog(10_000);
+		Stocks stocks = Stocks.from(LazyStockTable.of(stockCatalog, new Promotion[0]));
+
+		// when
+		Product product = stocks.findAvailableProductBy("상품7777", 3);
+		Stock stock = stocks.getStock(7777);
+
+		// then
+		assertThat(product.getId()).isEqualTo(7777);
+		assertThat(product.getPrice()).isEqualTo(1000 + 7777);
+		assertThat(stock.getProduct()).isSameAs(product);
+		assertThat(stockCatalog.readProductIds).containsExactly(7777);
+	}
+
+	@DisplayName("재고가 캐시에서 밀려나 다시 만들어져도 차감한 수량은 그대로 남는다.")
+	@Test
+	void getEvictedStock() {
+
+		// given
+		FixedStockCatalog stockCatalog = new FixedStockCatalog(100);
+		Stocks stocks = Stocks.from(LazyStockTable.of(stockCatalog, new Promotion[0], 1));
+		Stock firstStock = stocks.getStock(0);
+
+		// when
+		firstStock.deduct(3, ACTIVE_PROMOTIONS);
+		stocks.getStock(1);
+		Stock rematerializedStock = stocks.getStock(0);
+
+		// then
+		assertThat(rematerializedStock).isNotSameAs(firstStock);
+		assertThat(rematerializedStock.getGeneralQuantity()).isEqualTo(FixedStockCatalog.GENERAL_QUANTITY - 3);
+		assertThat(stockCatalog.readProductIds).containsExactly(0, 1, 0);
+	}
+
+	@DisplayName("재고 목록의 첫 페이지는 이미지의 이름 순서로 찾고, 그 페이지의 재고만 만든다.")
+	@Test
+	void findPage() {
+
+		// given
+		FixedStockCatalog stockCatalog = new FixedStockCatalog(10_000);
+		Stocks stocks = Stocks.from(LazyStockTable.of(stockCatalog, new Promotion[0]));
+
+		// when
+		StockPage page = stocks.findPage(StockQuery.firstPage(3).withNamePrefix("상품99"), ACTIVE_PROMOTIONS);
+
+		// then
+		assertThat(page.getStocks()).extracting(stock -> stock.getProduct().getName())
+			.containsExactly("상품99", "상품990", "상품9900");
+		assertThat(stockCatalog.readProductIds.size()).isLessThan(100);
+	}
+
+	@DisplayName("조건 없는 재고 목록의 첫 페이지는 전체 상품의 수량을 읽지 않고 그 페이지의 상품만 읽는다.")
+	@Test
+	void findFirstPage() {
+
+		// given
+		FixedStockCatalog stockCatalog = new FixedStockCatalog(10_000);
+		Stocks stocks = Stocks.from(LazyStockTable.of(stockCatalog, new Promotion[0]));
+
+		// when
+		StockPage page = stocks.findPage(StockQuery.firstPage(100), ACTIVE_PROMOTIONS);
+
+		// then
+		assertThat(page.getStocks()).hasSize(100);
+		assertThat(page.getStocks()).extracting(stock -> stock.getProduct().getName())
+			.startsWith("상품0", "상품1", "상품10", "상품100", "상품1000");
+		assertThat(page.hasNext()).isTrue();
+		assertThat(stockCatalog.readQuantityCount).isEqualTo(0);
+		assertThat(stockCatalog.readProductIds.size()).isLessThan(200);
+	}
+
+	@DisplayName("재고를 만들지 않은 상품의 수량은 이미지에서 읽고, 차감한 상품의 수량은 차감한 뒤의 수량을 읽는다.")
+	@Test
+	void getQuantity() {
+
+		// given
+		FixedStockCatalog stockCatalog = new FixedStockCatalog(100);
+		Stocks stocks = Stocks.from(LazyStockTable.of(stockCatalog, new Promotion[0], 1));
+
+		// when
+		stocks.getStock(0).deduct(3, ACTIVE_PROMOTIONS);
+		stocks.getStock(1);
+
+		// then
+		assertThat(stocks.getGeneralQuantity(0)).isEqualTo(FixedStockCatalog.GENERAL_QUANTITY - 3);
+		assertThat(stocks.getGeneralQuantity(2)).isEqualTo(FixedStockCatalog.GENERAL_QUANTITY);
+		assertThat(stockCatalog.readProductIds).containsExactly(0, 1);
+	}
+
+	@DisplayName("재고를 조회하기만 하면 수량을 따로 보관하지 않고, 수량이 처음 바뀐 상품만 보관한다.")
+	@Test
+	void countChangedQuantities() {
+
+		// given
+		FixedStockCatalog stockCatalog = new FixedStockCatalog(10_000);
+		LazyStockTable stockTable = LazyStockTable.of(stockCatalog, new Promotion[0], 1);
+		Stocks stocks = Stocks.from(stockTable);
+
+		// when
+		for (int productId = 0; productId < 1_000; productId++) {
+			stocks.findAvailableProductBy("상품" + productId, 1);
+			stocks.getStock(productId).validateOverFlowPurchasedQuantity(1);
+		}
+		stocks.findPage(StockQuery.firstPage(100), ACTIVE_PROMOTIONS);
+		int readOnlyCount = stockTable.countChangedQuantities();
+
+		for (int productId = 0; productId < 100; productId++) {
+			stocks.getStock(productId).deduct(productId % 5 + 1, ACTIVE_PROMOTIONS);
+		}
+
+		// then
+		assertThat(readOnlyCount).isEqualTo(0);
+		assertThat(stockTable.countChangedQuantities()).isEqualTo(100);
+		for (int productId = 0; productId < 100; productId++) {
+			assertThat(stocks.getGeneralQuantity(productId))
+				.isEqualTo(FixedStockCatalog.GENERAL_QUANTITY - (productId % 5 + 1));
+		}
+		assertThat(stocks.getGeneralQuantity(100)).isEqualTo(FixedStockCatalog.GENERAL_QUANTITY);
+	}
+
+	private static class FixedStockCatalog implements StockCatalog {
+
+		private static final String NAME_PREFIX = "상품";
+		private static final int GENERAL_QUANTITY = 10;
+
+		private final int productCount;
+		private final List<Integer> readProductIds;
+		private final int[] productIdsInNameOrder;
+		private int readQuantityCount;
+
+		private FixedStockCatalog(int productCount) {
+			this.productCount = productCount;
+			this.readProductIds = new ArrayList<>();
+			this.productIdsInNameOrder = IntStream.range(0, productCount)
+				.boxed()
+				.sorted(Comparator.comparing(productId -> NAME_PREFIX + productId))
+				.mapToInt(Integer::intValue)
+				.toArray();
+		}
+
+		@Override
+		public int getProductCount() {
+			return productCount;
+		}
+
+		@Override
+		public int findProductIdBy(String productName) {
+			return Integer.parseInt(productName.substring(NAME_PREFIX.length()));
+		}
+
+		@Override
+		public String getProductName(int productId) {
+			readProductIds.add(productId);
+			return NAME_PREFIX + productId;
+		}
+
+		@Override
+		public int getPrice(int productId) {
+			return 1000 + productId;
+		}
+
+		@Override
+		public boolean hasPromotion(int productId) {
+			return false;
+		}
+
+		@Override
+		public int getPromotionIndex(int productId) {
+			return -1;
+		}
+
+		@Override
+		public int getPromotionQuantity(int productId) {
+			readQuantityCount++;
+			return 0;
+		}
+
+		@Override
+		public int getGeneralQuantity(int productId) {
+			readQuantityCount++;
+			return GENERAL_QUANTITY;
+		}
+
+		@Override
+		public int getProductIdInNameOrder(int rank) {
+			return productIdsInNameOrder[rank];
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.util.EpochMillis;
+
+class PromotionEngineTest {
+
+	@DisplayName("주문 전체의 프로모션 결과를 한 번에 계산할 수 있다.")
+	@Test
+	void evaluate() {
+
+		// given
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1, LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2025, 1, 1, 0, 0));
+
+		Stock cola = Stock.from(Product.create(0, "콜라", 1000, promotion));
+		cola.incrementPromotionQuantity(10);
+		Stock cider = Stock.from(Product.create(1, "사이다", 1000, promotion));
+		cider.incrementPromotionQuantity(3);
+		cider.incrementGeneralQuantity(10);
+		Stock water = Stock.from(Product.create(2, "물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(10);
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put("콜라", cola);
+		stockMap.put("사이다", cider);
+		stockMap.put("물", water);
+		Stocks stocks = Stocks.from(stockMap);
+
+		PromotionEngine promotionEngine = PromotionEngine.of(1);
+		long now = EpochMillis.of(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+		// when
+		promotionEngine.evaluate(stocks, new int[] {0, 1, 2}, new int[] {5, 7, 3}, now);
+
+		// then
+		assertThat(promotionEngine.getFreeQuantities()).startsWith(1, 1, 0);
+		assertThat(promotionEngine.getExtraQuantities()).startsWith(1, 0, 0);
+		assertThat(promotionEngine.getUnApplicableQuantities()).startsWith(0, 4, 0);
+	}
+
+	@DisplayName("예약한 주문의 프로모션 결과는 예약으로 잡아 둔 프로모션 재고까지 포함해 계산한다.")
+	@Test
+	void evaluateReservation() {
+
+		// given
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1, LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2025, 1, 1, 0, 0));
+
+		Product cola = Product.create("콜라", 1000, promotion);
+		Stock colaStock = Stock.from(cola);
+		colaStock.incrementPromotionQuantity(3);
+		colaStock.incrementGeneralQuantity(10);
+		Product water = Product.create("물", 500, Promotion.getNoneInstance());
+		Stock waterStock = Stock.from(water);
+		waterStock.incrementGeneralQuantity(10);
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put("콜라", colaStock);
+		stockMap.put("물", waterStock);
+		Stocks stocks = Stocks.from(stockMap);
+
+		LocalDateTime now = LocalDateTime.of(2024, 6, 1, 0, 0);
+		Reservation reservation = stocks.reserve(Order.of(new Product[] {cola, water}, new int[] {5, 2}), now);
+		PromotionEngine promotionEngine = PromotionEngine.create();
+
+		// when
+		promotionEngine.evaluate(reservation, ActivePromotions.at(now));
+
+		// then
+		assertThat(colaStock.getPromotionQuantity()).isZero();
+		assertThat(promotionEngine.getFreeQuantities()).startsWith(1, 0);
+		assertThat(promotionEngine.getExtraQuantities()).startsWith(0, 0);
+		assertThat(promotionEngine.getUnApplicableQuantities()).startsWith(2, 0);
+	}
+
+	@DisplayName("없는 상품 번호가 있으면 프로모션 결과를 계산할 수 없다.")
+	@Test
+	void evaluateWithNotExistProduct() {
+
+		// given
+		Stock water = Stock.from(Product.create(0, "물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(10);
+		Stocks stocks = Stocks.from(Map.of("물", water));
+
+		PromotionEngine promotionEngine = PromotionEngine.create();
+
+		// when & then
+		assertThatThrownBy(() -> promotionEngine.evaluate(stocks, new int[] {0, 1}, new int[] {1, 1}, 0L))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("[ERROR] 존재하지 않는 상품입니다. 다시 입력해 주세요.");
+	}
+}
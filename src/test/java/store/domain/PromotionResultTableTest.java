@@ -0,0 +1,99 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PromotionResultTableTest {
+
+	@DisplayName("표에 저장한 프로모션 결과는 직접 계산한 결과와 같다.")
+	@CsvSource({
+		"2, 1",
+		"1, 1"
+	})
+	@ParameterizedTest(name = "{0}+{1} 프로모션의 표는 계산 결과와 같다")
+	void find(int buy, int get) {
+
+		// given
+		PromotionResultTable promotionResultTable = PromotionResultTable.of(buy, get, 16);
+
+		// when & then
+		for (int promotionQuantity = 0; promotionQuantity <= 40; promotionQuantity++) {
+			for (int purchasedQuantity = 0; purchasedQuantity <= 40; purchasedQuantity++) {
+				assertThat(promotionResultTable.find(promotionQuantity, purchasedQuantity))
+					.isEqualTo(promotionResultTable.calculate(promotionQuantity, purchasedQuantity));
+			}
+		}
+	}
+
+	@DisplayName("같은 프로모션 결과는 하나의 인스턴스를 함께 사용한다.")
+	@Test
+	void findWithSharedResult() {
+
+		// given
+		PromotionResultTable promotionResultTable = PromotionResultTable.of(2, 1);
+
+		// when
+		PromotionResult result = promotionResultTable.find(10, 7);
+
+		// then
+		assertThat(result)
+			.isSameAs(promotionResultTable.find(11, 7))
+			.extracting("freeQuantity", "extraQuantity", "unApplicableQuantity")
+			.containsExactly(2, 0, 0);
+	}
+
+	@DisplayName("프로모션이 적용되지 않는 결과는 하나의 빈 결과를 사용한다.")
+	@Test
+	void findWithNoneResult() {
+
+		// given
+		PromotionResultTable promotionResultTable = PromotionResultTable.of(2, 1);
+
+		// when
+		PromotionResult result = promotionResultTable.find(0, 0);
+
+		// then
+		assertThat(result).isSameAs(PromotionResult.getNoneInstance());
+	}
+
+	@DisplayName("구매 조건과 증정 수량의 합이 표의 범위를 넘으면 표를 만들지 않고 직접 계산한다.")
+	@Test
+	void findWithoutTable() {
+
+		// given
+		PromotionResultTable promotionResultTable = PromotionResultTable.of(1, 1_000_000);
+
+		// when
+		PromotionResult result = promotionResultTable.find(2_000_000, 1_500_000);
+
+		// then
+		assertThat(promotionResultTable.hasTable()).isFalse();
+		assertThat(result).isEqualTo(promotionResultTable.calculate(2_000_000, 1_500_000));
+	}
+
+	@DisplayName("프로모션을 만들 때 정한 범위로 결과 표를 만든다.")
+	@Test
+	void createWithResultBound() {
+
+		// given
+		LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+		LocalDateTime endDate = LocalDateTime.of(2024, 12, 31, 0, 0);
+
+		// when
+		Promotion promotion = Promotion.create(0, "탄산2+1", 2, 1, startDate, endDate, 8);
+		Promotion narrowPromotion = Promotion.create(1, "대량1+20", 1, 20, startDate, endDate, 8);
+
+		// then
+		assertThat(promotion.getResultTable().getBound()).isEqualTo(8);
+		assertThat(promotion.getResultTable().hasTable()).isTrue();
+		assertThat(narrowPromotion.getResultTable().hasTable()).isFalse();
+		assertThat(narrowPromotion.calculatePromotionResult(30, 21))
+			.isEqualTo(narrowPromotion.getResultTable().calculate(30, 21));
+	}
+}
@@ -0,0 +1,94 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import store.util.EpochMillis;
+
+class PromotionScheduleTest {
+
+	private static Stream<Arguments> provideDateTimeAroundMidnight() {
+		return Stream.of(
+			Arguments.of(LocalDateTime.of(2024, 10, 31, 23, 59, 59), false),
+			Arguments.of(LocalDateTime.of(2024, 11, 1, 0, 0), true),
+			Arguments.of(LocalDateTime.of(2024, 11, 30, 23, 59, 59), true),
+			Arguments.of(LocalDateTime.of(2024, 12, 1, 0, 0), false)
+		);
+	}
+
+	@DisplayName("자정을 넘어 프로모션 기간의 경계를 지나면 활성화된 프로모션이 바뀐다.")
+	@MethodSource("provideDateTimeAroundMidnight")
+	@ParameterizedTest(name = "{0} 시각에 프로모션 활성화는 {1}이다")
+	void at(LocalDateTime now, boolean expect) {
+
+		// given
+		Promotion promotion = Promotion.create(0, "반짝할인", 1, 1,
+			LocalDateTime.of(2024, 11, 1, 0, 0),
+			LocalDateTime.of(2024, 12, 1, 0, 0)
+		);
+		PromotionSchedule promotionSchedule = PromotionSchedule.from(Promotions.from(Map.of(
+			promotion.getName(), promotion
+		)));
+
+		// when
+		ActivePromotions activePromotions = promotionSchedule.at(EpochMillis.of(now));
+
+		// then
+		assertThat(activePromotions.contains(promotion)).isEqualTo(expect);
+	}
+
+	@DisplayName("시계가 거꾸로 가도 그 시각에 활성화된 프로모션을 조회할 수 있다.")
+	@Test
+	void atWithEarlierTime() {
+
+		// given
+		Promotion promotion = Promotion.create(0, "MD추천상품", 1, 1,
+			LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2025, 1, 1, 0, 0)
+		);
+		PromotionSchedule promotionSchedule = PromotionSchedule.from(Promotions.from(Map.of(
+			promotion.getName(), promotion
+		)));
+		promotionSchedule.at(EpochMillis.of(LocalDateTime.of(2025, 6, 1, 0, 0)));
+
+		// when
+		ActivePromotions activePromotions = promotionSchedule.at(EpochMillis.of(LocalDateTime.of(2024, 6, 1, 0, 0)));
+
+		// then
+		assertThat(activePromotions.contains(promotion)).isTrue();
+	}
+
+	@DisplayName("일정에 없는 프로모션은 기간을 직접 비교한다.")
+	@Test
+	void atWithUnscheduledPromotion() {
+
+		// given
+		Promotion scheduledPromotion = Promotion.create(0, "탄산2+1", 2, 1,
+			LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2024, 2, 1, 0, 0)
+		);
+		Promotion unscheduledPromotion = Promotion.of("MD추천상품", 1, 1,
+			LocalDateTime.of(2024, 6, 1, 0, 0),
+			LocalDateTime.of(2024, 7, 1, 0, 0)
+		);
+		PromotionSchedule promotionSchedule = PromotionSchedule.from(Promotions.from(Map.of(
+			scheduledPromotion.getName(), scheduledPromotion
+		)));
+
+		// when
+		ActivePromotions activePromotions = promotionSchedule.at(EpochMillis.of(LocalDateTime.of(2024, 6, 15, 0, 0)));
+
+		// then
+		assertThat(activePromotions.contains(scheduledPromotion)).isFalse();
+		assertThat(activePromotions.contains(unscheduledPromotion)).isTrue();
+	}
+}
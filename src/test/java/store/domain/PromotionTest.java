@@ -11,6 +11,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import store.util.EpochMillis;
+
 class PromotionTest {
 
 	private static Stream<Arguments> provideDateTimeForCheckingActive() {
@@ -109,6 +111,23 @@ class PromotionTest {
 		assertThat(result).isEqualTo(expect);
 	}
 
+	@DisplayName("에포크 밀리초로 바꾼 시각으로도 프로모션이 활성화되어 있는지 확인할 수 있다.")
+	@MethodSource("provideDateTimeForCheckingActive")
+	@ParameterizedTest(name = "{0} 시각에 프로모션 활성화는 {1}이다")
+	void isActiveWithEpochMillis(LocalDateTime testDateTime, boolean expect) {
+		// given
+		Promotion promotion = Promotion.of("Frod Promotion", 1, 1,
+			LocalDateTime.of(2001, 4, 21, 0, 0),
+			LocalDateTime.of(2001, 5, 21, 0, 0)
+		);
+
+		// when
+		boolean result = promotion.isActive(EpochMillis.of(testDateTime));
+
+		// then
+		assertThat(result).isEqualTo(expect);
+	}
+
 	@DisplayName("프로 모션 증정 수량을 계산할 수 있다")
 	@Test
 	void calculateFreeQuantity() {
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -235,4 +236,35 @@ class ReceiptsTest {
 		// then
 		assertThat(totalPayment).isEqualTo(11800);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("도매 영수증처럼 금액이 아주 커도 결제 금액을 정확히 계산할 수 있다.")
+	@Test
+	void calculateTotalPaymentWithLargeAmount() {
+
+		// given
+		Product product = Product.create("금괴", 1_000_000_000, Promotion.getNoneInstance());
+		List<Receipt> receiptList = Collections.nCopies(9, Receipt.of(product, 1_000_000_000, 0));
+
+		// when
+		Receipts receipts = Receipts.from(receiptList, MemberShip.of(false));
+
+		// then
+		assertThat(receipts.getSummary())
+			.extracting("totalQuantity", "totalPrice", "totalPayment")
+			.containsExactly(9_000_000_000L, 9_000_000_000_000_000_000L, 9_000_000_000_000_000_000L);
+	}
+
+	@DisplayName("결제 금액이 계산할 수 있는 범위를 넘으면 영수증을 만들 수 없다.")
+	@Test
+	void fromWithOverFlowPaymentAmount() {
+
+		// given
+		Product product = Product.create("금괴", Integer.MAX_VALUE, Promotion.getNoneInstance());
+		List<Receipt> receiptList = Collections.nCopies(3, Receipt.of(product, Integer.MAX_VALUE, 0));
+
+		// when & then
+		assertThatThrownBy(() -> Receipts.from(receiptList, MemberShip.of(false)))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("[ERROR] 계산할 수 있는 결제 금액을 초과했습니다. 다시 입력해 주세요.");
+	}
+}
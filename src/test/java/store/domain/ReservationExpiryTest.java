@@ -0,0 +1,91 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.util.timer.HierarchicalTimingWheel;
+
+class ReservationExpiryTest {
+
+	@DisplayName("보관 시간이 지난 예약은 만료되고 예약된 재고가 돌아온다.")
+	@Test
+	void watch() {
+
+		// given
+		Product product = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+		Stock stock = Stock.from(product);
+		stock.incrementGeneralQuantity(5);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(10, 0);
+		long[] clockMillis = {0};
+		ReservationExpiry reservationExpiry = ReservationExpiry.of(timingWheel, Duration.ofSeconds(30),
+			() -> clockMillis[0]);
+
+		Reservation reservation = stocks.reserve(Order.create(Map.of(product, 3)), now);
+		reservationExpiry.watch(stocks, reservation);
+		Receipts receipts = Receipts.from(List.of(Receipt.of(product, 3, 0)), MemberShip.of(false));
+
+		// when
+		clockMillis[0] = 30_000;
+		timingWheel.advanceTo(clockMillis[0]);
+
+		// then
+		assertAll(
+			() -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.EXPIRED),
+			() -> assertThat(stock.getGeneralQuantity()).isEqualTo(5),
+			() -> assertThat(reservationExpiry.getMetrics().getExpiredTimeouts()).isEqualTo(1),
+			() -> assertThatThrownBy(() -> stocks.commit(reservation, receipts, now))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("[ERROR]")
+		);
+	}
+
+	@DisplayName("보관 시간 안에 확정된 예약은 만료되지 않는다.")
+	@Test
+	void watchWithCommit() {
+
+		// given
+		Product product = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+		Stock stock = Stock.from(product);
+		stock.incrementGeneralQuantity(5);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(10, 0);
+		long[] clockMillis = {0};
+		ReservationExpiry reservationExpiry = ReservationExpiry.of(timingWheel, Duration.ofSeconds(30),
+			() -> clockMillis[0]);
+
+		Reservation reservation = stocks.reserve(Order.create(Map.of(product, 3)), now);
+		reservationExpiry.watch(stocks, reservation);
+
+		// when
+		clockMillis[0] = 10_000;
+		timingWheel.advanceTo(clockMillis[0]);
+		stocks.commit(reservation, Receipts.from(List.of(Receipt.of(product, 3, 0)), MemberShip.of(false)), now);
+
+		clockMillis[0] = 60_000;
+		timingWheel.advanceTo(clockMillis[0]);
+
+		// then
+		assertAll(
+			() -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.COMMITTED),
+			() -> assertThat(stock.getGeneralQuantity()).isEqualTo(2),
+			() -> assertThat(reservationExpiry.getMetrics())
+				.extracting("liveTimeouts", "expiredTimeouts", "cancelledTimeouts")
+				.containsExactly(0L, 0L, 1L)
+		);
+	}
+}
@@ -0,0 +1,45 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ReservationTest {
+
+	@DisplayName("예약한 프로모션 재고를 포함하여 프로모션 결과를 계산할 수 있다.")
+	@CsvSource({
+		"5, 1, 1, 0",
+		"15, 3, 0, 6"
+	})
+	@ParameterizedTest
+	void calculatePromotion(int purchasedQuantity, int expectedFreeQuantity, int expectedExtraQuantity,
+		int expectedUnApplicableQuantity) {
+
+		// given
+		Promotion promotion = Promotion.of("2+1 프로모션", 2, 1,
+			LocalDateTime.of(2022, 1, 1, 0, 0),
+			LocalDateTime.of(2022, 12, 31, 23, 59)
+		);
+
+		Product product = Product.create("제로 콜라", 2000, promotion);
+		Stock stock = Stock.from(product);
+		stock.incrementPromotionQuantity(10);
+		stock.incrementGeneralQuantity(10);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		LocalDateTime openDateTime = LocalDateTime.of(2022, 6, 1, 0, 0);
+		Reservation reservation = stocks.reserve(Order.create(Map.of(product, purchasedQuantity)), openDateTime);
+
+		// when
+		PromotionResult promotionResult = reservation.calculatePromotion(0, openDateTime);
+
+		// then
+		assertThat(promotionResult).extracting("freeQuantity", "extraQuantity", "unApplicableQuantity")
+			.containsExactly(expectedFreeQuantity, expectedExtraQuantity, expectedUnApplicableQuantity);
+	}
+}
@@ -0,0 +1,55 @@
+package store.domain;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockChangeLogTest {
+
+	@DisplayName("마지막으로 읽은 위치 이후에 변경된 상품만 순서대로 읽는다.")
+	@Test
+	void forEachChanged() {
+
+		// given
+		StockChangeLog stockChangeLog = StockChangeLog.of(8);
+		List<Integer> changedProductIds = new ArrayList<>();
+
+		stockChangeLog.record(3);
+		long readSequence = stockChangeLog.getSequence();
+		stockChangeLog.recordAll(new int[] {5, 1, 5}, 3);
+
+		// when
+		boolean readAll = stockChangeLog.forEachChanged(readSequence, stockChangeLog.getSequence(),
+			changedProductIds::add);
+
+		// then
+		assertAll(
+			() -> assertThat(readAll).isTrue(),
+			() -> assertThat(changedProductIds).containsExactly(5, 1, 5)
+		);
+	}
+
+	@DisplayName("읽지 않은 변경 기록이 덮어 쓰였다면 변경된 상품을 읽을 수 없다.")
+	@Test
+	void forEachChangedWithOverwrittenChanges() {
+
+		// given
+		StockChangeLog stockChangeLog = StockChangeLog.of(4);
+		List<Integer> changedProductIds = new ArrayList<>();
+
+		for (int productId = 0; productId < 6; productId++) {
+			stockChangeLog.record(productId);
+		}
+
+		// when
+		boolean readAll = stockChangeLog.forEachChanged(1, stockChangeLog.getSequence(), changedProductIds::add);
+
+		// then
+		assertThat(readAll).isFalse();
+	}
+}
@@ -4,6 +4,11 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
@@ -329,4 +334,58 @@ class StockTest {
 			.hasMessageContaining("[ERROR]");
 
 	}
-}
\ No newline at end of file
+
+	@DisplayName("동시에 재고를 차감해도 프로모션 재고를 먼저 차감하고 총 재고를 초과하여 차감하지 않는다.")
+	@Test
+	void deductQuantityConcurrently() throws InterruptedException {
+
+		// given
+		Promotion promotion = Promotion.of("Food Promotion", 1, 1,
+			LocalDateTime.of(2001, 4, 21, 0, 0),
+			LocalDateTime.of(2001, 5, 21, 0, 0)
+		);
+
+		Product product = Product.create("제로 콜라", 2000, promotion);
+		Stock stock = Stock.from(product);
+		stock.incrementPromotionQuantity(30);
+		stock.incrementGeneralQuantity(70);
+
+		LocalDateTime now = LocalDateTime.of(2001, 4, 25, 0, 0);
+		int threadCount = 8;
+		int attemptPerThread = 50;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		AtomicInteger successCount = new AtomicInteger();
+
+		// when
+		for (int thread = 0; thread < threadCount; thread++) {
+			executorService.submit(() -> {
+				try {
+					for (int attempt = 0; attempt < attemptPerThread; attempt++) {
+						deductQuietly(stock, now, successCount);
+					}
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(successCount.get()).isEqualTo(100),
+			() -> assertThat(stock.getPromotionQuantity()).isZero(),
+			() -> assertThat(stock.getGeneralQuantity()).isZero()
+		);
+	}
+
+	private void deductQuietly(Stock stock, LocalDateTime now, AtomicInteger successCount) {
+		try {
+			stock.deductQuantity(1, now);
+			successCount.incrementAndGet();
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+}
@@ -2,11 +2,17 @@ package store.domain;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static store.common.ErrorMessage.*;
 
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.DisplayName;
@@ -137,6 +143,33 @@ class StocksTest {
 			.hasMessageContaining("[ERROR]");
 	}
 
+	@DisplayName("상품 이름으로 상품 번호를 조회하고 번호로 재고를 찾을 수 있다.")
+	@Test
+	void findProductIdBy() {
+
+		// given
+		Product product01 = Product.create("제로 콜라", 2000, Promotion.getNoneInstance());
+		Product product02 = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put(product01.getName(), Stock.from(product01));
+		stockMap.put(product02.getName(), Stock.from(product02));
+
+		Stocks stocks = Stocks.from(stockMap);
+
+		// when
+		int productId = stocks.findProductIdBy("오렌지 주스");
+
+		// then
+		assertAll(
+			() -> assertThat(productId).isEqualTo(1),
+			() -> assertThat(stocks.getStock(productId).getProduct()).isEqualTo(product02),
+			() -> assertThatThrownBy(() -> stocks.findProductIdBy("null"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("[ERROR]")
+		);
+	}
+
 	@DisplayName("프로모션 결과를 계산할 수 있다.")
 	@CsvSource({
 		"5, 1, 1, 0",
@@ -254,4 +287,486 @@ class StocksTest {
 			() -> assertThat(stock02.getGeneralQuantity()).isEqualTo(7)
 		);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("주문 중 하나의 상품이라도 재고가 부족하면 어떤 재고도 차감하지 않는다.")
+	void deductQuantityWithPartialOverFlow() {
+
+		// given
+		Product product01 = Product.create("제로 콜라", 2000, Promotion.getNoneInstance());
+		Product product02 = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+
+		Stock stock01 = Stock.from(product01);
+		Stock stock02 = Stock.from(product02);
+
+		stock01.incrementGeneralQuantity(10);
+		stock02.incrementGeneralQuantity(2);
+
+		Stocks stocks = Stocks.from(Map.of(
+			product01.getName(), stock01,
+			product02.getName(), stock02
+		));
+
+		Receipts receipts = Receipts.from(
+			List.of(
+				Receipt.of(product01, 5, 0),
+				Receipt.of(product02, 3, 0)
+			),
+			MemberShip.of(false)
+		);
+
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+
+		// when // then
+		assertAll(
+			() -> assertThatThrownBy(() -> stocks.deductQuantity(receipts, now))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("[ERROR]"),
+			() -> assertThat(stock01.getGeneralQuantity()).isEqualTo(10),
+			() -> assertThat(stock02.getGeneralQuantity()).isEqualTo(2)
+		);
+	}
+
+	@Test
+	@DisplayName("여러 계산대에서 동시에 재고를 차감해도 재고를 초과하여 판매하지 않는다.")
+	void deductQuantityConcurrently() throws InterruptedException {
+
+		// given
+		Product product01 = Product.create("제로 콜라", 2000, Promotion.getNoneInstance());
+		Product product02 = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+
+		Stock stock01 = Stock.from(product01);
+		Stock stock02 = Stock.from(product02);
+
+		stock01.incrementGeneralQuantity(100);
+		stock02.incrementGeneralQuantity(100);
+
+		Stocks stocks = Stocks.from(Map.of(
+			product01.getName(), stock01,
+			product02.getName(), stock02
+		));
+
+		Receipts receipts = Receipts.from(
+			List.of(
+				Receipt.of(product01, 1, 0),
+				Receipt.of(product02, 1, 0)
+			),
+			MemberShip.of(false)
+		);
+
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+		int threadCount = 16;
+		int attemptPerThread = 20;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		AtomicInteger successCount = new AtomicInteger();
+
+		// when
+		for (int thread = 0; thread < threadCount; thread++) {
+			executorService.submit(() -> {
+				try {
+					for (int attempt = 0; attempt < attemptPerThread; attempt++) {
+						deductQuietly(stocks, receipts, now, successCount);
+					}
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(successCount.get()).isEqualTo(100),
+			() -> assertThat(stock01.getGeneralQuantity()).isZero(),
+			() -> assertThat(stock02.getGeneralQuantity()).isZero()
+		);
+	}
+
+	private void deductQuietly(Stocks stocks, Receipts receipts, LocalDateTime now, AtomicInteger successCount) {
+		try {
+			stocks.deductQuantity(receipts, now);
+			successCount.incrementAndGet();
+		} catch (IllegalArgumentException ignored) {
+		}
+	}
+
+	@Test
+	@DisplayName("재고가 부족해 취소될 주문이 차감 중이어도 다른 계산대의 주문은 실패하지 않는다.")
+	void deductQuantityWithFailingOrderConcurrently() throws InterruptedException {
+
+		// given
+		Product product01 = Product.create("제로 콜라", 2000, Promotion.getNoneInstance());
+		Product product02 = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+
+		Stock stock01 = Stock.from(product01);
+		Stock stock02 = Stock.from(product02);
+
+		stock01.incrementGeneralQuantity(200);
+		stock02.incrementGeneralQuantity(1);
+
+		Stocks stocks = Stocks.from(Map.of(
+			product01.getName(), stock01,
+			product02.getName(), stock02
+		));
+
+		Receipts singleLineReceipts = Receipts.from(List.of(Receipt.of(product01, 1, 0)), MemberShip.of(false));
+		Receipts failingReceipts = Receipts.from(
+			List.of(
+				Receipt.of(product01, 1, 0),
+				Receipt.of(product02, 2, 0)
+			),
+			MemberShip.of(false)
+		);
+
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+		int threadCount = 8;
+		int attemptPerThread = 25;
+
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount * 2);
+		CountDownLatch countDownLatch = new CountDownLatch(threadCount);
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger failingCount = new AtomicInteger();
+
+		// when
+		for (int thread = 0; thread < threadCount; thread++) {
+			executorService.submit(() -> {
+				while (countDownLatch.getCount() > 0) {
+					deductQuietly(stocks, failingReceipts, now, failingCount);
+				}
+			});
+			executorService.submit(() -> {
+				try {
+					for (int attempt = 0; attempt < attemptPerThread; attempt++) {
+						deductQuietly(stocks, singleLineReceipts, now, successCount);
+					}
+				} finally {
+					countDownLatch.countDown();
+				}
+			});
+		}
+		countDownLatch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertAll(
+			() -> assertThat(successCount.get()).isEqualTo(200),
+			() -> assertThat(failingCount.get()).isZero(),
+			() -> assertThat(stock01.getGeneralQuantity()).isZero(),
+			() -> assertThat(stock02.getGeneralQuantity()).isEqualTo(1)
+		);
+	}
+
+	@Test
+	@DisplayName("같은 상품이 여러 줄로 나뉘어 있으면 합친 수량으로 재고를 검증한다.")
+	void deductQuantityWithDuplicatedLines() {
+
+		// given
+		Product product = Product.create("제로 콜라", 2000, Promotion.getNoneInstance());
+		Stock stock = Stock.from(product);
+		stock.incrementGeneralQuantity(5);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		Order order = Order.of(new Product[] {product, product}, new int[] {3, 3});
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+
+		// when // then
+		assertAll(
+			() -> assertThatThrownBy(() -> stocks.reserve(order, now))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("[ERROR]"),
+			() -> assertThat(stock.getGeneralQuantity()).isEqualTo(5)
+		);
+	}
+
+	@Test
+	@DisplayName("주문 수량만큼 재고를 예약하면 다른 주문은 예약된 재고를 가져갈 수 없다.")
+	void reserve() {
+
+		// given
+		Product product = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+		Stock stock = Stock.from(product);
+		stock.incrementGeneralQuantity(5);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+
+		// when
+		Reservation reservation = stocks.reserve(Order.create(Map.of(product, 3)), now);
+
+		// then
+		assertAll(
+			() -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PENDING),
+			() -> assertThat(stock.getGeneralQuantity()).isEqualTo(2),
+			() -> assertThatThrownBy(() -> stocks.reserve(Order.create(Map.of(product, 3)), now))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("[ERROR]")
+		);
+	}
+
+	@Test
+	@DisplayName("예약을 확정하면 영수증 수량만큼만 재고가 차감된다.")
+	void commit() {
+
+		// given
+		Promotion promotion = Promotion.of("2+1 프로모션", 2, 1, LocalDateTime.of(2022, 1, 1, 0, 0),
+			LocalDateTime.of(2022, 12, 31, 23, 59));
+
+		Product product01 = Product.create("제로 콜라", 2000, promotion);
+		Product product02 = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+
+		Stock stock01 = Stock.from(product01);
+		Stock stock02 = Stock.from(product02);
+
+		stock01.incrementPromotionQuantity(10);
+		stock01.incrementGeneralQuantity(10);
+		stock02.incrementGeneralQuantity(10);
+
+		Stocks stocks = Stocks.from(Map.of(
+			product01.getName(), stock01,
+			product02.getName(), stock02
+		));
+
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+		Map<Product, Integer> orders = new LinkedHashMap<>();
+		orders.put(product01, 5);
+		orders.put(product02, 3);
+
+		Reservation reservation = stocks.reserve(Order.create(orders), now);
+		Receipts receipts = Receipts.from(
+			List.of(
+				Receipt.of(product01, 6, 2),  // 증정 1개 추가
+				Receipt.of(product02, 1, 0)   // 2개 구매 취소
+			),
+			MemberShip.of(false)
+		);
+
+		// when
+		stocks.commit(reservation, receipts, now);
+		stocks.release(reservation);
+
+		// then
+		assertAll(
+			() -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.COMMITTED),
+			() -> assertThat(stock01.getPromotionQuantity()).isEqualTo(4),
+			() -> assertThat(stock01.getGeneralQuantity()).isEqualTo(10),
+			() -> assertThat(stock02.getGeneralQuantity()).isEqualTo(9)
+		);
+	}
+
+	@Test
+	@DisplayName("예약을 확정하다 저널 기록에 실패하면 추가로 차감한 재고를 되돌리고 예약을 확정하지 않는다.")
+	void commitWithFailingJournal() {
+
+		// given
+		Promotion promotion = Promotion.of("2+1 프로모션", 2, 1, LocalDateTime.of(2022, 1, 1, 0, 0),
+			LocalDateTime.of(2022, 12, 31, 23, 59));
+
+		Product product01 = Product.create("제로 콜라", 2000, promotion);
+		Product product02 = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+
+		Stock stock01 = Stock.from(product01);
+		Stock stock02 = Stock.from(product02);
+
+		stock01.incrementPromotionQuantity(10);
+		stock01.incrementGeneralQuantity(10);
+		stock02.incrementGeneralQuantity(10);
+
+		Stocks stocks = Stocks.from(Map.of(
+			product01.getName(), stock01,
+			product02.getName(), stock02
+		));
+		stocks.attachJournal(new FailingStockJournal());
+
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+		Map<Product, Integer> orders = new LinkedHashMap<>();
+		orders.put(product01, 5);
+		orders.put(product02, 3);
+
+		Reservation reservation = stocks.reserve(Order.create(orders), now);
+		Receipts receipts = Receipts.from(
+			List.of(
+				Receipt.of(product01, 6, 2),
+				Receipt.of(product02, 1, 0)
+			),
+			MemberShip.of(false)
+		);
+
+		// when
+		assertThatThrownBy(() -> stocks.commit(reservation, receipts, now))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(CAN_NOT_WRITE_JOURNAL.getMessage());
+		int heldPromotionQuantity = stock01.getPromotionQuantity();
+		int heldGeneralQuantity = stock02.getGeneralQuantity();
+		stocks.release(reservation);
+
+		// then
+		assertAll(
+			() -> assertThat(heldPromotionQuantity).isEqualTo(5),
+			() -> assertThat(heldGeneralQuantity).isEqualTo(7),
+			() -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RELEASED),
+			() -> assertThat(stock01.getPromotionQuantity()).isEqualTo(10),
+			() -> assertThat(stock01.getGeneralQuantity()).isEqualTo(10),
+			() -> assertThat(stock02.getGeneralQuantity()).isEqualTo(10)
+		);
+	}
+
+	@Test
+	@DisplayName("재고를 차감하다 저널 기록에 실패하면 차감한 재고를 되돌린다.")
+	void deductQuantityWithFailingJournal() {
+
+		// given
+		Product product = Product.create("오렌지 주스", 1500, Promotion.getNoneInstance());
+		Stock stock = Stock.from(product);
+		stock.incrementGeneralQuantity(10);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		stocks.attachJournal(new FailingStockJournal());
+		Receipts receipts = Receipts.from(List.of(Receipt.of(product, 3, 0)), MemberShip.of(false));
+
+		// when // then
+		assertAll(
+			() -> assertThatThrownBy(() -> stocks.deductQuantity(receipts, LocalDateTime.of(2022, 6, 1, 0, 0)))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(CAN_NOT_WRITE_JOURNAL.getMessage()),
+			() -> assertThat(stock.getGeneralQuantity()).isEqualTo(10)
+		);
+	}
+
+	@Test
+	@DisplayName("예약을 취소하면 예약된 재고가 그대로 돌아온다.")
+	void release() {
+
+		// given
+		Promotion promotion = Promotion.of("2+1 프로모션", 2, 1, LocalDateTime.of(2022, 1, 1, 0, 0),
+			LocalDateTime.of(2022, 12, 31, 23, 59));
+
+		Product product = Product.create("제로 콜라", 2000, promotion);
+		Stock stock = Stock.from(product);
+		stock.incrementPromotionQuantity(10);
+		stock.incrementGeneralQuantity(10);
+
+		Stocks stocks = Stocks.from(Map.of(product.getName(), stock));
+		LocalDateTime now = LocalDateTime.of(2022, 6, 1, 0, 0);
+		Reservation reservation = stocks.reserve(Order.create(Map.of(product, 12)), now);
+
+		// when
+		stocks.release(reservation);
+		stocks.release(reservation);
+
+		// then
+		assertAll(
+			() -> assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RELEASED),
+			() -> assertThat(stock.getPromotionQuantity()).isEqualTo(10),
+			() -> assertThat(stock.getGeneralQuantity()).isEqualTo(10)
+		);
+	}
+
+	@Test
+	@DisplayName("재고 목록을 상품 이름 순서로 한 페이지씩 조회할 수 있다.")
+	void findPage() {
+
+		// given
+		Stocks stocks = Stocks.from(createListingStocks());
+		ActivePromotions activePromotions = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+		// when
+		StockPage firstPage = stocks.findPage(StockQuery.firstPage(2), activePromotions);
+		StockPage secondPage = stocks.findPage(firstPage.nextQuery(), activePromotions);
+
+		// then
+		assertAll(
+			() -> assertThat(firstPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("감자칩", "사이다"),
+			() -> assertThat(firstPage.hasNext()).isTrue(),
+			() -> assertThat(secondPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("콜라", "콜라겐"),
+			() -> assertThat(secondPage.hasNext()).isFalse()
+		);
+	}
+
+	@Test
+	@DisplayName("상품 이름 접두어, 프로모션 진행 여부, 재고 유무로 재고 목록을 걸러 조회할 수 있다.")
+	void findPageWithFilters() {
+
+		// given
+		Stocks stocks = Stocks.from(createListingStocks());
+		ActivePromotions activePromotions = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+		// when
+		StockPage prefixPage = stocks.findPage(StockQuery.firstPage(10).withNamePrefix("콜라"), activePromotions);
+		StockPage promotedPage = stocks.findPage(StockQuery.firstPage(10).withPromotedOnly(), activePromotions);
+		StockPage inStockPage = stocks.findPage(StockQuery.firstPage(10).withInStockOnly(), activePromotions);
+
+		// then
+		assertAll(
+			() -> assertThat(prefixPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("콜라", "콜라겐"),
+			() -> assertThat(promotedPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("사이다", "콜라"),
+			() -> assertThat(inStockPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("감자칩", "콜라", "콜라겐")
+		);
+	}
+
+	@DisplayName("재고가 바뀐 뒤 다시 찾으면, 재고 있는 상품만 보는 페이지에 바뀐 재고가 반영된다.")
+	@Test
+	void findPageAfterQuantityChanged() {
+
+		// given
+		Stocks stocks = Stocks.from(createListingStocks());
+		ActivePromotions activePromotions = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 0, 0));
+		stocks.findPage(StockQuery.firstPage(10).withInStockOnly(), activePromotions);
+
+		// when
+		stocks.overwriteQuantity(stocks.findProductIdBy("콜라"), 0, 0);
+		stocks.overwriteQuantity(stocks.findProductIdBy("사이다"), 4, 0);
+		StockPage inStockPage = stocks.findPage(StockQuery.firstPage(10).withInStockOnly(), activePromotions);
+		StockPage promotedPage = stocks.findPage(StockQuery.firstPage(10).withPromotedOnly().withInStockOnly(),
+			activePromotions);
+
+		// then
+		assertAll(
+			() -> assertThat(inStockPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("감자칩", "사이다", "콜라겐"),
+			() -> assertThat(promotedPage.getStocks()).extracting(stock -> stock.getProduct().getName())
+				.containsExactly("사이다")
+		);
+	}
+
+	private Map<String, Stock> createListingStocks() {
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1, LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2024, 12, 31, 0, 0));
+		Promotion endedPromotion = Promotion.of("반짝할인", 1, 1, LocalDateTime.of(2023, 1, 1, 0, 0),
+			LocalDateTime.of(2023, 12, 31, 0, 0));
+
+		Stock coke = Stock.from(Product.create("콜라", 1000, promotion));
+		coke.incrementPromotionQuantity(3);
+		Stock cider = Stock.from(Product.create("사이다", 1000, promotion));
+		Stock collagen = Stock.from(Product.create("콜라겐", 5000, endedPromotion));
+		collagen.incrementGeneralQuantity(2);
+		Stock chips = Stock.from(Product.create("감자칩", 1500, Promotion.getNoneInstance()));
+		chips.incrementGeneralQuantity(5);
+
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		stocks.put("콜라", coke);
+		stocks.put("사이다", cider);
+		stocks.put("콜라겐", collagen);
+		stocks.put("감자칩", chips);
+		return stocks;
+	}
+
+	private static class FailingStockJournal implements StockJournal {
+
+		@Override
+		public void append(int[] productIds, int[] promotionQuantities, int[] generalQuantities, int lineCount) {
+			throw new IllegalStateException(CAN_NOT_WRITE_JOURNAL.getMessage());
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package store.io.input.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+import static store.common.ErrorMessage.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.domain.Promotion;
+import store.domain.Promotions;
+import store.domain.Stock;
+import store.domain.Stocks;
+import store.io.input.provider.PromotionProvider;
+import store.io.input.provider.StockProvider;
+
+class CatalogCompilerTest {
+
+	private static final String TEST_PROMOTION_PATH = "src/test/resources/test_promotions.md";
+	private static final String TEST_PRODUCT_PATH = "src/test/resources/test_products.md";
+
+	@TempDir
+	private Path directory;
+
+	@DisplayName("상품 목록 파일을 이진 이미지로 만들면, 이미지에서 읽은 재고는 파일에서 읽은 재고와 같다.")
+	@Test
+	void compile() {
+
+		// given
+		PromotionProvider promotionProvider = new PromotionProvider();
+		StockProvider stockProvider = new StockProvider();
+		String imagePath = directory.resolve("catalog.bin").toString();
+		Promotions textPromotions = promotionProvider.provide(TEST_PROMOTION_PATH);
+		Stocks textStocks = stockProvider.provide(textPromotions, TEST_PRODUCT_PATH);
+
+		// when
+		new CatalogCompiler(promotionProvider, stockProvider).compile(TEST_PROMOTION_PATH, TEST_PRODUCT_PATH,
+			imagePath);
+		CatalogImage catalogImage = CatalogImage.map(imagePath);
+		Promotions imagePromotions = promotionProvider.provide(catalogImage);
+		Stocks imageStocks = stockProvider.provide(imagePromotions, catalogImage);
+
+		// then
+		assertThat(CatalogImage.isCompiledFrom(imagePath, TEST_PROMOTION_PATH, TEST_PRODUCT_PATH)).isTrue();
+		for (Promotion textPromotion : textPromotions.getPromotions()) {
+			assertThat(imagePromotions.findBy(textPromotion.getName()))
+				.extracting("index", "buy", "get", "startEpochMillis", "endEpochMillis")
+				.containsExactly(textPromotion.getIndex(), textPromotion.getBuy(), textPromotion.getGet(),
+					textPromotion.getStartEpochMillis(), textPromotion.getEndEpochMillis());
+		}
+		assertThat(imagePromotions.getPromotions()).hasSize(textPromotions.getPromotions().size());
+
+		assertThat(imageStocks.size()).isEqualTo(textStocks.size());
+		for (int productId = 0; productId < textStocks.size(); productId++) {
+			Stock textStock = textStocks.getStock(productId);
+			Stock imageStock = imageStocks.getStock(productId);
+			assertThat(imageStock.getProduct().getName()).isEqualTo(textStock.getProduct().getName());
+			assertThat(imageStock.getProduct().getPrice()).isEqualTo(textStock.getProduct().getPrice());
+			assertThat(imageStock.getProduct().getPromotion().getName())
+				.isEqualTo(textStock.getProduct().getPromotion().getName());
+			assertThat(imageStock.getPromotionQuantity()).isEqualTo(textStock.getPromotionQuantity());
+			assertThat(imageStock.getGeneralQuantity()).isEqualTo(textStock.getGeneralQuantity());
+		}
+	}
+
+	@DisplayName("이미지에서 필요한 상품만 찾아 만든 재고는 파일에서 읽은 재고와 같다.")
+	@Test
+	void provideLazily() {
+
+		// given
+		PromotionProvider promotionProvider = new PromotionProvider();
+		StockProvider stockProvider = new StockProvider();
+		String imagePath = directory.resolve("catalog.bin").toString();
+		Promotions textPromotions = promotionProvider.provide(TEST_PROMOTION_PATH);
+		Stocks textStocks = stockProvider.provide(textPromotions, TEST_PRODUCT_PATH);
+		new CatalogCompiler(promotionProvider, stockProvider).compile(TEST_PROMOTION_PATH, TEST_PRODUCT_PATH,
+			imagePath);
+		CatalogImage catalogImage = CatalogImage.map(imagePath);
+
+		// when
+		Stocks lazyStocks = stockProvider.provideLazily(promotionProvider.provide(catalogImage), catalogImage);
+
+		// then
+		assertThat(lazyStocks.size()).isEqualTo(textStocks.size());
+		for (int productId = 0; productId < textStocks.size(); productId++) {
+			String productName = textStocks.getStock(productId).getProduct().getName();
+			assertThat(lazyStocks.findProductIdBy(productName)).isEqualTo(productId);
+			assertThat(lazyStocks.findAvailableProductBy(productName, 1).getPrice())
+				.isEqualTo(textStocks.findAvailableProductBy(productName, 1).getPrice());
+			assertThat(lazyStocks.calculatePromotion(productName, 3, LocalDateTime.of(2024, 2, 10, 0, 0)))
+				.isEqualTo(textStocks.calculatePromotion(productName, 3, LocalDateTime.of(2024, 2, 10, 0, 0)));
+		}
+		assertThatThrownBy(() -> lazyStocks.findAvailableProductBy("없는상품", 1))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage(NOT_EXIST_PRODUCT.getMessage());
+	}
+
+	@DisplayName("이미지에 저장한 상품 이름 순서는 파일에서 읽은 재고를 이름으로 정렬한 순서와 같다.")
+	@Test
+	void findProductIdsInNameOrder() {
+
+		// given
+		PromotionProvider promotionProvider = new PromotionProvider();
+		StockProvider stockProvider = new StockProvider();
+		String imagePath = directory.resolve("catalog.bin").toString();
+		Stocks textStocks = stockProvider.provide(promotionProvider.provide(TEST_PROMOTION_PATH), TEST_PRODUCT_PATH);
+		new CatalogCompiler(promotionProvider, stockProvider).compile(TEST_PROMOTION_PATH, TEST_PRODUCT_PATH,
+			imagePath);
+		CatalogImage catalogImage = CatalogImage.map(imagePath);
+
+		// when
+		Stocks lazyStocks = stockProvider.provideLazily(promotionProvider.provide(catalogImage), catalogImage);
+
+		// then
+		assertThat(lazyStocks.findProductIdsInNameOrder()).isEqualTo(textStocks.findProductIdsInNameOrder());
+	}
+
+	@DisplayName("이미지를 만든 뒤에 상품 목록 파일이 바뀌면 그 이미지로 만든 것이 아니다.")
+	@Test
+	void isCompiledFromChangedSource() throws IOException {
+
+		// given
+		Path promotionPath = Files.copy(Paths.get(TEST_PROMOTION_PATH), directory.resolve("promotions.md"));
+		Path productPath = Files.copy(Paths.get(TEST_PRODUCT_PATH), directory.resolve("products.md"));
+		String imagePath = directory.resolve("catalog.bin").toString();
+		new CatalogCompiler(new PromotionProvider(), new StockProvider())
+			.compile(promotionPath.toString(), productPath.toString(), imagePath);
+
+		// when
+		Files.writeString(productPath, "\n사이다,1000,8,null", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+		// then
+		assertThat(CatalogImage.isCompiledFrom(imagePath, promotionPath.toString(), productPath.toString()))
+			.isFalse();
+		assertThat(CatalogImage.isCompiledFrom(directory.resolve("none.bin").toString(), promotionPath.toString(),
+			productPath.toString())).isFalse();
+	}
+
+	@DisplayName("머리말이 손상된 이미지는 읽을 수 없다.")
+	@Test
+	void mapCorruptedHeader() throws IOException {
+
+		// given
+		Path imagePath = directory.resolve("catalog.bin");
+		new CatalogCompiler(new PromotionProvider(), new StockProvider())
+			.compile(TEST_PROMOTION_PATH, TEST_PRODUCT_PATH, imagePath.toString());
+
+		// when
+		try (FileChannel channel = FileChannel.open(imagePath, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {0x7F}), CatalogImage.HEADER_CHECKSUM_OFFSET - 1);
+		}
+
+		// then
+		assertThatThrownBy(() -> CatalogImage.map(imagePath.toString()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(CAN_NOT_READ_CATALOG.getMessage());
+	}
+
+	@DisplayName("본문이 손상된 이미지는 매핑할 때가 아니라 전체 체크섬을 검증할 때 찾아낸다.")
+	@Test
+	void verifyCorruptedImage() throws IOException {
+
+		// given
+		Path imagePath = directory.resolve("catalog.bin");
+		new CatalogCompiler(new PromotionProvider(), new StockProvider())
+			.compile(TEST_PROMOTION_PATH, TEST_PRODUCT_PATH, imagePath.toString());
+
+		// when
+		try (FileChannel channel = FileChannel.open(imagePath, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {0x7F}), CatalogImage.HEADER_BYTES + Integer.BYTES * 2);
+		}
+		CatalogImage catalogImage = CatalogImage.map(imagePath.toString());
+
+		// then
+		assertThatThrownBy(catalogImage::verify)
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage(CAN_NOT_READ_CATALOG.getMessage());
+	}
+}
@@ -60,4 +60,73 @@ class StockProviderTest {
 			);
 
 	}
-}
\ No newline at end of file
+
+	@DisplayName("파일에 처음 등장한 순서대로 상품에 0부터 연속된 번호를 부여한다.")
+	@Test
+	void provideWithProductId() {
+
+		// given
+		StockProvider stockProvider = new StockProvider();
+		Promotion promotion = Promotion.of("frod promotion", 1, 1,
+			LocalDateTime.of(2001, 4, 21, 0, 0),
+			LocalDateTime.of(2001, 5, 21, 0, 0)
+		);
+		Promotions promotions = Promotions.from(Map.of(promotion.getName(), promotion));
+		String testProductPath = "src/test/resources/test_products.md";
+
+		// when
+		Stocks stocks = stockProvider.provide(promotions, testProductPath);
+
+		// then
+		assertThat(stocks.getStocks().values())
+			.extracting(stock -> stock.getProduct().getId())
+			.containsExactly(0, 1, 2, 3);
+		assertThat(stocks.findProductIdBy("녹차라떼")).isEqualTo(2);
+		assertThat(stocks.getStock(2).getProduct().getName()).isEqualTo("녹차라떼");
+	}
+
+	@DisplayName("파일을 읽어와 열 단위로 저장한 재고 목록을 생성할 수 있다.")
+	@Test
+	void provideColumnar() {
+
+		// given
+		StockProvider stockProvider = new StockProvider();
+
+		Promotion promotion01 = Promotion.of("frod promotion", 1, 1,
+			LocalDateTime.of(2001, 4, 21, 0, 0),
+			LocalDateTime.of(2001, 5, 21, 0, 0)
+		);
+		Promotion promotion02 = Promotion.of("roy promotion", 2, 1,
+			LocalDateTime.of(2001, 5, 11, 0, 0),
+			LocalDateTime.of(2001, 6, 11, 0, 0)
+		);
+		Promotion promotion03 = Promotion.of("hana promotion", 2, 2,
+			LocalDateTime.of(2001, 7, 1, 0, 0),
+			LocalDateTime.of(2001, 8, 1, 0, 0)
+		);
+
+		Promotions promotions = Promotions.from(Map.of(
+			promotion01.getName(), promotion01,
+			promotion02.getName(), promotion02,
+			promotion03.getName(), promotion03
+		));
+		String testProductPath = "src/test/resources/test_products.md";
+
+		// when
+		Stocks stocks = stockProvider.provideColumnar(promotions, testProductPath);
+
+		// then
+		assertThat(stocks.getStocks())
+			.hasSize(4)
+			.extractingFromEntries(Map.Entry::getValue)
+			.extracting("product", "promotionQuantity", "generalQuantity")
+			.containsExactly(
+				tuple(Product.create("제로콜라", 2000, promotion01), 10, 20),
+				tuple(Product.create("아메리카노", 3000, promotion02), 16, 7),
+				tuple(Product.create("녹차라떼", 4500, promotion03), 9, 0),
+				tuple(Product.create("물", 2000, Promotion.getNoneInstance()), 0, 10)
+			);
+		assertThat(stocks.getStock(stocks.findProductIdBy("아메리카노")).getProduct().getPromotion())
+			.isEqualTo(promotion02);
+	}
+}
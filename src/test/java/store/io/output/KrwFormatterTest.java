@@ -0,0 +1,28 @@
+package store.io.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class KrwFormatterTest {
+
+	@DisplayName("금액을 세 자리마다 쉼표로 구분하여 이어 쓴다.")
+	@CsvSource(value = {
+		"0:0", "7:7", "999:999", "1000:1,000", "-1000:-1,000", "12800:12,800", "1000000:1,000,000",
+		"9223372036854775807:9,223,372,036,854,775,807", "-9223372036854775808:-9,223,372,036,854,775,808"
+	}, delimiter = ':')
+	@ParameterizedTest(name = "{0}은 {1}으로 이어 쓴다.")
+	void appendTo(long amount, String expected) {
+
+		// given
+		StringBuilder builder = new StringBuilder("금액 ");
+
+		// when
+		KrwFormatter.appendTo(builder, amount);
+
+		// then
+		assertThat(builder.toString()).isEqualTo("금액 " + expected);
+	}
+}
@@ -0,0 +1,59 @@
+package store.io.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.MemberShip;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Receipt;
+import store.domain.Receipts;
+
+class ReceiptRendererTest {
+
+	@DisplayName("영수증 전체를 한 번에 출력하고, 출력 형식은 기존 영수증과 같다.")
+	@Test
+	void writeTo() {
+
+		// given
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1,
+			LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2025, 1, 1, 0, 0)
+		);
+		Receipts receipts = Receipts.from(List.of(
+			Receipt.of(Product.create("콜라", 1000, promotion), 3, 1),
+			Receipt.of(Product.create("정식도시락", 6400, Promotion.getNoneInstance()), 2, 0)
+		), MemberShip.of(true));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8);
+		String lineSeparator = System.lineSeparator();
+
+		// when
+		new ReceiptRenderer().render(receipts).writeTo(out);
+
+		// then
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+			lineSeparator
+				+ "==============W 편의점================" + lineSeparator
+				+ "상품명  \t\t\t  수량  \t\t\t 금액" + lineSeparator
+				+ String.format("%-15s %5d %10s\n", "콜라", 3, "3,000")
+				+ String.format("%-15s %5d %10s\n", "정식도시락", 2, "12,800")
+				+ "=============증      정===============" + lineSeparator
+				+ String.format("%-10s \t\t %d\n", "콜라", 1)
+				+ "====================================" + lineSeparator
+				+ "총구매액   \t\t 5 \t\t\t 15,800\n"
+				+ "행사할인   \t\t\t\t\t -1,000\n"
+				+ "멤버십할인 \t\t\t\t\t -3,840\n"
+				+ "내실돈     \t\t\t\t\t 10,960\n"
+		);
+	}
+}
@@ -0,0 +1,138 @@
+package store.io.output;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.ActivePromotions;
+import store.domain.MemberShip;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Receipt;
+import store.domain.Receipts;
+import store.domain.Stock;
+import store.domain.StockQuery;
+import store.domain.Stocks;
+
+class StockRendererTest {
+
+	@DisplayName("재고 목록 전체를 한 번에 출력하고, 출력 형식은 기존 재고 목록과 같다.")
+	@Test
+	void writeTo() {
+
+		// given
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1,
+			LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2024, 12, 31, 0, 0)
+		);
+		Stock coke = Stock.from(Product.create("콜라", 1000, promotion));
+		coke.incrementPromotionQuantity(10);
+		Stock water = Stock.from(Product.create("물", 1500000, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(3);
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put("콜라", coke);
+		stockMap.put("물", water);
+		Stocks stocks = Stocks.from(stockMap);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8);
+		String lineSeparator = System.lineSeparator();
+
+		// when
+		new StockRenderer().render(stocks, ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 12, 0))).writeTo(out);
+
+		// then
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"현재 보유하고 있는 상품입니다." + lineSeparator
+				+ lineSeparator
+				+ "- 콜라 1,000원 10개 탄산2+1\n"
+				+ "- 콜라 1,000원 재고 없음\n"
+				+ "- 물 1,500,000원 3개\n"
+				+ lineSeparator
+		);
+	}
+
+	@DisplayName("재고가 바뀐 상품과 프로모션 기간이 바뀐 상품만 다시 만들어 재고 목록을 출력한다.")
+	@Test
+	void writeToWithChangedStocks() {
+
+		// given
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1,
+			LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2024, 12, 31, 0, 0)
+		);
+		Stock coke = Stock.from(Product.create("콜라", 1000, promotion));
+		coke.incrementPromotionQuantity(10);
+		Stock water = Stock.from(Product.create("물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(3);
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put("콜라", coke);
+		stockMap.put("물", water);
+		Stocks stocks = Stocks.from(stockMap);
+
+		StockRenderer stockRenderer = new StockRenderer();
+		ActivePromotions activePromotions = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 12, 0));
+		stockRenderer.render(stocks, activePromotions).writeTo(new PrintStream(new ByteArrayOutputStream()));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8);
+		String lineSeparator = System.lineSeparator();
+
+		// when
+		stocks.deductQuantity(Receipts.from(List.of(Receipt.of(water.getProduct(), 2, 0)), MemberShip.of(false)),
+			activePromotions);
+		stockRenderer.render(stocks, ActivePromotions.at(LocalDateTime.of(2025, 1, 1, 0, 0))).writeTo(out);
+
+		// then
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"현재 보유하고 있는 상품입니다." + lineSeparator
+				+ lineSeparator
+				+ "- 콜라 1,000원 재고 없음\n"
+				+ "- 물 500원 1개\n"
+				+ lineSeparator
+		);
+	}
+
+	@DisplayName("재고 목록의 한 페이지를 기존 재고 목록과 같은 형식으로 출력한다.")
+	@Test
+	void writeToWithStockPage() {
+
+		// given
+		Stock water = Stock.from(Product.create("물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(3);
+		Stock milk = Stock.from(Product.create("우유", 1200, Promotion.getNoneInstance()));
+
+		Map<String, Stock> stockMap = new LinkedHashMap<>();
+		stockMap.put("우유", milk);
+		stockMap.put("물", water);
+		Stocks stocks = Stocks.from(stockMap);
+		ActivePromotions activePromotions = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 12, 0));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrintStream out = new PrintStream(output, false, StandardCharsets.UTF_8);
+		String lineSeparator = System.lineSeparator();
+
+		// when
+		new StockRenderer().renderPage(stocks.findPage(StockQuery.firstPage(1), activePromotions), activePromotions)
+			.writeTo(out);
+
+		// then
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"현재 보유하고 있는 상품입니다." + lineSeparator
+				+ lineSeparator
+				+ "- 물 500원 3개\n"
+				+ lineSeparator
+		);
+	}
+}
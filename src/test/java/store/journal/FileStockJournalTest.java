@@ -0,0 +1,503 @@
+package store.journal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static store.common.ErrorMessage.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import store.domain.ActivePromotions;
+import store.domain.MemberShip;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Receipt;
+import store.domain.Receipts;
+import store.domain.Stock;
+import store.domain.Stocks;
+
+class FileStockJournalTest {
+
+	private static final ActivePromotions ACTIVE_PROMOTIONS = ActivePromotions.at(LocalDateTime.of(2024, 6, 1, 0, 0));
+
+	@TempDir
+	Path directory;
+
+	@DisplayName("차감한 재고를 기록해 두고, 다시 시작하면 기록을 재생하여 재고를 복구한다.")
+	@Test
+	void recover() {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable())) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+		}
+
+		// when
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable()).close();
+
+		// then
+		assertAll(
+			() -> assertThat(restartedStocks.getStock(0).getPromotionQuantity()).isEqualTo(6),
+			() -> assertThat(restartedStocks.getStock(0).getGeneralQuantity()).isEqualTo(10),
+			() -> assertThat(restartedStocks.getStock(1).getPromotionQuantity()).isEqualTo(0),
+			() -> assertThat(restartedStocks.getStock(1).getGeneralQuantity()).isEqualTo(997)
+		);
+	}
+
+	@DisplayName("여러 계산대가 동시에 기록해도 모든 기록을 한 번씩 재생한다.")
+	@Test
+	void appendConcurrently() throws InterruptedException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		int checkoutCount = 8;
+		int receiptCountPerCheckout = 100;
+		ExecutorService executorService = Executors.newFixedThreadPool(checkoutCount);
+
+		try (FileStockJournal journal = FileStockJournal.open(journalPath, createStocks(),
+			GroupCommitPolicy.of(Duration.ofMillis(1), 1 << 10, true))) {
+			for (int checkout = 0; checkout < checkoutCount; checkout++) {
+				executorService.submit(() -> {
+					for (int receipt = 0; receipt < receiptCountPerCheckout; receipt++) {
+						journal.append(new int[] {1}, new int[] {0}, new int[] {1}, 1);
+					}
+				});
+			}
+			executorService.shutdown();
+			executorService.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		// when
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable()).close();
+
+		// then
+		assertThat(restartedStocks.getStock(1).getGeneralQuantity()).isEqualTo(1_000 - 800);
+	}
+
+	@DisplayName("마지막 기록이 쓰다 만 상태라면 그 기록만 버리고 복구한다.")
+	@Test
+	void recoverWithTornRecord() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable())) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			stocks.deductQuantity(receiptsOf(stocks, 0, 2), ACTIVE_PROMOTIONS);
+		}
+		try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 1);
+		}
+
+		// when
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable()).close();
+
+		// then
+		assertThat(restartedStocks.getStock(0).getPromotionQuantity()).isEqualTo(6);
+	}
+
+	@DisplayName("기록을 디스크에 반영하지 못하면 쓴 기록을 지우고, 다시 시작해도 실패한 차감을 재생하지 않는다.")
+	@Test
+	void recoverAfterFailedWrite() {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable())) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			journal.wrapChannel(FailingForceChannel::new);
+
+			assertThatThrownBy(() -> stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage(CAN_NOT_WRITE_JOURNAL.getMessage());
+		}
+
+		// when
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable()).close();
+
+		// then
+		assertAll(
+			() -> assertThat(stocks.getStock(1).getGeneralQuantity()).isEqualTo(1_000),
+			() -> assertThat(restartedStocks.getStock(0).getPromotionQuantity()).isEqualTo(6),
+			() -> assertThat(restartedStocks.getStock(1).getGeneralQuantity()).isEqualTo(1_000)
+		);
+	}
+
+	@DisplayName("재고 기록 파일이 아니면 복구할 수 없다.")
+	@Test
+	void recoverWithInvalidHeader() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Files.write(journalPath, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+		// when & then
+		assertThatThrownBy(() -> FileStockJournal.recover(journalPath, createStocks(), GroupCommitPolicy.durable()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("[ERROR] 재고 기록을 읽어오는데 실패했습니다.");
+	}
+
+	@DisplayName("다른 상품 목록으로 남긴 재고 기록으로는 복구할 수 없다.")
+	@Test
+	void recoverWithChangedCatalog() {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable())) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+		}
+
+		// when & then
+		assertThatThrownBy(() -> FileStockJournal.recover(journalPath, createChangedStocks(),
+			GroupCommitPolicy.durable()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("[ERROR] 재고 기록이 현재 상품 목록으로 남긴 기록이 아닙니다.");
+	}
+
+	@DisplayName("스냅숏을 불러온 뒤 스냅숏 이후의 기록만 재생하여 재고를 복구한다.")
+	@Test
+	void recoverFromSnapshot() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable(),
+			SnapshotPolicy.of(Duration.ofHours(1), 2))) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			journal.compact();
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+		}
+		Files.delete(findSnapshots().get(0));
+		overwriteFirstRecord(journalPath);
+
+		// when
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable(),
+			SnapshotPolicy.periodic()).close();
+
+		// then
+		assertAll(
+			() -> assertThat(restartedStocks.getStock(0).getPromotionQuantity()).isEqualTo(6),
+			() -> assertThat(restartedStocks.getStock(0).getGeneralQuantity()).isEqualTo(10),
+			() -> assertThat(restartedStocks.getStock(1).getGeneralQuantity()).isEqualTo(997)
+		);
+	}
+
+	@DisplayName("가장 최근 스냅숏이 손상되었으면 그 이전 스냅숏부터 기록을 재생하여 복구한다.")
+	@Test
+	void recoverWithCorruptedSnapshot() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable(),
+			SnapshotPolicy.of(Duration.ofHours(1), 2))) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			journal.compact();
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+		}
+		Path newestSnapshot = findSnapshots().get(0);
+		byte[] snapshot = Files.readAllBytes(newestSnapshot);
+		snapshot[snapshot.length - 1] ^= 1;
+		Files.write(newestSnapshot, snapshot);
+		overwriteFirstRecord(journalPath);
+
+		// when
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable(),
+			SnapshotPolicy.periodic()).close();
+
+		// then
+		assertAll(
+			() -> assertThat(restartedStocks.getStock(0).getPromotionQuantity()).isEqualTo(6),
+			() -> assertThat(restartedStocks.getStock(1).getGeneralQuantity()).isEqualTo(997)
+		);
+	}
+
+	@DisplayName("재고 기록이 정해진 크기를 넘으면 새 구간에 이어서 기록하고, 스냅숏에 합친 구간은 지운다.")
+	@Test
+	void rollOverBySize() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		// when
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable(),
+			SegmentPolicy.of(1, Duration.ofHours(1)), SnapshotPolicy.of(Duration.ofHours(1), 1))) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+			stocks.deductQuantity(receiptsOf(stocks, 1, 2), ACTIVE_PROMOTIONS);
+			journal.compact();
+		}
+
+		// then
+		Stocks restartedStocks = createStocks();
+		FileStockJournal.recover(journalPath, restartedStocks, GroupCommitPolicy.durable(),
+			SnapshotPolicy.periodic()).close();
+
+		assertAll(
+			() -> assertThat(Files.size(journalPath)).isEqualTo(JournalSegment.HEADER_BYTES + Integer.BYTES * 5),
+			() -> assertThat(findFiles(".segment")).isEmpty(),
+			() -> assertThat(restartedStocks.getStock(0).getPromotionQuantity()).isEqualTo(6),
+			() -> assertThat(restartedStocks.getStock(1).getGeneralQuantity()).isEqualTo(995)
+		);
+	}
+
+	@DisplayName("구간을 연 지 정해진 시간이 지나면 새 구간에 이어서 기록한다.")
+	@Test
+	void rollOverByAge() throws IOException, InterruptedException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		// when
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable(),
+			SegmentPolicy.of(1 << 20, Duration.ofMillis(1)), SnapshotPolicy.of(Duration.ofHours(1), 1))) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			Thread.sleep(10);
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+		}
+
+		// then
+		assertThat(Files.size(journalPath)).isEqualTo(JournalSegment.HEADER_BYTES + Integer.BYTES * 5);
+	}
+
+	@DisplayName("스냅숏에 합쳐 지운 구간이 있는데 스냅숏이 없으면 복구할 수 없다.")
+	@Test
+	void recoverCompactedJournalWithoutSnapshot() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable(),
+			SegmentPolicy.of(1, Duration.ofHours(1)), SnapshotPolicy.of(Duration.ofHours(1), 1))) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+		}
+		for (Path snapshot : findSnapshots()) {
+			Files.delete(snapshot);
+		}
+
+		// when & then
+		assertThatThrownBy(() -> FileStockJournal.recover(journalPath, createStocks(), GroupCommitPolicy.durable(),
+			SnapshotPolicy.periodic()))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("[ERROR] 재고 기록을 읽어오는데 실패했습니다.");
+	}
+
+	@DisplayName("스냅숏에 합쳐 지운 구간이 있는데 상품 목록이 바뀌었으면 상품 목록이 맞지 않아 복구할 수 없다.")
+	@Test
+	void recoverCompactedJournalWithChangedCatalog() throws IOException {
+
+		// given
+		Path journalPath = directory.resolve("stock.journal");
+		Stocks stocks = createStocks();
+
+		try (FileStockJournal journal = FileStockJournal.recover(journalPath, stocks, GroupCommitPolicy.durable(),
+			SegmentPolicy.of(1, Duration.ofHours(1)), SnapshotPolicy.of(Duration.ofHours(1), 1))) {
+			stocks.deductQuantity(receiptsOf(stocks, 0, 4), ACTIVE_PROMOTIONS);
+			stocks.deductQuantity(receiptsOf(stocks, 1, 3), ACTIVE_PROMOTIONS);
+			journal.compact();
+		}
+
+		// when & then
+		assertAll(
+			() -> assertThat(findFiles(".segment")).isEmpty(),
+			() -> assertThatThrownBy(() -> FileStockJournal.recover(journalPath, createChangedStocks(),
+				GroupCommitPolicy.durable(), SnapshotPolicy.periodic()))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("[ERROR] 재고 기록이 현재 상품 목록으로 남긴 기록이 아닙니다.")
+		);
+	}
+
+	private List<Path> findSnapshots() throws IOException {
+		return findFiles(".snapshot");
+	}
+
+	private List<Path> findFiles(String nameSuffix) throws IOException {
+		try (Stream<Path> paths = Files.list(directory)) {
+			return paths.filter(path -> path.getFileName().toString().endsWith(nameSuffix))
+				.sorted(Comparator.reverseOrder())
+				.toList();
+		}
+	}
+
+	private void overwriteFirstRecord(Path journalPath) throws IOException {
+		try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {-1, -1, -1, -1}), JournalSegment.HEADER_BYTES);
+		}
+	}
+
+	private Stocks createStocks() {
+		Promotion promotion = Promotion.of("탄산2+1", 2, 1, LocalDateTime.of(2024, 1, 1, 0, 0),
+			LocalDateTime.of(2024, 12, 31, 0, 0));
+
+		Stock coke = Stock.from(Product.create("콜라", 1000, promotion));
+		coke.incrementPromotionQuantity(10);
+		coke.incrementGeneralQuantity(10);
+		Stock water = Stock.from(Product.create("물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(1_000);
+
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		stocks.put("콜라", coke);
+		stocks.put("물", water);
+		return Stocks.from(stocks);
+	}
+
+	private Stocks createChangedStocks() {
+		Stock water = Stock.from(Product.create("물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(1_000);
+		Stock cider = Stock.from(Product.create("사이다", 1000, Promotion.getNoneInstance()));
+		cider.incrementGeneralQuantity(10);
+
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		stocks.put("물", water);
+		stocks.put("사이다", cider);
+		return Stocks.from(stocks);
+	}
+
+	private Receipts receiptsOf(Stocks stocks, int productId, int quantity) {
+		Product product = stocks.getStock(productId).getProduct();
+		return Receipts.from(List.of(Receipt.of(product, quantity, 0)), MemberShip.of(false));
+	}
+
+	private static class FailingForceChannel extends FileChannel {
+
+		private final FileChannel channel;
+		private boolean failed;
+
+		private FailingForceChannel(FileChannel channel) {
+			this.channel = channel;
+		}
+
+		@Override
+		public void force(boolean metaData) throws IOException {
+			if (!failed) {
+				failed = true;
+				throw new IOException();
+			}
+			channel.force(metaData);
+		}
+
+		@Override
+		public int read(ByteBuffer dst) throws IOException {
+			return channel.read(dst);
+		}
+
+		@Override
+		public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+			return channel.read(dsts, offset, length);
+		}
+
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			return channel.write(src);
+		}
+
+		@Override
+		public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+			return channel.write(srcs, offset, length);
+		}
+
+		@Override
+		public long position() throws IOException {
+			return channel.position();
+		}
+
+		@Override
+		public FileChannel position(long newPosition) throws IOException {
+			channel.position(newPosition);
+			return this;
+		}
+
+		@Override
+		public long size() throws IOException {
+			return channel.size();
+		}
+
+		@Override
+		public FileChannel truncate(long size) throws IOException {
+			channel.truncate(size);
+			return this;
+		}
+
+		@Override
+		public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+			return channel.transferTo(position, count, target);
+		}
+
+		@Override
+		public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+			return channel.transferFrom(src, position, count);
+		}
+
+		@Override
+		public int read(ByteBuffer dst, long position) throws IOException {
+			return channel.read(dst, position);
+		}
+
+		@Override
+		public int write(ByteBuffer src, long position) throws IOException {
+			return channel.write(src, position);
+		}
+
+		@Override
+		public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+			return channel.map(mode, position, size);
+		}
+
+		@Override
+		public FileLock lock(long position, long size, boolean shared) throws IOException {
+			return channel.lock(position, size, shared);
+		}
+
+		@Override
+		public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+			return channel.tryLock(position, size, shared);
+		}
+
+		@Override
+		protected void implCloseChannel() throws IOException {
+			channel.close();
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package store.journal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IoThrottleTest {
+
+	@DisplayName("초당 쓸 수 있는 바이트 수를 넘으면 넘은 만큼 쓰기를 늦춘다.")
+	@Test
+	void acquire() {
+
+		// given
+		IoThrottle throttle = IoThrottle.of(10_000);
+		long startNanos = System.nanoTime();
+
+		// when
+		throttle.acquire(1_000);
+		throttle.acquire(1_000);
+		throttle.acquire(1_000);
+
+		// then
+		assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+	}
+}
@@ -0,0 +1,68 @@
+package store.journal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.Stock;
+import store.domain.Stocks;
+
+class StockImageTest {
+
+	@DisplayName("스냅숏을 찍은 뒤에 반영한 차감은 이미 찍어 둔 스냅숏에 나타나지 않는다.")
+	@Test
+	void capture() {
+
+		// given
+		Stocks stocks = createStocks();
+		StockImage image = StockImage.from(stocks, StockSnapshot.catalogChecksumOf(stocks), 8);
+		StockSnapshot snapshot = image.capture();
+
+		// when
+		image.apply(recordOf(1, 0, 3), 28);
+		StockSnapshot nextSnapshot = image.capture();
+
+		// then
+		Stocks snapshotStocks = createStocks();
+		snapshot.applyTo(snapshotStocks);
+		Stocks nextSnapshotStocks = createStocks();
+		nextSnapshot.applyTo(nextSnapshotStocks);
+
+		assertAll(
+			() -> assertThat(snapshot.getJournalPosition()).isEqualTo(8),
+			() -> assertThat(snapshotStocks.getStock(1).getGeneralQuantity()).isEqualTo(1_000),
+			() -> assertThat(nextSnapshot.getJournalPosition()).isEqualTo(28),
+			() -> assertThat(nextSnapshotStocks.getStock(1).getGeneralQuantity()).isEqualTo(997)
+		);
+	}
+
+	private ByteBuffer recordOf(int productId, int promotionQuantity, int generalQuantity) {
+		return ByteBuffer.allocate(Integer.BYTES * 5)
+			.putInt(1)
+			.putInt(productId)
+			.putInt(promotionQuantity)
+			.putInt(generalQuantity)
+			.putInt(0)
+			.flip();
+	}
+
+	private Stocks createStocks() {
+		Stock coke = Stock.from(Product.create("콜라", 1000, Promotion.getNoneInstance()));
+		coke.incrementGeneralQuantity(10);
+		Stock water = Stock.from(Product.create("물", 500, Promotion.getNoneInstance()));
+		water.incrementGeneralQuantity(1_000);
+
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		stocks.put("콜라", coke);
+		stocks.put("물", water);
+		return Stocks.from(stocks);
+	}
+}
@@ -0,0 +1,62 @@
+package store.metric;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LatencyHistogramTest {
+
+	@DisplayName("기록한 값은 상대 오차 1/16 이내의 구간에 담긴다.")
+	@ValueSource(longs = {0, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE})
+	@ParameterizedTest(name = "{0}을 기록하면 같은 구간의 최댓값으로 조회된다.")
+	void record(long value) {
+
+		// given
+		LatencyHistogram latencyHistogram = LatencyHistogram.create();
+
+		// when
+		latencyHistogram.record(value);
+		long recordedValue = latencyHistogram.valueAtPercentile(100);
+
+		// then
+		assertThat(recordedValue).isGreaterThanOrEqualTo(value);
+		assertThat(recordedValue - value).isLessThanOrEqualTo(value / 16);
+	}
+
+	@DisplayName("백분위수에 해당하는 값을 조회할 수 있다.")
+	@Test
+	void valueAtPercentile() {
+
+		// given
+		LatencyHistogram latencyHistogram = LatencyHistogram.create();
+		for (long value = 1; value <= 100; value++) {
+			latencyHistogram.record(value);
+		}
+
+		// when
+		long p50 = latencyHistogram.valueAtPercentile(50);
+		long p99 = latencyHistogram.valueAtPercentile(99);
+
+		// then
+		assertThat(latencyHistogram.getTotalCount()).isEqualTo(100);
+		assertThat(p50).isBetween(50L, 51L);
+		assertThat(p99).isBetween(99L, 101L);
+	}
+
+	@DisplayName("기록한 값이 없으면 백분위수는 0이다.")
+	@Test
+	void valueAtPercentileWithEmpty() {
+
+		// given
+		LatencyHistogram latencyHistogram = LatencyHistogram.create();
+
+		// when
+		long p99 = latencyHistogram.valueAtPercentile(99);
+
+		// then
+		assertThat(p99).isZero();
+	}
+}
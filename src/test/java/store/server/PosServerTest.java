@@ -0,0 +1,109 @@
+package store.server;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import store.ConvenienceStore;
+import store.domain.Product;
+import store.domain.Promotion;
+import store.domain.ReservationExpiry;
+import store.domain.Stock;
+import store.domain.Stocks;
+import store.io.IOHandler;
+import store.io.input.provider.PromotionProvider;
+import store.io.input.provider.StockProvider;
+import store.metric.CheckoutMetrics;
+import store.util.timer.HierarchicalTimingWheel;
+
+class PosServerTest {
+
+	private static final int SOCKET_TIMEOUT_MILLIS = 5_000;
+
+	@DisplayName("두 단말기가 동시에 접속하여 각자 결제하면, 재고는 두 결제만큼 차감되고 연결 종료가 기록된다.")
+	@Test
+	void serve() throws IOException, InterruptedException {
+
+		// given
+		Stocks stocks = createStocks();
+		CheckoutMetrics checkoutMetrics = CheckoutMetrics.start();
+		ReservationExpiry reservationExpiry = ReservationExpiry.of(HierarchicalTimingWheel.of(100, 0),
+			Duration.ofMinutes(10), () -> 0L);
+		Function<IOHandler, ConvenienceStore> storeFactory = ioHandler -> new ConvenienceStore(ioHandler,
+			new PromotionProvider(), new StockProvider(), reservationExpiry, checkoutMetrics);
+		ByteArrayOutputStream report = new ByteArrayOutputStream();
+		PrintStream reportOut = new PrintStream(report, true, StandardCharsets.UTF_8);
+
+		String firstReceipt;
+		String secondReceipt;
+		try (PosServer posServer = PosServer.open(0, stocks, storeFactory, checkoutMetrics)) {
+			Thread server = Thread.ofVirtual().start(() -> posServer.serve(Duration.ofMinutes(1), reportOut));
+
+			// when
+			try (Socket firstTerminal = connect(posServer); Socket secondTerminal = connect(posServer)) {
+				awaitTerminals(posServer, 2);
+				send(firstTerminal, "[콜라-3]\nN\nN\n");
+				send(secondTerminal, "[사이다-2]\nY\nN\n");
+
+				firstReceipt = receive(firstTerminal);
+				secondReceipt = receive(secondTerminal);
+			}
+			awaitTerminals(posServer, 0);
+			posServer.close();
+			server.join(SOCKET_TIMEOUT_MILLIS);
+		}
+
+		// then
+		assertThat(firstReceipt).contains("내실돈     \t\t\t\t\t 3,000");
+		assertThat(secondReceipt).contains("멤버십할인 \t\t\t\t\t -600", "내실돈     \t\t\t\t\t 1,400");
+		assertThat(stocks.getStocks().get("콜라").getGeneralQuantity()).isEqualTo(7);
+		assertThat(stocks.getStocks().get("사이다").getGeneralQuantity()).isEqualTo(8);
+		assertThat(checkoutMetrics.report().getCompletedOrders()).isEqualTo(2);
+		assertThat(report.toString(StandardCharsets.UTF_8).split("단말기 연결 종료", -1)).hasSize(3);
+	}
+
+	private Stocks createStocks() {
+		Map<String, Stock> stocks = new LinkedHashMap<>();
+		for (String productName : new String[] {"콜라", "사이다"}) {
+			Stock stock = Stock.from(Product.create(productName, 1000, Promotion.getNoneInstance()));
+			stock.incrementGeneralQuantity(10);
+			stocks.put(productName, stock);
+		}
+		return Stocks.from(stocks);
+	}
+
+	private Socket connect(PosServer posServer) throws IOException {
+		Socket terminal = new Socket(InetAddress.getLoopbackAddress(), posServer.getPort());
+		terminal.setSoTimeout(SOCKET_TIMEOUT_MILLIS);
+		return terminal;
+	}
+
+	private void awaitTerminals(PosServer posServer, int terminalCount) throws InterruptedException {
+		long deadlineNanos = System.nanoTime() + Duration.ofMillis(SOCKET_TIMEOUT_MILLIS).toNanos();
+		while (posServer.countTerminals() != terminalCount && System.nanoTime() < deadlineNanos) {
+			Thread.sleep(10);
+		}
+		assertThat(posServer.countTerminals()).isEqualTo(terminalCount);
+	}
+
+	private void send(Socket terminal, String input) throws IOException {
+		terminal.getOutputStream().write(input.getBytes(StandardCharsets.UTF_8));
+		terminal.getOutputStream().flush();
+	}
+
+	private String receive(Socket terminal) throws IOException {
+		return new String(terminal.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+	}
+}
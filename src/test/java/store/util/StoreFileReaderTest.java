@@ -2,6 +2,7 @@ package store.util;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -27,4 +28,27 @@ class StoreFileReaderTest {
 				new String[] {"hana promotion", "2", "2", "2024-03-01", "2024-04-30"}
 			);
 	}
-}
\ No newline at end of file
+
+	@DisplayName("파일을 한 줄씩 읽으며 각 필드를 조회할 수 있다.")
+	@Test
+	void readEachWithoutHeader() {
+
+		// given
+		String filePath = "src/test/resources/test_products.md";
+		List<String> names = new ArrayList<>();
+		List<Integer> quantities = new ArrayList<>();
+		List<Boolean> generalRows = new ArrayList<>();
+
+		// when
+		StoreFileReader.readEachWithoutHeader(filePath, row -> {
+			names.add(row.getString(0));
+			quantities.add(row.getInt(2));
+			generalRows.add(row.isEqualTo(3, "null"));
+		});
+
+		// then
+		assertThat(names).containsExactly("제로콜라", "제로콜라", "제로콜라", "아메리카노", "아메리카노", "아메리카노", "녹차라떼", "물");
+		assertThat(quantities).containsExactly(10, 10, 10, 8, 8, 7, 9, 10);
+		assertThat(generalRows).containsExactly(false, true, true, false, false, true, false, true);
+	}
+}
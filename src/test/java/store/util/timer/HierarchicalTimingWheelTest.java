@@ -0,0 +1,134 @@
+package store.util.timer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HierarchicalTimingWheelTest {
+
+	@DisplayName("예약한 시간이 지나면 작업이 정확히 한 번 실행된다.")
+	@ValueSource(longs = {1, 63, 64, 65, 4_095, 4_096, 300_000, 17_000_000})
+	@ParameterizedTest(name = "{0}틱 뒤에 만료되는 작업은 그 시각에 실행된다.")
+	void advanceTo(long delayMillis) {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(1, 0);
+		List<Long> expiredTimes = new ArrayList<>();
+		long[] now = {0};
+
+		timingWheel.schedule(() -> expiredTimes.add(now[0]), delayMillis, 0);
+
+		// when
+		now[0] = delayMillis - 1;
+		timingWheel.advanceTo(now[0]);
+		while (now[0] < delayMillis + 10) {
+			now[0] += 1;
+			timingWheel.advanceTo(now[0]);
+		}
+
+		// then
+		assertThat(expiredTimes).containsExactly(delayMillis);
+	}
+
+	@DisplayName("시계가 여러 틱을 한 번에 건너뛰어도 지난 작업이 모두 실행된다.")
+	@Test
+	void advanceToWithJump() {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(10, 0);
+		List<String> expiredTasks = new ArrayList<>();
+
+		timingWheel.schedule(() -> expiredTasks.add("first"), 50, 0);
+		timingWheel.schedule(() -> expiredTasks.add("second"), 5_000, 0);
+		timingWheel.schedule(() -> expiredTasks.add("third"), 500_000, 0);
+
+		// when
+		int expiredCount = timingWheel.advanceTo(10_000);
+
+		// then
+		assertAll(
+			() -> assertThat(expiredCount).isEqualTo(2),
+			() -> assertThat(expiredTasks).containsExactly("first", "second"),
+			() -> assertThat(timingWheel.getMetrics().getLiveTimeouts()).isEqualTo(1)
+		);
+	}
+
+	@DisplayName("취소된 작업은 실행되지 않는다.")
+	@Test
+	void cancel() {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(1, 0);
+		List<String> expiredTasks = new ArrayList<>();
+
+		WheelTimeout timeout = timingWheel.schedule(() -> expiredTasks.add("cancelled"), 100, 0);
+		timingWheel.schedule(() -> expiredTasks.add("expired"), 100, 0);
+
+		// when
+		boolean cancelled = timeout.cancel();
+		timingWheel.advanceTo(200);
+
+		// then
+		assertAll(
+			() -> assertThat(cancelled).isTrue(),
+			() -> assertThat(timeout.cancel()).isFalse(),
+			() -> assertThat(timeout.isCancelled()).isTrue(),
+			() -> assertThat(expiredTasks).containsExactly("expired")
+		);
+	}
+
+	@DisplayName("남아있는 작업, 만료된 작업, 틱 지연을 조회할 수 있다.")
+	@Test
+	void getMetrics() {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(10, 0);
+
+		timingWheel.schedule(() -> {
+		}, 10, 0);
+		timingWheel.schedule(() -> {
+		}, 1_000, 0);
+		timingWheel.schedule(() -> {
+		}, 1_000, 0).cancel();
+
+		// when
+		timingWheel.advanceTo(35);
+		TimingWheelMetrics metrics = timingWheel.getMetrics();
+
+		// then
+		assertThat(metrics)
+			.extracting("liveTimeouts", "expiredTimeouts", "cancelledTimeouts", "tickLagMillis")
+			.containsExactly(1L, 1L, 1L, 25L);
+	}
+
+	@DisplayName("작업이 실패해도 같은 시각의 다른 작업은 실행되고, 실패한 작업 수를 조회할 수 있다.")
+	@Test
+	void advanceToWithFailure() {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(1, 0);
+		List<String> expiredTasks = new ArrayList<>();
+
+		timingWheel.schedule(() -> {
+			throw new IllegalStateException();
+		}, 10, 0);
+		timingWheel.schedule(() -> expiredTasks.add("expired"), 10, 0);
+
+		// when // then
+		assertAll(
+			() -> assertThatThrownBy(() -> timingWheel.advanceTo(20))
+				.isInstanceOf(IllegalStateException.class),
+			() -> assertThat(expiredTasks).containsExactly("expired"),
+			() -> assertThat(timingWheel.getMetrics())
+				.extracting("liveTimeouts", "expiredTimeouts", "failedTimeouts")
+				.containsExactly(0L, 2L, 1L)
+		);
+	}
+}
@@ -0,0 +1,87 @@
+package store.util.timer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTickerTest {
+
+	@DisplayName("만료 작업이 실패하면 실패를 알리고 다음 작업을 계속 실행한다.")
+	@Test
+	void tickWithFailure() throws InterruptedException {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(1, 0);
+		AtomicLong clockMillis = new AtomicLong();
+		List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+		CountDownLatch expiredLatch = new CountDownLatch(1);
+
+		timingWheel.schedule(() -> {
+			throw new IllegalStateException();
+		}, 10, 0);
+		timingWheel.schedule(expiredLatch::countDown, 20, 0);
+
+		// when
+		boolean expired;
+		try (TimingWheelTicker ignored = TimingWheelTicker.start(timingWheel, clockMillis::get, failures::add)) {
+			clockMillis.set(10);
+			while (failures.isEmpty()) {
+				Thread.onSpinWait();
+			}
+			clockMillis.set(20);
+			expired = expiredLatch.await(5, TimeUnit.SECONDS);
+		}
+
+		// then
+		assertAll(
+			() -> assertThat(expired).isTrue(),
+			() -> assertThat(failures).hasSize(1),
+			() -> assertThat(failures.get(0)).isInstanceOf(IllegalStateException.class)
+		);
+	}
+
+	@DisplayName("실패를 알리는 작업도 실패하면 스레드의 예외 처리기로 알리고 다음 작업을 계속 실행한다.")
+	@Test
+	void tickWithFailingHandler() throws InterruptedException {
+
+		// given
+		HierarchicalTimingWheel timingWheel = HierarchicalTimingWheel.of(1, 0);
+		AtomicLong clockMillis = new AtomicLong();
+		List<Throwable> uncaughtFailures = new CopyOnWriteArrayList<>();
+		CountDownLatch expiredLatch = new CountDownLatch(1);
+
+		timingWheel.schedule(() -> {
+			throw new IllegalStateException();
+		}, 10, 0);
+		timingWheel.schedule(expiredLatch::countDown, 20, 0);
+
+		// when
+		boolean expired;
+		try (TimingWheelTicker ignored = TimingWheelTicker.start(timingWheel, clockMillis::get, failure -> {
+			throw new IllegalArgumentException();
+		}, (thread, failure) -> uncaughtFailures.add(failure))) {
+			clockMillis.set(10);
+			while (uncaughtFailures.isEmpty()) {
+				Thread.onSpinWait();
+			}
+			clockMillis.set(20);
+			expired = expiredLatch.await(5, TimeUnit.SECONDS);
+		}
+
+		// then
+		assertAll(
+			() -> assertThat(expired).isTrue(),
+			() -> assertThat(uncaughtFailures).hasSize(1),
+			() -> assertThat(uncaughtFailures.get(0)).isInstanceOf(IllegalArgumentException.class),
+			() -> assertThat(uncaughtFailures.get(0).getSuppressed()[0]).isInstanceOf(IllegalStateException.class)
+		);
+	}
+}